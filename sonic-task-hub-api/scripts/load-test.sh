@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+#
+# Latency load test for the task list endpoint.
+#
+# Registers a throwaway user, seeds tasks for it, then runs wrk against
+# GET /api/tasks/user/{id} at each concurrency step. Every request carries a
+# random search term so the response cache and request coalescing don't
+# answer it, and each step reports wrk's latency distribution (p50-p99).
+#
+# Start the server first with admission control off, otherwise a single
+# user is held to sonic.admission.per-user-limit concurrent requests and the
+# run mostly measures 429 responses:
+#
+#   mvn spring-boot:run -Dspring-boot.run.arguments=--sonic.admission.enabled=false
+#
+# Run once per mode you want to compare (platform threads, virtual threads,
+# virtual threads with sonic.virtual-threads.jdbc-pool-cap) against a fresh
+# database. Requires curl, jq and wrk.
+#
+# Environment:
+#   BASE_URL     server to test            (default http://localhost:8080)
+#   CONCURRENCY  connection counts to run  (default "50 300 600")
+#   DURATION     length of each step       (default 10s)
+#   THREADS      wrk threads               (default 4)
+#   TASKS        tasks seeded for the user (default 200)
+
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+CONCURRENCY=${CONCURRENCY:-"50 300 600"}
+DURATION=${DURATION:-10s}
+THREADS=${THREADS:-4}
+TASKS=${TASKS:-200}
+
+for tool in curl jq wrk; do
+    command -v "$tool" >/dev/null || { echo "$tool is required" >&2; exit 1; }
+done
+
+username="loadtest-$(date +%s)-$RANDOM"
+session=$(curl -sf -X POST "$BASE_URL/api/users/register" \
+    -H 'Content-Type: application/json' \
+    -d "{\"username\":\"$username\",\"password\":\"loadtest-password\",\"email\":\"$username@example.com\"}")
+token=$(jq -r '.data.token' <<<"$session")
+user_id=$(jq -r '.data.id' <<<"$session")
+if [[ -z "$token" || "$token" == null ]]; then
+    echo "Registration failed: $session" >&2
+    exit 1
+fi
+
+echo "Seeding $TASKS tasks for user $user_id"
+for ((i = 1; i <= TASKS; i++)); do
+    curl -sf -o /dev/null -X POST "$BASE_URL/api/tasks/user/$user_id" \
+        -H "Authorization: Bearer $token" \
+        -H 'Content-Type: application/json' \
+        -d "{\"title\":\"Load test task $i\",\"description\":\"seeded task $i\",\"priority\":\"MEDIUM\"}"
+done
+
+script=$(mktemp)
+trap 'rm -f "$script"' EXIT
+cat >"$script" <<EOF
+request = function()
+    local path = "/api/tasks/user/$user_id?search=" .. math.random(1, 1000000)
+    return wrk.format("GET", path, { ["Authorization"] = "Bearer $token" })
+end
+EOF
+
+for connections in $CONCURRENCY; do
+    echo
+    echo "== $connections connections, $DURATION =="
+    wrk -t"$THREADS" -c"$connections" -d"$DURATION" --latency -s "$script" "$BASE_URL"
+done
@@ -0,0 +1,130 @@
+package com.sonic.sonictaskhub.config;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sonic.sonictaskhub.model.dto.TaskDto;
+import com.sonic.sonictaskhub.model.enums.Complexity;
+import com.sonic.sonictaskhub.model.enums.Priority;
+import com.sonic.sonictaskhub.model.enums.TaskStatus;
+import com.sonic.sonictaskhub.model.response.BaseResponse;
+
+/**
+ * Encode and decode time of a 1,000-task page response as JSON, CBOR and Smile.
+ *
+ * The mappers are built like the ones in {@link JacksonConfig}. The encoded
+ * size of each format is printed once per fork, before measurement starts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+
+    @Param({ "json", "cbor", "smile" })
+    public String format;
+
+    private ObjectMapper mapper;
+    private JavaType responseType;
+    private BaseResponse<PageImpl<TaskDto>> response;
+    private byte[] encoded;
+
+    /**
+     * The page as a client reads it back; the paging metadata is ignored
+     */
+    public static class TaskPage {
+        public List<TaskDto> content;
+        public long totalElements;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "json" -> new JsonFactory();
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        mapper = new Jackson2ObjectMapperBuilder()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filters(new SimpleFilterProvider()
+                        .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                        .setFailOnUnknownId(false))
+                .build();
+        responseType = mapper.getTypeFactory().constructParametricType(BaseResponse.class, TaskPage.class);
+
+        List<TaskDto> tasks = new ArrayList<>(PAGE_SIZE);
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 9, 0);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            tasks.add(task(i, now));
+        }
+        response = BaseResponse.success(new PageImpl<>(tasks, PageRequest.of(0, PAGE_SIZE), 25_000));
+        encoded = mapper.writeValueAsBytes(response);
+        System.out.printf("%n%s payload: %,d bytes%n", format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return mapper.readValue(encoded, responseType);
+    }
+
+    private static TaskDto task(int i, LocalDateTime now) {
+        TaskDto task = new TaskDto();
+        task.setId(10_000L + i);
+        task.setTaskNumber((long) i + 1);
+        task.setTitle("Task " + i + ": review the quarterly planning notes");
+        task.setDescription(i % 3 == 0 ? null : "Go through the notes from the planning session and file follow-ups #" + i);
+        task.setPriority(Priority.values()[i % Priority.values().length]);
+        task.setComplexity(Complexity.values()[i % Complexity.values().length]);
+        task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+        task.setDueDate(now.plusDays(i % 60));
+        task.setEstimatedDuration(30 + i % 90);
+        task.setSortOrder(i);
+        task.setUserId(42L);
+        task.setUserDisplayName("Sonic User");
+        task.setCategoryId((long) (i % 8) + 1);
+        task.setCategoryName("Category " + (i % 8));
+        task.setCategoryColor("#3B82F6");
+        task.setSubtaskCount(i % 4);
+        task.setCompletedSubtaskCount(i % 2);
+        task.setCreatedAt(now.minusDays(30).plusMinutes(i));
+        task.setUpdatedAt(now.minusDays(1).plusMinutes(i));
+        return task;
+    }
+}
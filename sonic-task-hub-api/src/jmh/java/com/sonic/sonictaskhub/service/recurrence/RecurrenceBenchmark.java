@@ -0,0 +1,92 @@
+package com.sonic.sonictaskhub.service.recurrence;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sonic.sonictaskhub.model.dto.EventDto;
+import com.sonic.sonictaskhub.model.enums.RecurringPattern;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Expands 10,000 recurring series over a one-year window.
+ *
+ * The series mix RRULEs of every frequency with the fixed recurring patterns.
+ * {@code seriesAgeYears} sets how long before the window the series start, so
+ * the runs show whether expansion cost depends on series age. It should not,
+ * because the iterators skip straight to the window.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecurrenceBenchmark {
+
+    private static final int SERIES = 10_000;
+    private static final LocalDateTime WINDOW_START = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime WINDOW_END = LocalDateTime.of(2026, 12, 31, 23, 59, 59);
+
+    private static final String[] RULES = {
+            "FREQ=DAILY",
+            "FREQ=DAILY;INTERVAL=3",
+            "FREQ=WEEKLY;BYDAY=MO,WE,FR",
+            "FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,TH",
+            "FREQ=MONTHLY;BYMONTHDAY=1,15",
+            "FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1",
+            "FREQ=MONTHLY;BYDAY=2TU",
+            "FREQ=YEARLY;BYMONTH=3,9;BYDAY=-1FR",
+            "FREQ=WEEKLY;BYDAY=SA;COUNT=500",
+            null
+    };
+
+    @Param({ "0", "10" })
+    public int seriesAgeYears;
+
+    private RecurrenceExpander expander;
+    private List<EventDto> series;
+
+    @Setup
+    public void setUp() {
+        expander = new RecurrenceExpander(new SimpleMeterRegistry(), 10_000);
+        series = new ArrayList<>(SERIES);
+        LocalDateTime firstStart = WINDOW_START.minusYears(seriesAgeYears);
+        for (int i = 0; i < SERIES; i++) {
+            EventDto event = new EventDto();
+            event.setId((long) i);
+            event.setEventDateTime(firstStart.plusHours(i % 720).plusMinutes(i % 60));
+            String rule = RULES[i % RULES.length];
+            if (rule != null) {
+                event.setRecurrenceRule(rule);
+            } else {
+                event.setRecurringPattern(RecurringPattern.values()[i % RecurringPattern.values().length]);
+                event.setRecurringInterval(2);
+            }
+            series.add(event);
+        }
+    }
+
+    @Benchmark
+    public long expandOneYear() {
+        long occurrences = 0;
+        for (EventDto event : series) {
+            occurrences += expander.occurrences(event, WINDOW_START, WINDOW_END, Integer.MAX_VALUE).size();
+        }
+        return occurrences;
+    }
+}
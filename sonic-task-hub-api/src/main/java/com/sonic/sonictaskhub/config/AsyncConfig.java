@@ -0,0 +1,95 @@
+package com.sonic.sonictaskhub.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * With virtual threads enabled the pools below keep their size and queue
+     * limits (they bound database cursors and concurrent exports), but their
+     * workers are virtual threads, so a worker blocked on JDBC does not hold
+     * a platform thread.
+     */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * Executor for read sub-requests of /api/batch that run in parallel.
+     * When the queue is full the sub-request runs on the calling thread.
+     */
+    @Bean(name = "batchExecutor")
+    public ThreadPoolTaskExecutor batchExecutor(@Value("${sonic.batch.threads:4}") int threads,
+                                                @Value("${sonic.batch.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = newExecutor("batch-", threads, queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor that writes streaming response bodies (NDJSON list endpoints).
+     * Each stream holds a database cursor while it runs, so the pool stays small.
+     */
+    @Bean(name = "streamExecutor")
+    public ThreadPoolTaskExecutor streamExecutor(@Value("${sonic.stream.threads:4}") int threads,
+                                                 @Value("${sonic.stream.queue-capacity:32}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = newExecutor("stream-", threads, queueCapacity);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for background export jobs. Rejects new jobs when the queue is
+     * full so that callers get an immediate "try again later" instead of waiting.
+     */
+    @Bean(name = "exportExecutor")
+    public ThreadPoolTaskExecutor exportExecutor(@Value("${sonic.export.threads:2}") int threads,
+                                                 @Value("${sonic.export.queue-capacity:16}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = newExecutor("export-", threads, queueCapacity);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor that pushes change feed events to SSE connections. Connections
+     * only occupy a thread while they have queued events to write.
+     */
+    @Bean(name = "sseExecutor")
+    public ThreadPoolTaskExecutor sseExecutor(@Value("${sonic.sse.threads:2}") int threads,
+                                              @Value("${sonic.sse.queue-capacity:4096}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = newExecutor("sse-", threads, queueCapacity);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor that runs BCrypt hashing for logins, registrations and password
+     * changes. Hashing is CPU-bound, so the pool bounds how many cores it can
+     * take; when the queue is full new attempts are rejected.
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(@Value("${sonic.password-hash.threads:2}") int threads,
+                                                       @Value("${sonic.password-hash.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = newExecutor("password-hash-", threads, queueCapacity);
+        executor.initialize();
+        return executor;
+    }
+
+    private ThreadPoolTaskExecutor newExecutor(String threadNamePrefix, int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix, 1).factory());
+        }
+        return executor;
+    }
+}
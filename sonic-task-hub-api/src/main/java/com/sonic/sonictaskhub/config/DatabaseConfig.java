@@ -10,6 +10,21 @@ import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.io.File;
+import java.util.List;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+
+import com.sonic.sonictaskhub.web.metrics.SqlStatementInstrumentation;
 
 @Configuration
 @EnableJpaRepositories(basePackages = "com.sonic.sonictaskhub.repository")
@@ -34,4 +49,31 @@ public class DatabaseConfig {
                 .url("jdbc:sqlite:data/sonictaskhub.db")
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Count SQL statements and loaded entities per request
+     * (see {@link SqlStatementInstrumentation})
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementInstrumentation() {
+        SqlStatementInstrumentation instrumentation = new SqlStatementInstrumentation();
+        Integrator postLoadIntegrator = new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                                  SessionFactoryImplementor sessionFactory) {
+                sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class)
+                        .appendListeners(EventType.POST_LOAD, instrumentation);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory,
+                                     SessionFactoryServiceRegistry serviceRegistry) {
+                // Listeners are discarded together with the session factory
+            }
+        };
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, instrumentation);
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(postLoadIntegrator));
+        };
+    }
+}
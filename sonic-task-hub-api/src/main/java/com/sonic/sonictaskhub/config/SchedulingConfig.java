@@ -0,0 +1,12 @@
+package com.sonic.sonictaskhub.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} housekeeping tasks such as export artifact cleanup.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -11,6 +11,8 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.sonic.sonictaskhub.service.security.PasswordCost;
+
 import java.util.Arrays;
 
 @Configuration
@@ -18,11 +20,11 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     /**
-     * Password encoder bean
+     * Password encoder bean, using the BCrypt cost calibrated for this machine
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordCost passwordCost) {
+        return new BCryptPasswordEncoder(passwordCost.getStrength());
     }
 
     /**
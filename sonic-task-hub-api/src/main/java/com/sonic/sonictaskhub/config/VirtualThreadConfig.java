@@ -0,0 +1,66 @@
+package com.sonic.sonictaskhub.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Settings that only apply when requests run on virtual threads
+ * ({@code spring.threads.virtual.enabled=true}).
+ *
+ * The SQLite driver does its work in native code behind {@code synchronized}
+ * methods, which pins a virtual thread to its carrier for the whole statement.
+ * With as many busy connections as carriers, every carrier is pinned and other
+ * virtual threads wait until a statement finishes; a statement waiting on the
+ * SQLite busy timeout holds its carrier for that long. Capping the pool below
+ * the carrier count avoids this, but callers beyond the cap queue in the pool
+ * even when SQLite could serve them, which costs tail latency on small
+ * machines. The cap is therefore opt-in through
+ * {@code sonic.virtual-threads.jdbc-pool-cap}; without it the pool keeps its
+ * configured size and a warning is logged when that size can pin every carrier.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    // Hikari's pool size when none is configured
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor jdbcPinningGuard(@Value("${sonic.virtual-threads.jdbc-pool-cap:0}") int poolCap) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    int carriers = Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+                            Runtime.getRuntime().availableProcessors());
+                    // An unset pool size reads as -1 until Hikari applies its default
+                    int configured = dataSource.getMaximumPoolSize();
+                    int poolSize = configured < 1 ? DEFAULT_POOL_SIZE : configured;
+                    if (poolCap > 0 && poolSize > poolCap) {
+                        logger.info("Virtual threads enabled: capping JDBC pool '{}' at {} connections ({} carrier threads)",
+                                beanName, poolCap, carriers);
+                        dataSource.setMaximumPoolSize(poolCap);
+                        if (dataSource.getMinimumIdle() > poolCap) {
+                            dataSource.setMinimumIdle(poolCap);
+                        }
+                    } else if (poolCap <= 0 && poolSize >= carriers) {
+                        logger.warn("Virtual threads enabled: JDBC pool '{}' has {} connections for {} carrier threads, "
+                                + "so SQLite statements can pin every carrier. Raise "
+                                + "-Djdk.virtualThreadScheduler.parallelism or set sonic.virtual-threads.jdbc-pool-cap",
+                                beanName, poolSize, carriers);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
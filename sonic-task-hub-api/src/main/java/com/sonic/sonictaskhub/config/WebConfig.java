@@ -0,0 +1,60 @@
+package com.sonic.sonictaskhub.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.sonic.sonictaskhub.web.auth.SessionOwnershipInterceptor;
+import com.sonic.sonictaskhub.web.fields.FieldSelectionInterceptor;
+import com.sonic.sonictaskhub.web.metrics.LatencyBreakdownInterceptor;
+import com.sonic.sonictaskhub.web.metrics.SqlStatementInterceptor;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private SessionOwnershipInterceptor sessionOwnershipInterceptor;
+
+    @Autowired
+    private FieldSelectionInterceptor fieldSelectionInterceptor;
+
+    @Autowired
+    private LatencyBreakdownInterceptor latencyBreakdownInterceptor;
+
+    @Autowired
+    private SqlStatementInterceptor sqlStatementInterceptor;
+
+    @Value("${sonic.sql-stats.enabled:true}")
+    private boolean sqlStatsEnabled;
+
+    @Autowired
+    @Qualifier("streamExecutor")
+    private AsyncTaskExecutor streamExecutor;
+
+    /**
+     * Register request interceptors for the API
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sessionOwnershipInterceptor).addPathPatterns("/api/**");
+        registry.addInterceptor(latencyBreakdownInterceptor).addPathPatterns("/api/**");
+        if (sqlStatsEnabled) {
+            registry.addInterceptor(sqlStatementInterceptor).addPathPatterns("/api/**");
+        }
+        registry.addInterceptor(fieldSelectionInterceptor).addPathPatterns("/api/**");
+    }
+
+    /**
+     * Run streaming response bodies on the dedicated stream executor;
+     * the timeout is set by spring.mvc.async.request-timeout
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamExecutor);
+    }
+}
@@ -0,0 +1,27 @@
+package com.sonic.sonictaskhub.model.dto;
+
+public class BatchResultDto {
+    private String id;
+    private String method;
+    private String path;
+    private Integer status;
+    private Object body;
+
+    public BatchResultDto() {}
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    
+    public String getMethod() { return method; }
+    public void setMethod(String method) { this.method = method; }
+    
+    public String getPath() { return path; }
+    public void setPath(String path) { this.path = path; }
+    
+    public Integer getStatus() { return status; }
+    public void setStatus(Integer status) { this.status = status; }
+    
+    public Object getBody() { return body; }
+    public void setBody(Object body) { this.body = body; }
+}
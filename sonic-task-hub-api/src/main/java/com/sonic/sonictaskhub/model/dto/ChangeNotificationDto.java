@@ -0,0 +1,33 @@
+package com.sonic.sonictaskhub.model.dto;
+
+import com.sonic.sonictaskhub.model.enums.ChangeEntityType;
+import com.sonic.sonictaskhub.model.enums.ChangeOperation;
+
+public class ChangeNotificationDto {
+    private ChangeEntityType type;
+    private Long id;
+    private ChangeOperation op;
+    private Long version;
+
+    public ChangeNotificationDto() {}
+
+    public ChangeNotificationDto(ChangeEntityType type, Long id, ChangeOperation op, Long version) {
+        this.type = type;
+        this.id = id;
+        this.op = op;
+        this.version = version;
+    }
+
+    // Getters and Setters
+    public ChangeEntityType getType() { return type; }
+    public void setType(ChangeEntityType type) { this.type = type; }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public ChangeOperation getOp() { return op; }
+    public void setOp(ChangeOperation op) { this.op = op; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
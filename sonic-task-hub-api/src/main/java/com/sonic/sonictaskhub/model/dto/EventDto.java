@@ -1,8 +1,10 @@
 package com.sonic.sonictaskhub.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.sonic.sonictaskhub.model.enums.*;
 import java.time.LocalDateTime;
 
+@JsonFilter("fieldSelection")
 public class EventDto {
     private Long id;
     private Long eventNumber;
@@ -15,8 +17,10 @@ public class EventDto {
     private RecurringPattern recurringPattern;
     private Integer recurringInterval;
     private LocalDateTime recurringEndDate;
+    private String recurrenceRule;
     private Long masterEventId;
     private String masterEventTitle;
+    private LocalDateTime occurrenceDateTime;
     private Integer sortOrder;
     private Long userId;
     private String userDisplayName;
@@ -28,6 +32,32 @@ public class EventDto {
 
     public EventDto() {}
 
+    public EventDto(EventDto other) {
+        this.id = other.id;
+        this.eventNumber = other.eventNumber;
+        this.title = other.title;
+        this.description = other.description;
+        this.eventDateTime = other.eventDateTime;
+        this.location = other.location;
+        this.reminderMinutes = other.reminderMinutes;
+        this.isRecurring = other.isRecurring;
+        this.recurringPattern = other.recurringPattern;
+        this.recurringInterval = other.recurringInterval;
+        this.recurringEndDate = other.recurringEndDate;
+        this.recurrenceRule = other.recurrenceRule;
+        this.masterEventId = other.masterEventId;
+        this.masterEventTitle = other.masterEventTitle;
+        this.occurrenceDateTime = other.occurrenceDateTime;
+        this.sortOrder = other.sortOrder;
+        this.userId = other.userId;
+        this.userDisplayName = other.userDisplayName;
+        this.categoryId = other.categoryId;
+        this.categoryName = other.categoryName;
+        this.categoryColor = other.categoryColor;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -62,12 +92,18 @@ public class EventDto {
     public LocalDateTime getRecurringEndDate() { return recurringEndDate; }
     public void setRecurringEndDate(LocalDateTime recurringEndDate) { this.recurringEndDate = recurringEndDate; }
     
+    public String getRecurrenceRule() { return recurrenceRule; }
+    public void setRecurrenceRule(String recurrenceRule) { this.recurrenceRule = recurrenceRule; }
+    
     public Long getMasterEventId() { return masterEventId; }
     public void setMasterEventId(Long masterEventId) { this.masterEventId = masterEventId; }
     
     public String getMasterEventTitle() { return masterEventTitle; }
     public void setMasterEventTitle(String masterEventTitle) { this.masterEventTitle = masterEventTitle; }
     
+    public LocalDateTime getOccurrenceDateTime() { return occurrenceDateTime; }
+    public void setOccurrenceDateTime(LocalDateTime occurrenceDateTime) { this.occurrenceDateTime = occurrenceDateTime; }
+    
     public Integer getSortOrder() { return sortOrder; }
     public void setSortOrder(Integer sortOrder) { this.sortOrder = sortOrder; }
     
@@ -0,0 +1,63 @@
+package com.sonic.sonictaskhub.model.dto;
+
+import com.sonic.sonictaskhub.model.enums.ExportFormat;
+import com.sonic.sonictaskhub.model.enums.ExportJobStatus;
+import java.time.LocalDateTime;
+
+public class ExportJobDto {
+    private String id;
+    private ExportJobStatus status;
+    private ExportFormat format;
+    private Long rowsWritten;
+    private Long totalRows;
+    private Integer percentComplete;
+    private String fileName;
+    private Long sizeBytes;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime expiresAt;
+
+    public ExportJobDto() {}
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    
+    public ExportJobStatus getStatus() { return status; }
+    public void setStatus(ExportJobStatus status) { this.status = status; }
+    
+    public ExportFormat getFormat() { return format; }
+    public void setFormat(ExportFormat format) { this.format = format; }
+    
+    public Long getRowsWritten() { return rowsWritten; }
+    public void setRowsWritten(Long rowsWritten) { this.rowsWritten = rowsWritten; }
+    
+    public Long getTotalRows() { return totalRows; }
+    public void setTotalRows(Long totalRows) { this.totalRows = totalRows; }
+    
+    public Integer getPercentComplete() { return percentComplete; }
+    public void setPercentComplete(Integer percentComplete) { this.percentComplete = percentComplete; }
+    
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+    
+    public Long getSizeBytes() { return sizeBytes; }
+    public void setSizeBytes(Long sizeBytes) { this.sizeBytes = sizeBytes; }
+    
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+    
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+    
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+}
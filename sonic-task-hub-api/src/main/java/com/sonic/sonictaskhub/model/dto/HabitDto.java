@@ -1,8 +1,10 @@
 package com.sonic.sonictaskhub.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.sonic.sonictaskhub.model.enums.*;
 import java.time.LocalDateTime;
 
+@JsonFilter("fieldSelection")
 public class HabitDto {
     private Long id;
     private Long habitNumber;
@@ -0,0 +1,32 @@
+package com.sonic.sonictaskhub.model.dto;
+
+import java.time.Instant;
+
+/**
+ * The signed-in user together with the token to send as {@code Authorization: Bearer <token>}
+ */
+public class SessionDto extends UserDto {
+    private String token;
+    private Instant tokenExpiresAt;
+
+    public SessionDto() {}
+
+    public SessionDto(UserDto user, String token, Instant tokenExpiresAt) {
+        setId(user.getId());
+        setUsername(user.getUsername());
+        setEmail(user.getEmail());
+        setDisplayName(user.getDisplayName());
+        setIsActive(user.getIsActive());
+        setCreatedAt(user.getCreatedAt());
+        setUpdatedAt(user.getUpdatedAt());
+        this.token = token;
+        this.tokenExpiresAt = tokenExpiresAt;
+    }
+
+    // Getters and Setters
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+    
+    public Instant getTokenExpiresAt() { return tokenExpiresAt; }
+    public void setTokenExpiresAt(Instant tokenExpiresAt) { this.tokenExpiresAt = tokenExpiresAt; }
+}
@@ -1,9 +1,11 @@
 package com.sonic.sonictaskhub.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.sonic.sonictaskhub.model.enums.*;
 import java.time.LocalDateTime;
 import java.util.List;
 
+@JsonFilter("fieldSelection")
 public class TaskDto {
     private Long id;
     private Long taskNumber;
@@ -40,10 +40,21 @@ public class Event extends BaseEntity {
     @Column(name = "recurring_end_date")
     private LocalDateTime recurringEndDate;
     
+    // RFC 5545 RRULE; takes precedence over the fixed pattern when set
+    @Column(name = "recurrence_rule", length = 500)
+    private String recurrenceRule;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "master_event_id")
     private Event masterEvent;
     
+    // Set on override rows: the occurrence of the master's series this row replaces
+    @Column(name = "original_datetime")
+    private LocalDateTime originalDateTime;
+    
+    @Column(name = "is_cancelled")
+    private Boolean isCancelled = false;
+    
     @Column(name = "sort_order")
     private Integer sortOrder = 0;
     
@@ -89,9 +100,18 @@ public class Event extends BaseEntity {
     public LocalDateTime getRecurringEndDate() { return recurringEndDate; }
     public void setRecurringEndDate(LocalDateTime recurringEndDate) { this.recurringEndDate = recurringEndDate; }
     
+    public String getRecurrenceRule() { return recurrenceRule; }
+    public void setRecurrenceRule(String recurrenceRule) { this.recurrenceRule = recurrenceRule; }
+    
     public Event getMasterEvent() { return masterEvent; }
     public void setMasterEvent(Event masterEvent) { this.masterEvent = masterEvent; }
     
+    public LocalDateTime getOriginalDateTime() { return originalDateTime; }
+    public void setOriginalDateTime(LocalDateTime originalDateTime) { this.originalDateTime = originalDateTime; }
+    
+    public Boolean getIsCancelled() { return isCancelled; }
+    public void setIsCancelled(Boolean isCancelled) { this.isCancelled = isCancelled; }
+    
     public Integer getSortOrder() { return sortOrder; }
     public void setSortOrder(Integer sortOrder) { this.sortOrder = sortOrder; }
     
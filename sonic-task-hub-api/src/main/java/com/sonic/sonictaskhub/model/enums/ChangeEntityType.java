@@ -0,0 +1,19 @@
+package com.sonic.sonictaskhub.model.enums;
+
+public enum ChangeEntityType {
+    TASK("Task"),
+    NOTE("Note"),
+    HABIT("Habit"),
+    HABIT_PROGRESS("Habit Progress"),
+    EVENT("Event");
+
+    private final String displayName;
+
+    ChangeEntityType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,17 @@
+package com.sonic.sonictaskhub.model.enums;
+
+public enum ChangeOperation {
+    CREATED("Created"),
+    UPDATED("Updated"),
+    DELETED("Deleted");
+
+    private final String displayName;
+
+    ChangeOperation(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,37 @@
+package com.sonic.sonictaskhub.model.enums;
+
+public enum ExportEntityType {
+    TASK("Task", "tasks"),
+    NOTE("Note", "notes"),
+    HABIT("Habit", "habits"),
+    HABIT_PROGRESS("Habit Progress", "habitProgress"),
+    EVENT("Event", "events");
+
+    private final String displayName;
+    private final String sectionName;
+
+    ExportEntityType(String displayName, String sectionName) {
+        this.displayName = displayName;
+        this.sectionName = sectionName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getSectionName() {
+        return sectionName;
+    }
+
+    /**
+     * Resolve a type from its singular or plural name, ignoring case
+     */
+    public static ExportEntityType fromName(String name) {
+        for (ExportEntityType type : values()) {
+            if (type.name().equalsIgnoreCase(name) || type.sectionName.equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown export type: " + name);
+    }
+}
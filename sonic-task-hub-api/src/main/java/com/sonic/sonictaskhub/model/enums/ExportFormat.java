@@ -0,0 +1,22 @@
+package com.sonic.sonictaskhub.model.enums;
+
+public enum ExportFormat {
+    CSV("csv", "text/csv"),
+    JSON("json", "application/json");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
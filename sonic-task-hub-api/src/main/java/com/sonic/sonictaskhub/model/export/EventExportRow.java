@@ -0,0 +1,25 @@
+package com.sonic.sonictaskhub.model.export;
+
+import com.sonic.sonictaskhub.model.enums.RecurringPattern;
+import java.time.LocalDateTime;
+
+/**
+ * Flat event row selected directly by the export query.
+ * Overrides of a single occurrence carry their master's id and the
+ * {@code originalDateTime} of the slot they replace.
+ */
+public record EventExportRow(Long id,
+                             Long eventNumber,
+                             String title,
+                             String description,
+                             LocalDateTime eventDateTime,
+                             String location,
+                             Boolean isRecurring,
+                             RecurringPattern recurringPattern,
+                             String recurrenceRule,
+                             Long masterEventId,
+                             LocalDateTime originalDateTime,
+                             String categoryName,
+                             LocalDateTime createdAt,
+                             LocalDateTime updatedAt) {
+}
@@ -0,0 +1,20 @@
+package com.sonic.sonictaskhub.model.export;
+
+import com.sonic.sonictaskhub.model.enums.HabitStatus;
+import java.time.LocalDateTime;
+
+/**
+ * Flat habit row selected directly by the export query
+ */
+public record HabitExportRow(Long id,
+                             Long habitNumber,
+                             String title,
+                             String description,
+                             String habitStage,
+                             Integer targetDays,
+                             HabitStatus status,
+                             String categoryName,
+                             Long completedDays,
+                             LocalDateTime createdAt,
+                             LocalDateTime updatedAt) {
+}
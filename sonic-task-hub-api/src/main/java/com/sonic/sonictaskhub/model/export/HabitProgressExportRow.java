@@ -0,0 +1,19 @@
+package com.sonic.sonictaskhub.model.export;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Flat habit progress row selected directly by the export query
+ */
+public record HabitProgressExportRow(Long id,
+                                     Long habitId,
+                                     String habitTitle,
+                                     LocalDate sessionDate,
+                                     Integer duration,
+                                     Double progressValue,
+                                     String progressUnit,
+                                     String notes,
+                                     LocalDateTime createdAt,
+                                     LocalDateTime updatedAt) {
+}
@@ -0,0 +1,19 @@
+package com.sonic.sonictaskhub.model.export;
+
+import com.sonic.sonictaskhub.model.enums.NoteStatus;
+import com.sonic.sonictaskhub.model.enums.Priority;
+import java.time.LocalDateTime;
+
+/**
+ * Flat note row selected directly by the export query
+ */
+public record NoteExportRow(Long id,
+                            Long noteNumber,
+                            String title,
+                            String description,
+                            Priority priority,
+                            NoteStatus status,
+                            String categoryName,
+                            LocalDateTime createdAt,
+                            LocalDateTime updatedAt) {
+}
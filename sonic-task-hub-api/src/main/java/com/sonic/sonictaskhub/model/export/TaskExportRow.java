@@ -0,0 +1,28 @@
+package com.sonic.sonictaskhub.model.export;
+
+import com.sonic.sonictaskhub.model.enums.Complexity;
+import com.sonic.sonictaskhub.model.enums.Priority;
+import com.sonic.sonictaskhub.model.enums.TaskStatus;
+import java.time.LocalDateTime;
+
+/**
+ * Flat task row selected directly by the export query
+ */
+public record TaskExportRow(Long id,
+                            Long taskNumber,
+                            String title,
+                            String description,
+                            Priority priority,
+                            Complexity complexity,
+                            TaskStatus status,
+                            LocalDateTime dueDate,
+                            LocalDateTime completedAt,
+                            String categoryName,
+                            Long parentTaskId,
+                            String parentTaskTitle,
+                            Long subtaskCount,
+                            Integer estimatedDuration,
+                            Integer actualDuration,
+                            LocalDateTime createdAt,
+                            LocalDateTime updatedAt) {
+}
@@ -0,0 +1,17 @@
+package com.sonic.sonictaskhub.model.request;
+
+import java.util.List;
+
+public class BatchRequest {
+    private List<BatchSubRequest> requests;
+    private Boolean parallel;
+
+    public BatchRequest() {}
+
+    // Getters and Setters
+    public List<BatchSubRequest> getRequests() { return requests; }
+    public void setRequests(List<BatchSubRequest> requests) { this.requests = requests; }
+    
+    public Boolean getParallel() { return parallel; }
+    public void setParallel(Boolean parallel) { this.parallel = parallel; }
+}
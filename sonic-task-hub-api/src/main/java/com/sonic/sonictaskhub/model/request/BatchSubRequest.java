@@ -0,0 +1,29 @@
+package com.sonic.sonictaskhub.model.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class BatchSubRequest {
+    private String id;
+    private String method;
+    private String path;
+    private JsonNode body;
+    private String idempotencyKey;
+
+    public BatchSubRequest() {}
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    
+    public String getMethod() { return method; }
+    public void setMethod(String method) { this.method = method; }
+    
+    public String getPath() { return path; }
+    public void setPath(String path) { this.path = path; }
+    
+    public JsonNode getBody() { return body; }
+    public void setBody(JsonNode body) { this.body = body; }
+    
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public void setIdempotencyKey(String idempotencyKey) { this.idempotencyKey = idempotencyKey; }
+}
@@ -12,6 +12,7 @@ public class EventCreateRequest {
     private String recurringPattern;
     private Integer recurringInterval;
     private LocalDateTime recurringEndDate;
+    private String recurrenceRule;
     private Long categoryId;
 
     public EventCreateRequest() {}
@@ -44,6 +45,9 @@ public class EventCreateRequest {
     public LocalDateTime getRecurringEndDate() { return recurringEndDate; }
     public void setRecurringEndDate(LocalDateTime recurringEndDate) { this.recurringEndDate = recurringEndDate; }
     
+    public String getRecurrenceRule() { return recurrenceRule; }
+    public void setRecurrenceRule(String recurrenceRule) { this.recurrenceRule = recurrenceRule; }
+    
     public Long getCategoryId() { return categoryId; }
     public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.sonic.sonictaskhub.model.request;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ExportRequest {
+    private String format;
+    private List<String> types;
+    private String status;
+    private String priority;
+    private Long categoryId;
+    private String search;
+    private Boolean includeCompleted;
+    private Boolean includeSnoozed;
+    private Boolean includeSubtasks;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Boolean gzip;
+
+    public ExportRequest() {}
+
+    // Getters and Setters
+    public String getFormat() { return format; }
+    public void setFormat(String format) { this.format = format; }
+    
+    public List<String> getTypes() { return types; }
+    public void setTypes(List<String> types) { this.types = types; }
+    
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    
+    public String getPriority() { return priority; }
+    public void setPriority(String priority) { this.priority = priority; }
+    
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+    
+    public String getSearch() { return search; }
+    public void setSearch(String search) { this.search = search; }
+    
+    public Boolean getIncludeCompleted() { return includeCompleted; }
+    public void setIncludeCompleted(Boolean includeCompleted) { this.includeCompleted = includeCompleted; }
+    
+    public Boolean getIncludeSnoozed() { return includeSnoozed; }
+    public void setIncludeSnoozed(Boolean includeSnoozed) { this.includeSnoozed = includeSnoozed; }
+    
+    public Boolean getIncludeSubtasks() { return includeSubtasks; }
+    public void setIncludeSubtasks(Boolean includeSubtasks) { this.includeSubtasks = includeSubtasks; }
+    
+    public LocalDateTime getFrom() { return from; }
+    public void setFrom(LocalDateTime from) { this.from = from; }
+    
+    public LocalDateTime getTo() { return to; }
+    public void setTo(LocalDateTime to) { this.to = to; }
+    
+    public Boolean getGzip() { return gzip; }
+    public void setGzip(Boolean gzip) { this.gzip = gzip; }
+}
@@ -1,33 +1,120 @@
 package com.sonic.sonictaskhub.repository;
 
+import com.sonic.sonictaskhub.model.entity.Category;
 import com.sonic.sonictaskhub.model.entity.Event;
+import com.sonic.sonictaskhub.model.export.EventExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
+
+    /**
+     * Rows fetched per round trip by the streaming queries
+     */
+    String STREAM_FETCH_SIZE = "256";
+
+    /**
+     * Excludes override rows that cancel an occurrence of a recurring series
+     */
+    String NOT_CANCELLED = "(e.isCancelled IS NULL OR e.isCancelled = false)";
+
+    /**
+     * Filters shared by the export queries
+     */
+    String EXPORT_FILTER = "e.user.id = :userId AND " + NOT_CANCELLED + " AND " +
+           "(:categoryId IS NULL OR e.category.id = :categoryId) AND " +
+           "(:search IS NULL OR LOWER(e.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(e.description) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+           "(:from IS NULL OR e.createdAt >= :from) AND " +
+           "(:to IS NULL OR e.createdAt < :to)";
     
     @Query("SELECT COALESCE(MAX(e.eventNumber), 0) FROM Event e WHERE e.user.id = :userId")
     Long getMaxEventNumberForUser(@Param("userId") Long userId);
     
     Optional<Event> findByUserIdAndEventNumber(Long userId, Long eventNumber);
     
-    @Query("SELECT e FROM Event e WHERE e.masterEvent.id = :masterEventId")
-    List<Event> findInstancesByMasterEventId(@Param("masterEventId") Long masterEventId);
+    /**
+     * Event by id, only if it belongs to the user
+     */
+    Optional<Event> findByIdAndUserId(Long id, Long userId);
+    
+    /**
+     * Delete the override rows of a recurring series
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Event e WHERE e.masterEvent.id = :masterEventId")
+    int deleteByMasterEventId(@Param("masterEventId") Long masterEventId);
+    
+    /**
+     * Every event row of the user, with the associations copied into DTOs, for the in-memory event index
+     */
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.user LEFT JOIN FETCH e.category LEFT JOIN FETCH e.masterEvent " +
+           "WHERE e.user.id = :userId")
+    List<Event> findAllForIndex(@Param("userId") Long userId);
+    
+    /**
+     * Overrides of a series, including cancellations
+     */
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.user LEFT JOIN FETCH e.category WHERE e.masterEvent.id = :masterEventId")
+    List<Event> findOverrides(@Param("masterEventId") Long masterEventId);
+    
+    /**
+     * Give the overrides of a series its new field values, one field at a time, where the override
+     * still holds the series' previous value; fields edited on a single occurrence are left alone.
+     * Overrides are not loaded before this runs, so the persistence context is kept.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Event e SET " +
+           "e.title = CASE WHEN e.title = :oldTitle THEN :title ELSE e.title END, " +
+           "e.description = CASE WHEN COALESCE(e.description, '') = COALESCE(:oldDescription, '') THEN :description ELSE e.description END, " +
+           "e.location = CASE WHEN COALESCE(e.location, '') = COALESCE(:oldLocation, '') THEN :location ELSE e.location END, " +
+           "e.reminderMinutes = CASE WHEN COALESCE(e.reminderMinutes, -1) = COALESCE(:oldReminderMinutes, -1) THEN :reminderMinutes ELSE e.reminderMinutes END, " +
+           "e.updatedAt = :now " +
+           "WHERE e.masterEvent.id = :masterEventId")
+    int propagateToOverrides(@Param("masterEventId") Long masterEventId,
+                             @Param("oldTitle") String oldTitle,
+                             @Param("title") String title,
+                             @Param("oldDescription") String oldDescription,
+                             @Param("description") String description,
+                             @Param("oldLocation") String oldLocation,
+                             @Param("location") String location,
+                             @Param("oldReminderMinutes") Integer oldReminderMinutes,
+                             @Param("reminderMinutes") Integer reminderMinutes,
+                             @Param("now") LocalDateTime now);
     
-    @Query("SELECT e FROM Event e WHERE e.user.id = :userId AND e.eventDateTime BETWEEN :startDate AND :endDate")
-    List<Event> findEventsInDateRange(@Param("userId") Long userId, 
-                                     @Param("startDate") LocalDateTime startDate,
-                                     @Param("endDate") LocalDateTime endDate);
+    /**
+     * Move the overrides of a series that are still in its previous category to the new one
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Event e SET e.category = :category, e.updatedAt = :now " +
+           "WHERE e.masterEvent.id = :masterEventId AND COALESCE(e.category.id, 0) = COALESCE(:oldCategoryId, 0)")
+    int propagateCategoryToOverrides(@Param("masterEventId") Long masterEventId,
+                                     @Param("oldCategoryId") Long oldCategoryId,
+                                     @Param("category") Category category,
+                                     @Param("now") LocalDateTime now);
     
-    @Query("SELECT e FROM Event e WHERE " +
+    /**
+     * The override replacing one occurrence of the series, if it was edited or cancelled
+     */
+    @Query("SELECT e FROM Event e WHERE e.masterEvent.id = :masterEventId AND " +
+           "COALESCE(e.originalDateTime, e.eventDateTime) = :occurrence")
+    Optional<Event> findOverride(@Param("masterEventId") Long masterEventId,
+                                 @Param("occurrence") LocalDateTime occurrence);
+    
+    @Query("SELECT e FROM Event e WHERE " + NOT_CANCELLED + " AND " +
            "(:userId IS NULL OR e.user.id = :userId) AND " +
            "(:categoryId IS NULL OR e.category.id = :categoryId) AND " +
            "(:search IS NULL OR LOWER(e.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(e.description) LIKE LOWER(CONCAT('%', :search, '%')))")
@@ -35,4 +122,43 @@ public interface EventRepository extends JpaRepository<Event, Long> {
                                @Param("categoryId") Long categoryId,
                                @Param("search") String search,
                                Pageable pageable);
-}
\ No newline at end of file
+    
+    /**
+     * Same filters as {@link #findWithFilters}, read through a forward-only cursor.
+     * Must be consumed inside a transaction and closed after use.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.user LEFT JOIN FETCH e.category LEFT JOIN FETCH e.masterEvent WHERE " + NOT_CANCELLED + " AND " +
+           "(:userId IS NULL OR e.user.id = :userId) AND " +
+           "(:categoryId IS NULL OR e.category.id = :categoryId) AND " +
+           "(:search IS NULL OR LOWER(e.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(e.description) LIKE LOWER(CONCAT('%', :search, '%')))")
+    Stream<Event> streamWithFilters(@Param("userId") Long userId,
+                                    @Param("categoryId") Long categoryId,
+                                    @Param("search") String search,
+                                    Sort sort);
+    
+    /**
+     * Export rows for one user, filtered and projected in SQL.
+     * Must be consumed inside a transaction and closed after use.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.sonic.sonictaskhub.model.export.EventExportRow(" +
+           "e.id, e.eventNumber, e.title, e.description, e.eventDateTime, e.location, e.isRecurring, " +
+           "e.recurringPattern, e.recurrenceRule, m.id, e.originalDateTime, c.name, e.createdAt, e.updatedAt) " +
+           "FROM Event e LEFT JOIN e.category c LEFT JOIN e.masterEvent m WHERE " + EXPORT_FILTER + " ORDER BY e.id")
+    Stream<EventExportRow> streamForExport(@Param("userId") Long userId,
+                                           @Param("categoryId") Long categoryId,
+                                           @Param("search") String search,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+    
+    @Query("SELECT COUNT(e) FROM Event e WHERE " + EXPORT_FILTER)
+    Long countForExport(@Param("userId") Long userId,
+                        @Param("categoryId") Long categoryId,
+                        @Param("search") String search,
+                        @Param("from") LocalDateTime from,
+                        @Param("to") LocalDateTime to);
+}
@@ -1,21 +1,51 @@
 package com.sonic.sonictaskhub.repository;
 
 import com.sonic.sonictaskhub.model.entity.HabitProgress;
+import com.sonic.sonictaskhub.model.export.HabitProgressExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface HabitProgressRepository extends JpaRepository<HabitProgress, Long> {
+
+    /**
+     * Rows fetched per round trip by the streaming queries
+     */
+    String STREAM_FETCH_SIZE = "256";
+
+    /**
+     * Filters shared by the export queries; ownership and the habit filters go through the progress entry's habit
+     */
+    String EXPORT_FILTER = "h.user.id = :userId AND " +
+           "(:includeCompleted = true OR h.status != 'COMPLETED') AND " +
+           "(:categoryId IS NULL OR h.category.id = :categoryId) AND " +
+           "(:search IS NULL OR LOWER(h.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(hp.notes) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+           "(:from IS NULL OR hp.createdAt >= :from) AND " +
+           "(:to IS NULL OR hp.createdAt < :to)";
     
     List<HabitProgress> findByHabitIdOrderBySessionDateDesc(Long habitId);
     
     Optional<HabitProgress> findByHabitIdAndSessionDate(Long habitId, LocalDate sessionDate);
     
+    /**
+     * Delete a progress entry if its habit belongs to the user; returns the number of rows deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM HabitProgress hp WHERE hp.id = :id AND " +
+           "hp.habit.id IN (SELECT h.id FROM Habit h WHERE h.user.id = :userId)")
+    int deleteForUser(@Param("id") Long id, @Param("userId") Long userId);
+    
     @Query("SELECT COUNT(hp) FROM HabitProgress hp WHERE hp.habit.id = :habitId")
     Long countByHabitId(@Param("habitId") Long habitId);
     
@@ -23,4 +53,28 @@ public interface HabitProgressRepository extends JpaRepository<HabitProgress, Lo
     List<HabitProgress> findByHabitIdAndDateRange(@Param("habitId") Long habitId,
                                                  @Param("startDate") LocalDate startDate,
                                                  @Param("endDate") LocalDate endDate);
-}
\ No newline at end of file
+    
+    /**
+     * Export rows for one user's habits, filtered and projected in SQL.
+     * Must be consumed inside a transaction and closed after use.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.sonic.sonictaskhub.model.export.HabitProgressExportRow(" +
+           "hp.id, h.id, h.title, hp.sessionDate, hp.duration, hp.progressValue, hp.progressUnit, hp.notes, " +
+           "hp.createdAt, hp.updatedAt) " +
+           "FROM HabitProgress hp JOIN hp.habit h WHERE " + EXPORT_FILTER + " ORDER BY h.id, hp.sessionDate")
+    Stream<HabitProgressExportRow> streamForExport(@Param("userId") Long userId,
+                                                   @Param("includeCompleted") boolean includeCompleted,
+                                                   @Param("categoryId") Long categoryId,
+                                                   @Param("search") String search,
+                                                   @Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to);
+    
+    @Query("SELECT COUNT(hp) FROM HabitProgress hp JOIN hp.habit h WHERE " + EXPORT_FILTER)
+    Long countForExport(@Param("userId") Long userId,
+                        @Param("includeCompleted") boolean includeCompleted,
+                        @Param("categoryId") Long categoryId,
+                        @Param("search") String search,
+                        @Param("from") LocalDateTime from,
+                        @Param("to") LocalDateTime to);
+}
@@ -2,22 +2,65 @@ package com.sonic.sonictaskhub.repository;
 
 import com.sonic.sonictaskhub.model.entity.Habit;
 import com.sonic.sonictaskhub.model.enums.HabitStatus;
+import com.sonic.sonictaskhub.model.export.HabitExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface HabitRepository extends JpaRepository<Habit, Long> {
+
+    /**
+     * Rows fetched per round trip by the streaming queries
+     */
+    String STREAM_FETCH_SIZE = "256";
+
+    /**
+     * Filters shared by the export queries
+     */
+    String EXPORT_FILTER = "h.user.id = :userId AND " +
+           "(:includeCompleted = true OR h.status != 'COMPLETED') AND " +
+           "(:categoryId IS NULL OR h.category.id = :categoryId) AND " +
+           "(:search IS NULL OR LOWER(h.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(h.description) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+           "(:from IS NULL OR h.createdAt >= :from) AND " +
+           "(:to IS NULL OR h.createdAt < :to)";
     
     @Query("SELECT COALESCE(MAX(h.habitNumber), 0) FROM Habit h WHERE h.user.id = :userId")
     Long getMaxHabitNumberForUser(@Param("userId") Long userId);
     
     Optional<Habit> findByUserIdAndHabitNumber(Long userId, Long habitNumber);
     
+    /**
+     * Habit by id, only if it belongs to the user
+     */
+    Optional<Habit> findByIdAndUserId(Long id, Long userId);
+    
+    /**
+     * Whether the habit exists and belongs to the user
+     */
+    boolean existsByIdAndUserId(Long id, Long userId);
+    
+    /**
+     * Change a habit's status if it belongs to the user; returns the number of rows changed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Habit h SET h.status = :status, h.updatedAt = :now WHERE h.id = :id AND h.user.id = :userId")
+    int updateStatusForUser(@Param("id") Long id,
+                            @Param("userId") Long userId,
+                            @Param("status") HabitStatus status,
+                            @Param("now") LocalDateTime now);
+    
     @Query("SELECT h FROM Habit h WHERE " +
            "(:userId IS NULL OR h.user.id = :userId) AND " +
            "(:status IS NULL OR h.status = :status) AND " +
@@ -28,4 +71,50 @@ public interface HabitRepository extends JpaRepository<Habit, Long> {
                                @Param("categoryId") Long categoryId,
                                @Param("search") String search,
                                Pageable pageable);
-}
\ No newline at end of file
+    
+    /**
+     * Same filters as {@link #findWithFilters}, read through a forward-only cursor.
+     * Each row is the habit (with user and category fetched) and its progress
+     * entry count, so converting a row needs no further queries. Must be
+     * consumed inside a transaction and closed after use.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT h, (SELECT COUNT(hp) FROM HabitProgress hp WHERE hp.habit = h) " +
+           "FROM Habit h LEFT JOIN FETCH h.user LEFT JOIN FETCH h.category WHERE " +
+           "(:userId IS NULL OR h.user.id = :userId) AND " +
+           "(:status IS NULL OR h.status = :status) AND " +
+           "(:categoryId IS NULL OR h.category.id = :categoryId) AND " +
+           "(:search IS NULL OR LOWER(h.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(h.description) LIKE LOWER(CONCAT('%', :search, '%')))")
+    Stream<Object[]> streamWithFilters(@Param("userId") Long userId,
+                                       @Param("status") HabitStatus status,
+                                       @Param("categoryId") Long categoryId,
+                                       @Param("search") String search,
+                                       Sort sort);
+    
+    /**
+     * Export rows for one user, filtered and projected in SQL.
+     * Must be consumed inside a transaction and closed after use.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.sonic.sonictaskhub.model.export.HabitExportRow(" +
+           "h.id, h.habitNumber, h.title, h.description, h.habitStage, h.targetDays, h.status, c.name, " +
+           "(SELECT COUNT(hp) FROM HabitProgress hp WHERE hp.habit = h), h.createdAt, h.updatedAt) " +
+           "FROM Habit h LEFT JOIN h.category c WHERE " + EXPORT_FILTER + " ORDER BY h.id")
+    Stream<HabitExportRow> streamForExport(@Param("userId") Long userId,
+                                           @Param("includeCompleted") boolean includeCompleted,
+                                           @Param("categoryId") Long categoryId,
+                                           @Param("search") String search,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+    
+    @Query("SELECT COUNT(h) FROM Habit h WHERE " + EXPORT_FILTER)
+    Long countForExport(@Param("userId") Long userId,
+                        @Param("includeCompleted") boolean includeCompleted,
+                        @Param("categoryId") Long categoryId,
+                        @Param("search") String search,
+                        @Param("from") LocalDateTime from,
+                        @Param("to") LocalDateTime to);
+}
@@ -3,22 +3,67 @@ package com.sonic.sonictaskhub.repository;
 import com.sonic.sonictaskhub.model.entity.Note;
 import com.sonic.sonictaskhub.model.enums.NoteStatus;
 import com.sonic.sonictaskhub.model.enums.Priority;
+import com.sonic.sonictaskhub.model.export.NoteExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface NoteRepository extends JpaRepository<Note, Long> {
+
+    /**
+     * Rows fetched per round trip by the streaming queries
+     */
+    String STREAM_FETCH_SIZE = "256";
+
+    /**
+     * Filters shared by the export queries
+     */
+    String EXPORT_FILTER = "n.user.id = :userId AND " +
+           "(:priority IS NULL OR n.priority = :priority) AND " +
+           "(:categoryId IS NULL OR n.category.id = :categoryId) AND " +
+           "(:search IS NULL OR LOWER(n.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(n.description) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+           "(:from IS NULL OR n.createdAt >= :from) AND " +
+           "(:to IS NULL OR n.createdAt < :to)";
     
     @Query("SELECT COALESCE(MAX(n.noteNumber), 0) FROM Note n WHERE n.user.id = :userId")
     Long getMaxNoteNumberForUser(@Param("userId") Long userId);
     
     Optional<Note> findByUserIdAndNoteNumber(Long userId, Long noteNumber);
     
+    /**
+     * Note by id, only if it belongs to the user
+     */
+    Optional<Note> findByIdAndUserId(Long id, Long userId);
+    
+    /**
+     * Change a note's status if it belongs to the user; returns the number of rows changed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Note n SET n.status = :status, n.updatedAt = :now WHERE n.id = :id AND n.user.id = :userId")
+    int updateStatusForUser(@Param("id") Long id,
+                            @Param("userId") Long userId,
+                            @Param("status") NoteStatus status,
+                            @Param("now") LocalDateTime now);
+    
+    /**
+     * Delete a note if it belongs to the user; returns the number of rows deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Note n WHERE n.id = :id AND n.user.id = :userId")
+    int deleteForUser(@Param("id") Long id, @Param("userId") Long userId);
+    
     @Query("SELECT n FROM Note n WHERE " +
            "(:userId IS NULL OR n.user.id = :userId) AND " +
            "(:status IS NULL OR n.status = :status) AND " +
@@ -31,4 +76,48 @@ public interface NoteRepository extends JpaRepository<Note, Long> {
                               @Param("categoryId") Long categoryId,
                               @Param("search") String search,
                               Pageable pageable);
-}
\ No newline at end of file
+    
+    /**
+     * Same filters as {@link #findWithFilters}, read through a forward-only cursor.
+     * Must be consumed inside a transaction and closed after use.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT n FROM Note n LEFT JOIN FETCH n.user LEFT JOIN FETCH n.category WHERE " +
+           "(:userId IS NULL OR n.user.id = :userId) AND " +
+           "(:status IS NULL OR n.status = :status) AND " +
+           "(:priority IS NULL OR n.priority = :priority) AND " +
+           "(:categoryId IS NULL OR n.category.id = :categoryId) AND " +
+           "(:search IS NULL OR LOWER(n.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(n.description) LIKE LOWER(CONCAT('%', :search, '%')))")
+    Stream<Note> streamWithFilters(@Param("userId") Long userId,
+                                   @Param("status") NoteStatus status,
+                                   @Param("priority") Priority priority,
+                                   @Param("categoryId") Long categoryId,
+                                   @Param("search") String search,
+                                   Sort sort);
+    
+    /**
+     * Export rows for one user, filtered and projected in SQL.
+     * Must be consumed inside a transaction and closed after use.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.sonic.sonictaskhub.model.export.NoteExportRow(" +
+           "n.id, n.noteNumber, n.title, n.description, n.priority, n.status, c.name, n.createdAt, n.updatedAt) " +
+           "FROM Note n LEFT JOIN n.category c WHERE " + EXPORT_FILTER + " ORDER BY n.id")
+    Stream<NoteExportRow> streamForExport(@Param("userId") Long userId,
+                                          @Param("priority") Priority priority,
+                                          @Param("categoryId") Long categoryId,
+                                          @Param("search") String search,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+    
+    @Query("SELECT COUNT(n) FROM Note n WHERE " + EXPORT_FILTER)
+    Long countForExport(@Param("userId") Long userId,
+                        @Param("priority") Priority priority,
+                        @Param("categoryId") Long categoryId,
+                        @Param("search") String search,
+                        @Param("from") LocalDateTime from,
+                        @Param("to") LocalDateTime to);
+}
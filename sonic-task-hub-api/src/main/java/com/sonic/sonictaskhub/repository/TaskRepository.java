@@ -3,24 +3,79 @@ package com.sonic.sonictaskhub.repository;
 import com.sonic.sonictaskhub.model.entity.Task;
 import com.sonic.sonictaskhub.model.enums.Priority;
 import com.sonic.sonictaskhub.model.enums.TaskStatus;
+import com.sonic.sonictaskhub.model.export.TaskExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    /**
+     * Rows fetched per round trip by the streaming queries
+     */
+    String STREAM_FETCH_SIZE = "256";
+
+    /**
+     * Filters shared by the export queries
+     */
+    String EXPORT_FILTER = "t.user.id = :userId AND " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:includeCompleted = true OR t.status != 'COMPLETED') AND " +
+           "(:includeSnoozed = true OR t.status != 'SNOOZED') AND " +
+           "(:includeSubtasks = true OR t.parentTask IS NULL) AND " +
+           "(:priority IS NULL OR t.priority = :priority) AND " +
+           "(:categoryId IS NULL OR t.category.id = :categoryId) AND " +
+           "(:search IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+           "(:from IS NULL OR t.createdAt >= :from) AND " +
+           "(:to IS NULL OR t.createdAt < :to)";
     
     @Query("SELECT COALESCE(MAX(t.taskNumber), 0) FROM Task t WHERE t.user.id = :userId")
     Long getMaxTaskNumberForUser(@Param("userId") Long userId);
     
     Optional<Task> findByUserIdAndTaskNumber(Long userId, Long taskNumber);
     
+    /**
+     * Task by id, only if it belongs to the user
+     */
+    Optional<Task> findByIdAndUserId(Long id, Long userId);
+    
+    /**
+     * Mark a task completed if it belongs to the user; returns the number of rows changed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = com.sonic.sonictaskhub.model.enums.TaskStatus.COMPLETED, " +
+           "t.completedAt = :now, t.actualDuration = COALESCE(:actualDuration, t.actualDuration), t.updatedAt = :now " +
+           "WHERE t.id = :id AND t.user.id = :userId")
+    int completeForUser(@Param("id") Long id,
+                        @Param("userId") Long userId,
+                        @Param("actualDuration") Integer actualDuration,
+                        @Param("now") LocalDateTime now);
+    
+    /**
+     * Snooze a task if it belongs to the user; returns the number of rows changed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = com.sonic.sonictaskhub.model.enums.TaskStatus.SNOOZED, " +
+           "t.snoozedUntil = :snoozeUntil, t.updatedAt = :now " +
+           "WHERE t.id = :id AND t.user.id = :userId")
+    int snoozeForUser(@Param("id") Long id,
+                      @Param("userId") Long userId,
+                      @Param("snoozeUntil") LocalDateTime snoozeUntil,
+                      @Param("now") LocalDateTime now);
+    
     List<Task> findByUserIdAndParentTaskIsNull(Long userId);
     
     List<Task> findByParentTaskId(Long parentTaskId);
@@ -43,4 +98,64 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
                               @Param("categoryId") Long categoryId,
                               @Param("search") String search,
                               Pageable pageable);
-}
\ No newline at end of file
+    
+    /**
+     * Same filters as {@link #findWithFilters}, read through a forward-only cursor.
+     * Each row is the task (with user, category and parent task fetched), its
+     * subtask count and its completed subtask count, so converting a row
+     * needs no further queries. Must be consumed inside a transaction and
+     * closed after use.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t, " +
+           "(SELECT COUNT(s) FROM Task s WHERE s.parentTask = t), " +
+           "(SELECT COUNT(s) FROM Task s WHERE s.parentTask = t AND s.status = com.sonic.sonictaskhub.model.enums.TaskStatus.COMPLETED) " +
+           "FROM Task t LEFT JOIN FETCH t.user LEFT JOIN FETCH t.category LEFT JOIN FETCH t.parentTask WHERE " +
+           "(:userId IS NULL OR t.user.id = :userId) AND " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:priority IS NULL OR t.priority = :priority) AND " +
+           "(:categoryId IS NULL OR t.category.id = :categoryId) AND " +
+           "(:search IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :search, '%')))")
+    Stream<Object[]> streamWithFilters(@Param("userId") Long userId,
+                                       @Param("status") TaskStatus status,
+                                       @Param("priority") Priority priority,
+                                       @Param("categoryId") Long categoryId,
+                                       @Param("search") String search,
+                                       Sort sort);
+    
+    /**
+     * Export rows for one user, filtered and projected in SQL.
+     * Must be consumed inside a transaction and closed after use.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.sonic.sonictaskhub.model.export.TaskExportRow(" +
+           "t.id, t.taskNumber, t.title, t.description, t.priority, t.complexity, t.status, t.dueDate, t.completedAt, " +
+           "c.name, p.id, p.title, (SELECT COUNT(s) FROM Task s WHERE s.parentTask = t), " +
+           "t.estimatedDuration, t.actualDuration, t.createdAt, t.updatedAt) " +
+           "FROM Task t LEFT JOIN t.category c LEFT JOIN t.parentTask p WHERE " + EXPORT_FILTER + " ORDER BY t.id")
+    Stream<TaskExportRow> streamForExport(@Param("userId") Long userId,
+                                          @Param("status") TaskStatus status,
+                                          @Param("includeCompleted") boolean includeCompleted,
+                                          @Param("includeSnoozed") boolean includeSnoozed,
+                                          @Param("includeSubtasks") boolean includeSubtasks,
+                                          @Param("priority") Priority priority,
+                                          @Param("categoryId") Long categoryId,
+                                          @Param("search") String search,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+    
+    @Query("SELECT COUNT(t) FROM Task t WHERE " + EXPORT_FILTER)
+    Long countForExport(@Param("userId") Long userId,
+                        @Param("status") TaskStatus status,
+                        @Param("includeCompleted") boolean includeCompleted,
+                        @Param("includeSnoozed") boolean includeSnoozed,
+                        @Param("includeSubtasks") boolean includeSubtasks,
+                        @Param("priority") Priority priority,
+                        @Param("categoryId") Long categoryId,
+                        @Param("search") String search,
+                        @Param("from") LocalDateTime from,
+                        @Param("to") LocalDateTime to);
+}
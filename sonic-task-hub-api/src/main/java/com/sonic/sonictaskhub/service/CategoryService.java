@@ -12,6 +12,11 @@ import com.sonic.sonictaskhub.model.entity.Category;
 import com.sonic.sonictaskhub.model.entity.User;
 import com.sonic.sonictaskhub.repository.CategoryRepository;
 import com.sonic.sonictaskhub.repository.UserRepository;
+import com.sonic.sonictaskhub.service.cache.EventIntervalIndex;
+import com.sonic.sonictaskhub.service.cache.UserDataVersions;
+import com.sonic.sonictaskhub.service.exception.ConflictException;
+import com.sonic.sonictaskhub.service.exception.ForbiddenException;
+import com.sonic.sonictaskhub.service.exception.NotFoundException;
 
 import jakarta.annotation.PostConstruct;
 
@@ -25,6 +30,12 @@ public class CategoryService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserDataVersions userDataVersions;
+
+    @Autowired
+    private EventIntervalIndex eventIntervalIndex;
+
     /**
      * Initialize default categories
      */
@@ -71,12 +82,12 @@ public class CategoryService {
      */
     public CategoryDto createUserCategory(Long userId, String name, String description, String color) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> NotFoundException.USER);
 
         // Check if user already has a category with this name
         List<Category> existingCategories = categoryRepository.findByUserIdAndName(userId, name);
         if (!existingCategories.isEmpty()) {
-            throw new RuntimeException("Category with this name already exists");
+            throw ConflictException.CATEGORY_NAME_TAKEN;
         }
 
         Category category = new Category();
@@ -96,23 +107,23 @@ public class CategoryService {
      */
     public CategoryDto updateUserCategory(Long userId, Long categoryId, String name, String description, String color) {
         Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new RuntimeException("Category not found"));
+                .orElseThrow(() -> NotFoundException.CATEGORY);
 
         // Check if it's a default category
         if (category.getIsDefault()) {
-            throw new RuntimeException("Cannot modify default categories");
+            throw ForbiddenException.DEFAULT_CATEGORY_MODIFY;
         }
 
         // Check if user owns this category
         if (category.getUser() == null || !category.getUser().getId().equals(userId)) {
-            throw new RuntimeException("You don't have permission to modify this category");
+            throw ForbiddenException.CATEGORY_MODIFY;
         }
 
         // Check if name is being changed and conflicts with existing
         if (name != null && !name.equals(category.getName())) {
             List<Category> existingCategories = categoryRepository.findByUserIdAndName(userId, name);
             if (!existingCategories.isEmpty()) {
-                throw new RuntimeException("Category with this name already exists");
+                throw ConflictException.CATEGORY_NAME_TAKEN;
             }
             category.setName(name);
         }
@@ -126,6 +137,8 @@ public class CategoryService {
         }
 
         Category updatedCategory = categoryRepository.save(category);
+        userDataVersions.bump(userId);
+        eventIntervalIndex.invalidate(userId);
         return convertToDto(updatedCategory);
     }
 
@@ -134,21 +147,23 @@ public class CategoryService {
      */
     public void deleteUserCategory(Long userId, Long categoryId) {
         Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new RuntimeException("Category not found"));
+                .orElseThrow(() -> NotFoundException.CATEGORY);
 
         // Check if it's a default category
         if (category.getIsDefault()) {
-            throw new RuntimeException("Cannot delete default categories");
+            throw ForbiddenException.DEFAULT_CATEGORY_DELETE;
         }
 
         // Check if user owns this category
         if (category.getUser() == null || !category.getUser().getId().equals(userId)) {
-            throw new RuntimeException("You don't have permission to delete this category");
+            throw ForbiddenException.CATEGORY_DELETE;
         }
 
         // Soft delete by setting isActive to false
         category.setIsActive(false);
         categoryRepository.save(category);
+        userDataVersions.bump(userId);
+        eventIntervalIndex.invalidate(userId);
     }
 
     /**
@@ -156,7 +171,20 @@ public class CategoryService {
      */
     public CategoryDto getCategoryById(Long categoryId) {
         Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new RuntimeException("Category not found"));
+                .orElseThrow(() -> NotFoundException.CATEGORY);
+        return convertToDto(category);
+    }
+
+    /**
+     * Get a category the user can see: a default category or one of their own.
+     * Other users' categories are reported as not found.
+     */
+    public CategoryDto getCategoryById(Long userId, Long categoryId) {
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> NotFoundException.CATEGORY);
+        if (!category.getIsDefault() && (category.getUser() == null || !category.getUser().getId().equals(userId))) {
+            throw NotFoundException.CATEGORY;
+        }
         return convertToDto(category);
     }
 
@@ -1,26 +1,46 @@
 package com.sonic.sonictaskhub.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.sonic.sonictaskhub.model.dto.EventDto;
 import com.sonic.sonictaskhub.model.entity.Category;
 import com.sonic.sonictaskhub.model.entity.Event;
 import com.sonic.sonictaskhub.model.entity.User;
+import com.sonic.sonictaskhub.model.enums.ChangeEntityType;
 import com.sonic.sonictaskhub.model.enums.RecurringPattern;
 import com.sonic.sonictaskhub.model.request.EventCreateRequest;
 import com.sonic.sonictaskhub.repository.CategoryRepository;
 import com.sonic.sonictaskhub.repository.EventRepository;
 import com.sonic.sonictaskhub.repository.UserRepository;
+import com.sonic.sonictaskhub.service.cache.EventIntervalIndex;
+import com.sonic.sonictaskhub.service.cache.EventIntervalIndex.IndexedEvent;
+import com.sonic.sonictaskhub.service.cache.EventIntervalIndex.UserEvents;
+import com.sonic.sonictaskhub.service.cache.QueryResultCache;
+import com.sonic.sonictaskhub.service.cache.UserDataVersions;
+import com.sonic.sonictaskhub.service.change.ChangePublisher;
+import com.sonic.sonictaskhub.service.exception.NotFoundException;
+import com.sonic.sonictaskhub.service.exception.ValidationException;
+import com.sonic.sonictaskhub.service.recurrence.RecurrenceExpander;
+import com.sonic.sonictaskhub.service.support.EntityStreamer;
+import com.sonic.sonictaskhub.service.support.FieldSelection;
 
 @Service
 @Transactional
@@ -35,6 +55,29 @@ public class EventService {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private QueryResultCache queryResultCache;
+
+    @Autowired
+    private UserDataVersions userDataVersions;
+
+    @Autowired
+    private ChangePublisher changePublisher;
+
+    @Autowired
+    private EntityStreamer entityStreamer;
+
+    @Autowired
+    private RecurrenceExpander recurrenceExpander;
+
+    @Autowired
+    private EventIntervalIndex eventIntervalIndex;
+
+    @Value("${sonic.events.max-range:400d}")
+    private Duration maxRange;
+
+    private static final int MAX_UPCOMING = 100;
+
     /**
      * Generate next event number for user
      */
@@ -49,15 +92,15 @@ public class EventService {
     public EventDto createEvent(Long userId, EventCreateRequest request) {
         // Validate
         if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
-            throw new RuntimeException("Event title is required");
+            throw ValidationException.EVENT_TITLE_REQUIRED;
         }
         if (request.getEventDateTime() == null) {
-            throw new RuntimeException("Event date and time is required");
+            throw ValidationException.EVENT_DATE_REQUIRED;
         }
 
         // Get user
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> NotFoundException.USER);
 
         // Create master event
         Event event = new Event();
@@ -73,156 +116,242 @@ public class EventService {
         // Set category
         if (request.getCategoryId() != null) {
             Category category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new RuntimeException("Category not found"));
+                    .orElseThrow(() -> NotFoundException.CATEGORY);
             event.setCategory(category);
         }
 
         // Handle recurring
-        if (event.getIsRecurring() && request.getRecurringPattern() != null) {
-            RecurringPattern pattern = RecurringPattern.valueOf(request.getRecurringPattern().toUpperCase());
-            event.setRecurringPattern(pattern);
-            event.setRecurringInterval(request.getRecurringInterval());
-            event.setRecurringEndDate(request.getRecurringEndDate());
+        if (event.getIsRecurring()) {
+            applyRecurrence(event, request);
         }
 
+        // A recurring event is stored once; its occurrences are expanded when read
         Event savedEvent = eventRepository.save(event);
-        
-        // Generate recurring instances if needed
-        if (savedEvent.getIsRecurring()) {
-            generateRecurringInstances(savedEvent);
-        }
+        userDataVersions.bump(userId);
+        eventIntervalIndex.put(userId, toIndexed(savedEvent));
+        changePublisher.created(userId, ChangeEntityType.EVENT, savedEvent.getId());
         
         return convertToDto(savedEvent);
     }
 
     /**
-     * Generate recurring event instances
+     * Copy the recurrence from the request; an RRULE is validated and stored in canonical form
      */
-    private void generateRecurringInstances(Event masterEvent) {
-        if (!masterEvent.getIsRecurring() || masterEvent.getRecurringPattern() == null) {
+    private void applyRecurrence(Event event, EventCreateRequest request) {
+        if (request.getRecurrenceRule() != null && !request.getRecurrenceRule().isBlank()) {
+            event.setRecurrenceRule(recurrenceExpander.compile(request.getRecurrenceRule()).toString());
+        } else if (request.getRecurringPattern() != null) {
+            event.setRecurringPattern(RecurringPattern.valueOf(request.getRecurringPattern().toUpperCase()));
+            event.setRecurringInterval(request.getRecurringInterval());
+        } else {
             return;
         }
-
-        List<Event> instances = new ArrayList<>();
-        LocalDateTime currentDate = masterEvent.getEventDateTime();
-        LocalDateTime endDate = masterEvent.getRecurringEndDate() != null ? 
-            masterEvent.getRecurringEndDate() : currentDate.plusYears(2); // Default 2 years
-
-        int generatedCount = 0;
-        int maxInstances = 100; // Prevent infinite generation
-
-        while (currentDate.isBefore(endDate) && generatedCount < maxInstances) {
-            currentDate = getNextOccurrence(currentDate, masterEvent.getRecurringPattern(), 
-                                          masterEvent.getRecurringInterval());
-            
-            if (currentDate.isBefore(endDate)) {
-                Event instance = createEventInstance(masterEvent, currentDate);
-                instances.add(instance);
-                generatedCount++;
-            }
-        }
-
-        if (!instances.isEmpty()) {
-            eventRepository.saveAll(instances);
-        }
+        event.setRecurringEndDate(request.getRecurringEndDate());
     }
 
     /**
-     * Calculate next occurrence based on pattern
+     * Create an override row replacing one occurrence of the series
      */
-    private LocalDateTime getNextOccurrence(LocalDateTime current, RecurringPattern pattern, Integer interval) {
-        if (interval == null) interval = 1;
-
-        switch (pattern) {
-            case DAILY:
-                return current.plusDays(1);
-            case WEEKLY:
-                return current.plusWeeks(1);
-            case MONTHLY:
-                return current.plusMonths(1);
-            case YEARLY:
-                return current.plusYears(1);
-            case EVERY_N_DAYS:
-                return current.plusDays(interval);
-            case EVERY_N_WEEKS:
-                return current.plusWeeks(interval);
-            default:
-                return current.plusDays(1);
-        }
+    private Event createOverride(Event masterEvent, LocalDateTime occurrence) {
+        Event override = new Event();
+        override.setEventNumber(generateEventNumber(masterEvent.getUser().getId()));
+        override.setTitle(masterEvent.getTitle());
+        override.setDescription(masterEvent.getDescription());
+        override.setEventDateTime(occurrence);
+        override.setLocation(masterEvent.getLocation());
+        override.setReminderMinutes(masterEvent.getReminderMinutes());
+        override.setIsRecurring(false); // Overrides are not recurring
+        override.setUser(masterEvent.getUser());
+        override.setCategory(masterEvent.getCategory());
+        override.setMasterEvent(masterEvent);
+        override.setOriginalDateTime(occurrence);
+        return override;
     }
 
     /**
-     * Create an event instance from master event
+     * Get events with filters and pagination
      */
-    private Event createEventInstance(Event masterEvent, LocalDateTime dateTime) {
-        Event instance = new Event();
-        instance.setEventNumber(generateEventNumber(masterEvent.getUser().getId()));
-        instance.setTitle(masterEvent.getTitle());
-        instance.setDescription(masterEvent.getDescription());
-        instance.setEventDateTime(dateTime);
-        instance.setLocation(masterEvent.getLocation());
-        instance.setReminderMinutes(masterEvent.getReminderMinutes());
-        instance.setIsRecurring(false); // Instances are not recurring
-        instance.setUser(masterEvent.getUser());
-        instance.setCategory(masterEvent.getCategory());
-        instance.setMasterEvent(masterEvent);
-        return instance;
+    public Page<EventDto> getEventsWithFilters(Long userId, Long categoryId, String search, 
+                                             int page, int size, String sortBy, String sortDirection) {
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        String normalizedSearch = QueryResultCache.normalizeSearch(search);
+
+        return queryResultCache.get(userId, "event", () -> {
+            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+            Page<Event> events = eventRepository.findWithFilters(userId, categoryId, normalizedSearch, pageable);
+            return events.map(this::convertToDto);
+        }, categoryId, normalizedSearch, page, size, sortBy, direction);
     }
 
     /**
-     * Get events with filters and pagination
+     * Stream events with filters to the consumer, one DTO at a time and without paging
      */
-    public Page<EventDto> getEventsWithFilters(Long userId, Long categoryId, String search, 
-                                             int page, int size, String sortBy, String sortDirection) {
+    @Transactional(readOnly = true)
+    public void streamEventsWithFilters(Long userId, Long categoryId, String search, String sortBy,
+                                        String sortDirection, Consumer<EventDto> consumer) {
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<Event> events = eventRepository.findWithFilters(userId, categoryId, search, pageable);
-        return events.map(this::convertToDto);
+        entityStreamer.forEach(eventRepository.streamWithFilters(userId, categoryId,
+                QueryResultCache.normalizeSearch(search), sort), this::convertToDto, consumer);
     }
 
     /**
      * Get event by ID
      */
     public EventDto getEventById(Long userId, Long eventId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
-        
-        if (!event.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Event doesn't belong to this user");
-        }
+        Event event = eventRepository.findByIdAndUserId(eventId, userId)
+                .orElseThrow(() -> NotFoundException.EVENT);
         
         return convertToDto(event);
     }
 
     /**
-     * Get events in date range
+     * Get events in date range, with recurring series expanded into their occurrences.
+     * Served from the user's in-memory event index.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<EventDto> getEventsInDateRange(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
-        List<Event> events = eventRepository.findEventsInDateRange(userId, startDate, endDate);
-        return events.stream()
-                .map(this::convertToDto)
-                .collect(java.util.stream.Collectors.toList());
+        if (endDate.isBefore(startDate)) {
+            throw ValidationException.EVENT_RANGE_INVALID;
+        }
+        if (Duration.between(startDate, endDate).compareTo(maxRange) > 0) {
+            throw new ValidationException("Date range cannot exceed " + maxRange.toDays() + " days", "EVENT_RANGE_TOO_LARGE");
+        }
+
+        UserEvents index = eventIntervalIndex.get(userId, this::loadIndex);
+        List<EventDto> events = new ArrayList<>();
+        index.forEachSingle(startDate, endDate, event -> events.add(new EventDto(event)));
+        index.forEachSeries(startDate, endDate, master -> {
+            Set<LocalDateTime> skip = index.replaced(master.getId());
+            for (LocalDateTime occurrence : recurrenceExpander.occurrences(master, startDate, endDate, Integer.MAX_VALUE)) {
+                if (!skip.contains(occurrence)) {
+                    events.add(convertToOccurrenceDto(master, occurrence));
+                }
+            }
+        });
+
+        events.sort(Comparator.comparing(EventDto::getEventDateTime));
+        return events;
     }
 
     /**
-     * Delete an event
+     * Get the next events from now on, with recurring series expanded into their occurrences.
+     * Served from the user's in-memory event index.
      */
-    public void deleteEvent(Long userId, Long eventId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<EventDto> getUpcomingEvents(Long userId, int limit) {
+        if (limit < 1 || limit > MAX_UPCOMING) {
+            throw ValidationException.EVENT_LIMIT_INVALID;
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        UserEvents index = eventIntervalIndex.get(userId, this::loadIndex);
+        List<EventDto> events = new ArrayList<>();
+        index.singlesFrom(now, limit).forEach(event -> events.add(new EventDto(event)));
+        index.forEachSeries(now, null, master -> {
+            Set<LocalDateTime> skip = index.replaced(master.getId());
+            // Each skipped occurrence may cost one of the first limit, so ask for that many more
+            List<LocalDateTime> occurrences = recurrenceExpander.occurrences(master, now, LocalDateTime.MAX,
+                    limit + skip.size());
+            int added = 0;
+            for (int i = 0; i < occurrences.size() && added < limit; i++) {
+                if (!skip.contains(occurrences.get(i))) {
+                    events.add(convertToOccurrenceDto(master, occurrences.get(i)));
+                    added++;
+                }
+            }
+        });
+
+        events.sort(Comparator.comparing(EventDto::getEventDateTime));
+        return events.size() > limit ? new ArrayList<>(events.subList(0, limit)) : events;
+    }
 
-        if (!event.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Event doesn't belong to this user");
+    /**
+     * Every event row of the user, with all fields, for the event index
+     */
+    private List<IndexedEvent> loadIndex(Long userId) {
+        return eventRepository.findAllForIndex(userId).stream().map(this::toIndexed).toList();
+    }
+
+    private IndexedEvent toIndexed(Event event) {
+        return new IndexedEvent(convertToDto(event, FieldSelection.ALL), Boolean.TRUE.equals(event.getIsCancelled()));
+    }
+
+    /**
+     * Edit a single occurrence of a recurring event, leaving the rest of the series unchanged
+     */
+    public EventDto updateOccurrence(Long userId, Long eventId, LocalDateTime occurrence, EventCreateRequest request) {
+        if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
+            throw ValidationException.EVENT_TITLE_REQUIRED;
+        }
+        if (request.getEventDateTime() == null) {
+            throw ValidationException.EVENT_DATE_REQUIRED;
+        }
+
+        Event override = findOrCreateOverride(userId, eventId, occurrence);
+        override.setTitle(request.getTitle().trim());
+        override.setDescription(request.getDescription());
+        override.setEventDateTime(request.getEventDateTime());
+        override.setLocation(request.getLocation());
+        override.setReminderMinutes(request.getReminderMinutes());
+        override.setIsCancelled(false);
+        if (request.getCategoryId() != null) {
+            Category category = categoryRepository.findById(request.getCategoryId())
+                    .orElseThrow(() -> NotFoundException.CATEGORY);
+            override.setCategory(category);
+        } else {
+            override.setCategory(null);
         }
 
-        // If it's a master event, delete all instances
+        Event savedOverride = eventRepository.save(override);
+        userDataVersions.bump(userId);
+        eventIntervalIndex.put(userId, toIndexed(savedOverride));
+        changePublisher.updated(userId, ChangeEntityType.EVENT, eventId);
+        return convertToDto(savedOverride);
+    }
+
+    /**
+     * Remove a single occurrence from a recurring event
+     */
+    public void cancelOccurrence(Long userId, Long eventId, LocalDateTime occurrence) {
+        Event override = findOrCreateOverride(userId, eventId, occurrence);
+        override.setIsCancelled(true);
+        Event savedOverride = eventRepository.save(override);
+        userDataVersions.bump(userId);
+        eventIntervalIndex.put(userId, toIndexed(savedOverride));
+        changePublisher.updated(userId, ChangeEntityType.EVENT, eventId);
+    }
+
+    private Event findOrCreateOverride(Long userId, Long eventId, LocalDateTime occurrence) {
+        Event master = eventRepository.findByIdAndUserId(eventId, userId)
+                .orElseThrow(() -> NotFoundException.EVENT);
+        if (!master.getIsRecurring()) {
+            throw ValidationException.EVENT_NOT_RECURRING;
+        }
+        return eventRepository.findOverride(eventId, occurrence)
+                .orElseGet(() -> {
+                    if (!recurrenceExpander.occursAt(master, occurrence)) {
+                        throw NotFoundException.EVENT_OCCURRENCE;
+                    }
+                    return createOverride(master, occurrence);
+                });
+    }
+
+    /**
+     * Delete an event
+     */
+    public void deleteEvent(Long userId, Long eventId) {
+        Event event = eventRepository.findByIdAndUserId(eventId, userId)
+                .orElseThrow(() -> NotFoundException.EVENT);
+
+        // If it's a master event, delete its edited and cancelled occurrences
         if (event.getIsRecurring()) {
-            List<Event> instances = eventRepository.findInstancesByMasterEventId(eventId);
-            eventRepository.deleteAll(instances);
+            eventRepository.deleteByMasterEventId(eventId);
         }
 
         eventRepository.delete(event);
+        userDataVersions.bump(userId);
+        eventIntervalIndex.remove(userId, eventId);
+        changePublisher.deleted(userId, ChangeEntityType.EVENT, eventId);
     }
     
     /**
@@ -231,19 +360,16 @@ public class EventService {
     public EventDto updateEvent(Long userId, Long eventId, EventCreateRequest request) {
         // Validate
         if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
-            throw new RuntimeException("Event title is required");
+            throw ValidationException.EVENT_TITLE_REQUIRED;
         }
         if (request.getEventDateTime() == null) {
-            throw new RuntimeException("Event date and time is required");
+            throw ValidationException.EVENT_DATE_REQUIRED;
         }
 
         // Find existing event
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
-
-        if (!event.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Event doesn't belong to this user");
-        }
+        Event event = eventRepository.findByIdAndUserId(eventId, userId)
+                .orElseThrow(() -> NotFoundException.EVENT);
+        SeriesFields before = SeriesFields.of(event);
 
         // Update event fields
         event.setTitle(request.getTitle().trim());
@@ -256,34 +382,125 @@ public class EventService {
         // Update category
         if (request.getCategoryId() != null) {
             Category category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new RuntimeException("Category not found"));
+                    .orElseThrow(() -> NotFoundException.CATEGORY);
             event.setCategory(category);
         } else {
             event.setCategory(null);
         }
 
         // Handle recurring
-        if (event.getIsRecurring() && request.getRecurringPattern() != null) {
-            RecurringPattern pattern = RecurringPattern.valueOf(request.getRecurringPattern().toUpperCase());
-            event.setRecurringPattern(pattern);
-            event.setRecurringInterval(request.getRecurringInterval());
-            event.setRecurringEndDate(request.getRecurringEndDate());
-        } else {
-            event.setRecurringPattern(null);
-            event.setRecurringInterval(null);
-            event.setRecurringEndDate(null);
+        event.setRecurringPattern(null);
+        event.setRecurringInterval(null);
+        event.setRecurringEndDate(null);
+        event.setRecurrenceRule(null);
+        if (event.getIsRecurring()) {
+            applyRecurrence(event, request);
         }
 
         Event updatedEvent = eventRepository.save(event);
+        List<Event> overrides = Boolean.TRUE.equals(before.isRecurring())
+                ? reconcileOverrides(updatedEvent, before) : null;
+        userDataVersions.bump(userId);
+        if (overrides != null) {
+            eventIntervalIndex.putSeries(userId, toIndexed(updatedEvent), overrides.stream().map(this::toIndexed).toList());
+        } else {
+            eventIntervalIndex.put(userId, toIndexed(updatedEvent));
+        }
+        changePublisher.updated(userId, ChangeEntityType.EVENT, updatedEvent.getId());
         return convertToDto(updatedEvent);
     }
+
+    /**
+     * Bring the overrides of a series in line with an update to it.
+     *
+     * Fields an override still shares with the series follow it in one bulk UPDATE
+     * (a second one for the category); fields edited on the occurrence keep their value. If the schedule changed, an
+     * override whose occurrence still exists is kept, one whose occurrence moved
+     * with the series start is moved along, and the rest are deleted. Moves are
+     * flushed as one JDBC batch and deletes run as a single statement.
+     *
+     * @return the overrides remaining, or null if none of them changed
+     */
+    private List<Event> reconcileOverrides(Event master, SeriesFields before) {
+        SeriesFields after = SeriesFields.of(master);
+        boolean contentChanged = !before.sameContent(after);
+        boolean scheduleChanged = !before.sameSchedule(after);
+        if (!contentChanged && !scheduleChanged) {
+            return null;
+        }
+        if (contentChanged) {
+            LocalDateTime now = LocalDateTime.now();
+            int propagated = eventRepository.propagateToOverrides(master.getId(),
+                    before.title(), master.getTitle(), before.description(), master.getDescription(),
+                    before.location(), master.getLocation(), before.reminderMinutes(), master.getReminderMinutes(), now);
+            if (!Objects.equals(before.categoryId(), after.categoryId())) {
+                propagated += eventRepository.propagateCategoryToOverrides(master.getId(), before.categoryId(),
+                        master.getCategory(), now);
+            }
+            if (propagated == 0 && !scheduleChanged) {
+                return null;
+            }
+        }
+
+        List<Event> overrides = eventRepository.findOverrides(master.getId());
+        if (!scheduleChanged || overrides.isEmpty()) {
+            return overrides;
+        }
+
+        // Keep overrides whose occurrence still exists first, so a moved one cannot take its place
+        Set<LocalDateTime> taken = new HashSet<>();
+        List<Event> remaining = new ArrayList<>();
+        List<Event> unmatched = new ArrayList<>();
+        for (Event override : overrides) {
+            LocalDateTime original = originalOf(override);
+            if (master.getIsRecurring() && recurrenceExpander.occursAt(master, original)) {
+                taken.add(original);
+                remaining.add(override);
+            } else {
+                unmatched.add(override);
+            }
+        }
+
+        Duration shift = Duration.between(before.start(), master.getEventDateTime());
+        List<Event> orphaned = new ArrayList<>();
+        boolean moved = false;
+        for (Event override : unmatched) {
+            LocalDateTime original = originalOf(override);
+            LocalDateTime shifted = original.plus(shift);
+            if (master.getIsRecurring() && !shift.isZero() && !taken.contains(shifted)
+                    && recurrenceExpander.occursAt(master, shifted)) {
+                // A time the occurrence was not edited away from moves with it
+                if (!Boolean.TRUE.equals(override.getIsCancelled()) && override.getEventDateTime().equals(original)) {
+                    override.setEventDateTime(shifted);
+                }
+                override.setOriginalDateTime(shifted);
+                taken.add(shifted);
+                remaining.add(override);
+                moved = true;
+            } else {
+                orphaned.add(override);
+            }
+        }
+
+        if (moved) {
+            eventRepository.flush();
+        }
+        if (!orphaned.isEmpty()) {
+            eventRepository.deleteAllInBatch(orphaned);
+        }
+        return remaining;
+    }
+
+    private static LocalDateTime originalOf(Event override) {
+        return override.getOriginalDateTime() != null ? override.getOriginalDateTime() : override.getEventDateTime();
+    }
     
     /**
      * Get event by number
      */
     public EventDto getEventByNumber(Long userId, Long eventNumber) {
         Event event = eventRepository.findByUserIdAndEventNumber(userId, eventNumber)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
+                .orElseThrow(() -> NotFoundException.EVENT);
         return convertToDto(event);
     }
 
@@ -291,6 +508,10 @@ public class EventService {
      * Convert Event entity to EventDto
      */
     private EventDto convertToDto(Event event) {
+        return convertToDto(event, FieldSelection.current());
+    }
+
+    private EventDto convertToDto(Event event, FieldSelection fields) {
         EventDto dto = new EventDto();
         dto.setId(event.getId());
         dto.setEventNumber(event.getEventNumber());
@@ -303,6 +524,7 @@ public class EventService {
         dto.setRecurringPattern(event.getRecurringPattern());
         dto.setRecurringInterval(event.getRecurringInterval());
         dto.setRecurringEndDate(event.getRecurringEndDate());
+        dto.setRecurrenceRule(event.getRecurrenceRule());
         dto.setSortOrder(event.getSortOrder());
         dto.setCreatedAt(event.getCreatedAt());
         dto.setUpdatedAt(event.getUpdatedAt());
@@ -310,22 +532,73 @@ public class EventService {
         // User info
         if (event.getUser() != null) {
             dto.setUserId(event.getUser().getId());
-            dto.setUserDisplayName(event.getUser().getDisplayName());
+            if (fields.includes("userDisplayName")) {
+                dto.setUserDisplayName(event.getUser().getDisplayName());
+            }
         }
 
         // Category info
         if (event.getCategory() != null) {
             dto.setCategoryId(event.getCategory().getId());
-            dto.setCategoryName(event.getCategory().getName());
-            dto.setCategoryColor(event.getCategory().getColor());
+            if (fields.includesAny("categoryName", "categoryColor")) {
+                dto.setCategoryName(event.getCategory().getName());
+                dto.setCategoryColor(event.getCategory().getColor());
+            }
         }
 
         // Master event info
         if (event.getMasterEvent() != null) {
             dto.setMasterEventId(event.getMasterEvent().getId());
-            dto.setMasterEventTitle(event.getMasterEvent().getTitle());
+            if (fields.includes("masterEventTitle")) {
+                dto.setMasterEventTitle(event.getMasterEvent().getTitle());
+            }
+            dto.setOccurrenceDateTime(event.getOriginalDateTime());
         }
 
         return dto;
     }
-}
\ No newline at end of file
+
+    /**
+     * Convert one unedited occurrence of a recurring event; it has no row of its own
+     */
+    private EventDto convertToOccurrenceDto(EventDto masterEvent, LocalDateTime occurrence) {
+        EventDto dto = new EventDto(masterEvent);
+        dto.setId(null);
+        dto.setEventNumber(null);
+        dto.setEventDateTime(occurrence);
+        dto.setOccurrenceDateTime(occurrence);
+        dto.setMasterEventId(masterEvent.getId());
+        dto.setMasterEventTitle(masterEvent.getTitle());
+        return dto;
+    }
+
+    /**
+     * The fields of a series that its overrides copy or are matched against, taken before an update
+     */
+    private record SeriesFields(String title, String description, String location, Integer reminderMinutes,
+                                Long categoryId, LocalDateTime start, Boolean isRecurring, String recurrenceRule,
+                                RecurringPattern recurringPattern, Integer recurringInterval,
+                                LocalDateTime recurringEndDate) {
+
+        static SeriesFields of(Event event) {
+            return new SeriesFields(event.getTitle(), event.getDescription(), event.getLocation(),
+                    event.getReminderMinutes(), event.getCategory() != null ? event.getCategory().getId() : null,
+                    event.getEventDateTime(), event.getIsRecurring(), event.getRecurrenceRule(),
+                    event.getRecurringPattern(), event.getRecurringInterval(), event.getRecurringEndDate());
+        }
+
+        boolean sameContent(SeriesFields other) {
+            return Objects.equals(title, other.title) && Objects.equals(description, other.description)
+                    && Objects.equals(location, other.location) && Objects.equals(reminderMinutes, other.reminderMinutes)
+                    && Objects.equals(categoryId, other.categoryId);
+        }
+
+        boolean sameSchedule(SeriesFields other) {
+            return Objects.equals(start, other.start) && Objects.equals(isRecurring, other.isRecurring)
+                    && Objects.equals(recurrenceRule, other.recurrenceRule)
+                    && Objects.equals(recurringPattern, other.recurringPattern)
+                    && Objects.equals(recurringInterval, other.recurringInterval)
+                    && Objects.equals(recurringEndDate, other.recurringEndDate);
+        }
+    }
+}
@@ -11,8 +11,13 @@ import org.springframework.transaction.annotation.Transactional;
 import com.sonic.sonictaskhub.model.dto.HabitProgressDto;
 import com.sonic.sonictaskhub.model.entity.Habit;
 import com.sonic.sonictaskhub.model.entity.HabitProgress;
+import com.sonic.sonictaskhub.model.enums.ChangeEntityType;
 import com.sonic.sonictaskhub.repository.HabitProgressRepository;
 import com.sonic.sonictaskhub.repository.HabitRepository;
+import com.sonic.sonictaskhub.service.cache.UserDataVersions;
+import com.sonic.sonictaskhub.service.change.ChangePublisher;
+import com.sonic.sonictaskhub.service.exception.ConflictException;
+import com.sonic.sonictaskhub.service.exception.NotFoundException;
 
 @Service
 @Transactional
@@ -24,22 +29,24 @@ public class HabitProgressService {
     @Autowired
     private HabitRepository habitRepository;
 
+    @Autowired
+    private UserDataVersions userDataVersions;
+
+    @Autowired
+    private ChangePublisher changePublisher;
+
     /**
      * Log habit progress
      */
     public HabitProgressDto logProgress(Long userId, Long habitId, LocalDate sessionDate, 
                                       Integer duration, String notes, Double progressValue, String progressUnit) {
-        Habit habit = habitRepository.findById(habitId)
-                .orElseThrow(() -> new RuntimeException("Habit not found"));
-
-        if (!habit.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Habit doesn't belong to this user");
-        }
+        Habit habit = habitRepository.findByIdAndUserId(habitId, userId)
+                .orElseThrow(() -> NotFoundException.HABIT);
 
         // Check if progress already exists for this date
         habitProgressRepository.findByHabitIdAndSessionDate(habitId, sessionDate)
                 .ifPresent(existing -> {
-                    throw new RuntimeException("Progress already logged for this date");
+                    throw ConflictException.PROGRESS_ALREADY_LOGGED;
                 });
 
         HabitProgress progress = new HabitProgress();
@@ -51,6 +58,8 @@ public class HabitProgressService {
         progress.setProgressUnit(progressUnit);
 
         HabitProgress savedProgress = habitProgressRepository.save(progress);
+        userDataVersions.bump(userId);
+        changePublisher.created(userId, ChangeEntityType.HABIT_PROGRESS, savedProgress.getId());
         return convertToDto(savedProgress);
     }
 
@@ -58,11 +67,8 @@ public class HabitProgressService {
      * Get progress for habit
      */
     public List<HabitProgressDto> getProgressForHabit(Long userId, Long habitId) {
-        Habit habit = habitRepository.findById(habitId)
-                .orElseThrow(() -> new RuntimeException("Habit not found"));
-
-        if (!habit.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Habit doesn't belong to this user");
+        if (!habitRepository.existsByIdAndUserId(habitId, userId)) {
+            throw NotFoundException.HABIT;
         }
 
         List<HabitProgress> progressList = habitProgressRepository.findByHabitIdOrderBySessionDateDesc(habitId);
@@ -76,11 +82,8 @@ public class HabitProgressService {
      */
     public List<HabitProgressDto> getProgressInDateRange(Long userId, Long habitId, 
                                                        LocalDate startDate, LocalDate endDate) {
-        Habit habit = habitRepository.findById(habitId)
-                .orElseThrow(() -> new RuntimeException("Habit not found"));
-
-        if (!habit.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Habit doesn't belong to this user");
+        if (!habitRepository.existsByIdAndUserId(habitId, userId)) {
+            throw NotFoundException.HABIT;
         }
 
         List<HabitProgress> progressList = habitProgressRepository.findByHabitIdAndDateRange(habitId, startDate, endDate);
@@ -93,14 +96,13 @@ public class HabitProgressService {
      * Delete progress entry
      */
     public void deleteProgress(Long userId, Long progressId) {
-        HabitProgress progress = habitProgressRepository.findById(progressId)
-                .orElseThrow(() -> new RuntimeException("Progress entry not found"));
-
-        if (!progress.getHabit().getUser().getId().equals(userId)) {
-            throw new RuntimeException("Progress entry doesn't belong to this user");
+        // Resolves ownership through the habit inside the DELETE itself
+        if (habitProgressRepository.deleteForUser(progressId, userId) == 0) {
+            throw NotFoundException.HABIT_PROGRESS;
         }
 
-        habitProgressRepository.delete(progress);
+        userDataVersions.bump(userId);
+        changePublisher.deleted(userId, ChangeEntityType.HABIT_PROGRESS, progressId);
     }
 
     /**
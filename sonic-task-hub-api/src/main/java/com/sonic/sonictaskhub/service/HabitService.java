@@ -1,5 +1,7 @@
 package com.sonic.sonictaskhub.service;
 
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,12 +16,20 @@ import com.sonic.sonictaskhub.model.dto.HabitDto;
 import com.sonic.sonictaskhub.model.entity.Category;
 import com.sonic.sonictaskhub.model.entity.Habit;
 import com.sonic.sonictaskhub.model.entity.User;
+import com.sonic.sonictaskhub.model.enums.ChangeEntityType;
 import com.sonic.sonictaskhub.model.enums.HabitStatus;
 import com.sonic.sonictaskhub.model.request.HabitCreateRequest;
 import com.sonic.sonictaskhub.repository.CategoryRepository;
 import com.sonic.sonictaskhub.repository.HabitProgressRepository;
 import com.sonic.sonictaskhub.repository.HabitRepository;
 import com.sonic.sonictaskhub.repository.UserRepository;
+import com.sonic.sonictaskhub.service.cache.QueryResultCache;
+import com.sonic.sonictaskhub.service.cache.UserDataVersions;
+import com.sonic.sonictaskhub.service.change.ChangePublisher;
+import com.sonic.sonictaskhub.service.exception.NotFoundException;
+import com.sonic.sonictaskhub.service.exception.ValidationException;
+import com.sonic.sonictaskhub.service.support.EntityStreamer;
+import com.sonic.sonictaskhub.service.support.FieldSelection;
 
 @Service
 @Transactional
@@ -37,6 +47,18 @@ public class HabitService {
     @Autowired
     private HabitProgressRepository habitProgressRepository;
 
+    @Autowired
+    private QueryResultCache queryResultCache;
+
+    @Autowired
+    private UserDataVersions userDataVersions;
+
+    @Autowired
+    private ChangePublisher changePublisher;
+
+    @Autowired
+    private EntityStreamer entityStreamer;
+
     /**
      * Generate next habit number for user
      */
@@ -51,12 +73,12 @@ public class HabitService {
     public HabitDto createHabit(Long userId, HabitCreateRequest request) {
         // Validate
         if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
-            throw new RuntimeException("Habit title is required");
+            throw ValidationException.HABIT_TITLE_REQUIRED;
         }
 
         // Get user
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> NotFoundException.USER);
 
         // Create habit
         Habit habit = new Habit();
@@ -70,11 +92,13 @@ public class HabitService {
         // Set category
         if (request.getCategoryId() != null) {
             Category category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new RuntimeException("Category not found"));
+                    .orElseThrow(() -> NotFoundException.CATEGORY);
             habit.setCategory(category);
         }
 
         Habit savedHabit = habitRepository.save(habit);
+        userDataVersions.bump(userId);
+        changePublisher.created(userId, ChangeEntityType.HABIT, savedHabit.getId());
         return convertToDto(savedHabit);
     }
 
@@ -83,23 +107,34 @@ public class HabitService {
      */
     public Page<HabitDto> getHabitsWithFilters(Long userId, HabitStatus status, Long categoryId, 
                                              String search, int page, int size, String sortBy, String sortDirection) {
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        String normalizedSearch = QueryResultCache.normalizeSearch(search);
+
+        return queryResultCache.get(userId, "habit", () -> {
+            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+            Page<Habit> habits = habitRepository.findWithFilters(userId, status, categoryId, normalizedSearch, pageable);
+            return habits.map(this::convertToDto);
+        }, status, categoryId, normalizedSearch, page, size, sortBy, direction);
+    }
+
+    /**
+     * Stream habits with filters to the consumer, one DTO at a time and without paging
+     */
+    @Transactional(readOnly = true)
+    public void streamHabitsWithFilters(Long userId, HabitStatus status, Long categoryId, String search,
+                                        String sortBy, String sortDirection, Consumer<HabitDto> consumer) {
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<Habit> habits = habitRepository.findWithFilters(userId, status, categoryId, search, pageable);
-        return habits.map(this::convertToDto);
+        entityStreamer.forEach(habitRepository.streamWithFilters(userId, status, categoryId,
+                QueryResultCache.normalizeSearch(search), sort),
+                row -> convertToDto((Habit) row[0], (Long) row[1]), consumer);
     }
 
     /**
      * Get habit by ID
      */
     public HabitDto getHabitById(Long userId, Long habitId) {
-        Habit habit = habitRepository.findById(habitId)
-                .orElseThrow(() -> new RuntimeException("Habit not found"));
-        
-        if (!habit.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Habit doesn't belong to this user");
-        }
+        Habit habit = habitRepository.findByIdAndUserId(habitId, userId)
+                .orElseThrow(() -> NotFoundException.HABIT);
         
         return convertToDto(habit);
     }
@@ -109,7 +144,7 @@ public class HabitService {
      */
     public HabitDto getHabitByNumber(Long userId, Long habitNumber) {
         Habit habit = habitRepository.findByUserIdAndHabitNumber(userId, habitNumber)
-                .orElseThrow(() -> new RuntimeException("Habit not found"));
+                .orElseThrow(() -> NotFoundException.HABIT);
         return convertToDto(habit);
     }
 
@@ -117,30 +152,26 @@ public class HabitService {
      * Update habit status
      */
     public HabitDto updateHabitStatus(Long userId, Long habitId, HabitStatus status) {
-        Habit habit = habitRepository.findById(habitId)
-                .orElseThrow(() -> new RuntimeException("Habit not found"));
-
-        if (!habit.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Habit doesn't belong to this user");
+        // Ownership check and status change in one statement
+        if (habitRepository.updateStatusForUser(habitId, userId, status, LocalDateTime.now()) == 0) {
+            throw NotFoundException.HABIT;
         }
 
-        habit.setStatus(status);
-        Habit updatedHabit = habitRepository.save(habit);
-        return convertToDto(updatedHabit);
+        userDataVersions.bump(userId);
+        changePublisher.updated(userId, ChangeEntityType.HABIT, habitId);
+        return convertToDto(habitRepository.findById(habitId).orElseThrow(() -> NotFoundException.HABIT));
     }
 
     /**
      * Delete a habit
      */
     public void deleteHabit(Long userId, Long habitId) {
-        Habit habit = habitRepository.findById(habitId)
-                .orElseThrow(() -> new RuntimeException("Habit not found"));
-
-        if (!habit.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Habit doesn't belong to this user");
-        }
+        Habit habit = habitRepository.findByIdAndUserId(habitId, userId)
+                .orElseThrow(() -> NotFoundException.HABIT);
 
         habitRepository.delete(habit);
+        userDataVersions.bump(userId);
+        changePublisher.deleted(userId, ChangeEntityType.HABIT, habitId);
     }
     
     /**
@@ -149,16 +180,12 @@ public class HabitService {
     public HabitDto updateHabit(Long userId, Long habitId, HabitCreateRequest request) {
         // Validate
         if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
-            throw new RuntimeException("Habit title is required");
+            throw ValidationException.HABIT_TITLE_REQUIRED;
         }
 
         // Find existing habit
-        Habit habit = habitRepository.findById(habitId)
-                .orElseThrow(() -> new RuntimeException("Habit not found"));
-
-        if (!habit.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Habit doesn't belong to this user");
-        }
+        Habit habit = habitRepository.findByIdAndUserId(habitId, userId)
+                .orElseThrow(() -> NotFoundException.HABIT);
 
         // Update habit fields
         habit.setTitle(request.getTitle().trim());
@@ -169,13 +196,15 @@ public class HabitService {
         // Update category
         if (request.getCategoryId() != null) {
             Category category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new RuntimeException("Category not found"));
+                    .orElseThrow(() -> NotFoundException.CATEGORY);
             habit.setCategory(category);
         } else {
             habit.setCategory(null);
         }
 
         Habit updatedHabit = habitRepository.save(habit);
+        userDataVersions.bump(userId);
+        changePublisher.updated(userId, ChangeEntityType.HABIT, updatedHabit.getId());
         return convertToDto(updatedHabit);
     }
 
@@ -183,6 +212,14 @@ public class HabitService {
      * Convert Habit entity to HabitDto
      */
     private HabitDto convertToDto(Habit habit) {
+        return convertToDto(habit, null);
+    }
+
+    /**
+     * Convert Habit entity to HabitDto, using a progress count already read with the habit when given
+     */
+    private HabitDto convertToDto(Habit habit, Long progressCount) {
+        FieldSelection fields = FieldSelection.current();
         HabitDto dto = new HabitDto();
         dto.setId(habit.getId());
         dto.setHabitNumber(habit.getHabitNumber());
@@ -198,19 +235,27 @@ public class HabitService {
         // User info
         if (habit.getUser() != null) {
             dto.setUserId(habit.getUser().getId());
-            dto.setUserDisplayName(habit.getUser().getDisplayName());
+            if (fields.includes("userDisplayName")) {
+                dto.setUserDisplayName(habit.getUser().getDisplayName());
+            }
         }
 
         // Category info
         if (habit.getCategory() != null) {
             dto.setCategoryId(habit.getCategory().getId());
-            dto.setCategoryName(habit.getCategory().getName());
-            dto.setCategoryColor(habit.getCategory().getColor());
+            if (fields.includesAny("categoryName", "categoryColor")) {
+                dto.setCategoryName(habit.getCategory().getName());
+                dto.setCategoryColor(habit.getCategory().getColor());
+            }
         }
         
         // Calculate completed days
-        Long completedDays = habitProgressRepository.countByHabitId(habit.getId());
-        dto.setCompletedDays(completedDays != null ? completedDays.intValue() : 0);
+        if (progressCount != null) {
+            dto.setCompletedDays(progressCount.intValue());
+        } else if (fields.includes("completedDays")) {
+            Long completedDays = habitProgressRepository.countByHabitId(habit.getId());
+            dto.setCompletedDays(completedDays != null ? completedDays.intValue() : 0);
+        }
 
         return dto;
     }
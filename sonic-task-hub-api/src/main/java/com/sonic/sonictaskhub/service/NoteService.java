@@ -1,5 +1,8 @@
 package com.sonic.sonictaskhub.service;
 
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -12,12 +15,20 @@ import com.sonic.sonictaskhub.model.dto.NoteDto;
 import com.sonic.sonictaskhub.model.entity.Category;
 import com.sonic.sonictaskhub.model.entity.Note;
 import com.sonic.sonictaskhub.model.entity.User;
+import com.sonic.sonictaskhub.model.enums.ChangeEntityType;
 import com.sonic.sonictaskhub.model.enums.NoteStatus;
 import com.sonic.sonictaskhub.model.enums.Priority;
 import com.sonic.sonictaskhub.model.request.NoteCreateRequest;
 import com.sonic.sonictaskhub.repository.CategoryRepository;
 import com.sonic.sonictaskhub.repository.NoteRepository;
 import com.sonic.sonictaskhub.repository.UserRepository;
+import com.sonic.sonictaskhub.service.cache.QueryResultCache;
+import com.sonic.sonictaskhub.service.cache.UserDataVersions;
+import com.sonic.sonictaskhub.service.change.ChangePublisher;
+import com.sonic.sonictaskhub.service.exception.NotFoundException;
+import com.sonic.sonictaskhub.service.exception.ValidationException;
+import com.sonic.sonictaskhub.service.support.EntityStreamer;
+import com.sonic.sonictaskhub.service.support.FieldSelection;
 
 @Service
 @Transactional
@@ -32,6 +43,18 @@ public class NoteService {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private QueryResultCache queryResultCache;
+
+    @Autowired
+    private UserDataVersions userDataVersions;
+
+    @Autowired
+    private ChangePublisher changePublisher;
+
+    @Autowired
+    private EntityStreamer entityStreamer;
+
     /**
      * Generate next note number for user
      */
@@ -46,7 +69,7 @@ public class NoteService {
     public NoteDto createNote(Long userId, NoteCreateRequest request) {
         // Validate
         if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
-            throw new RuntimeException("Note title is required");
+            throw ValidationException.NOTE_TITLE_REQUIRED;
         }
 
         // Parse enums
@@ -55,7 +78,7 @@ public class NoteService {
 
         // Get user
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> NotFoundException.USER);
 
         // Create note
         Note note = new Note();
@@ -68,11 +91,13 @@ public class NoteService {
         // Set category
         if (request.getCategoryId() != null) {
             Category category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new RuntimeException("Category not found"));
+                    .orElseThrow(() -> NotFoundException.CATEGORY);
             note.setCategory(category);
         }
 
         Note savedNote = noteRepository.save(note);
+        userDataVersions.bump(userId);
+        changePublisher.created(userId, ChangeEntityType.NOTE, savedNote.getId());
         return convertToDto(savedNote);
     }
 
@@ -82,23 +107,34 @@ public class NoteService {
     public Page<NoteDto> getNotesWithFilters(Long userId, NoteStatus status, Priority priority, 
                                            Long categoryId, String search, int page, int size, 
                                            String sortBy, String sortDirection) {
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        String normalizedSearch = QueryResultCache.normalizeSearch(search);
+
+        return queryResultCache.get(userId, "note", () -> {
+            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+            Page<Note> notes = noteRepository.findWithFilters(userId, status, priority, categoryId, normalizedSearch, pageable);
+            return notes.map(this::convertToDto);
+        }, status, priority, categoryId, normalizedSearch, page, size, sortBy, direction);
+    }
+
+    /**
+     * Stream notes with filters to the consumer, one DTO at a time and without paging
+     */
+    @Transactional(readOnly = true)
+    public void streamNotesWithFilters(Long userId, NoteStatus status, Priority priority, Long categoryId,
+                                       String search, String sortBy, String sortDirection,
+                                       Consumer<NoteDto> consumer) {
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<Note> notes = noteRepository.findWithFilters(userId, status, priority, categoryId, search, pageable);
-        return notes.map(this::convertToDto);
+        entityStreamer.forEach(noteRepository.streamWithFilters(userId, status, priority, categoryId,
+                QueryResultCache.normalizeSearch(search), sort), this::convertToDto, consumer);
     }
 
     /**
      * Get note by ID
      */
     public NoteDto getNoteById(Long userId, Long noteId) {
-        Note note = noteRepository.findById(noteId)
-                .orElseThrow(() -> new RuntimeException("Note not found"));
-        
-        if (!note.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Note doesn't belong to this user");
-        }
+        Note note = noteRepository.findByIdAndUserId(noteId, userId)
+                .orElseThrow(() -> NotFoundException.NOTE);
         
         return convertToDto(note);
     }
@@ -108,7 +144,7 @@ public class NoteService {
      */
     public NoteDto getNoteByNumber(Long userId, Long noteNumber) {
         Note note = noteRepository.findByUserIdAndNoteNumber(userId, noteNumber)
-                .orElseThrow(() -> new RuntimeException("Note not found"));
+                .orElseThrow(() -> NotFoundException.NOTE);
         return convertToDto(note);
     }
 
@@ -116,30 +152,26 @@ public class NoteService {
      * Archive a note
      */
     public NoteDto archiveNote(Long userId, Long noteId) {
-        Note note = noteRepository.findById(noteId)
-                .orElseThrow(() -> new RuntimeException("Note not found"));
-
-        if (!note.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Note doesn't belong to this user");
+        // Ownership check and status change in one statement
+        if (noteRepository.updateStatusForUser(noteId, userId, NoteStatus.ARCHIVED, LocalDateTime.now()) == 0) {
+            throw NotFoundException.NOTE;
         }
 
-        note.setStatus(NoteStatus.ARCHIVED);
-        Note archivedNote = noteRepository.save(note);
-        return convertToDto(archivedNote);
+        userDataVersions.bump(userId);
+        changePublisher.updated(userId, ChangeEntityType.NOTE, noteId);
+        return convertToDto(noteRepository.findById(noteId).orElseThrow(() -> NotFoundException.NOTE));
     }
 
     /**
      * Delete a note
      */
     public void deleteNote(Long userId, Long noteId) {
-        Note note = noteRepository.findById(noteId)
-                .orElseThrow(() -> new RuntimeException("Note not found"));
-
-        if (!note.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Note doesn't belong to this user");
+        if (noteRepository.deleteForUser(noteId, userId) == 0) {
+            throw NotFoundException.NOTE;
         }
 
-        noteRepository.delete(note);
+        userDataVersions.bump(userId);
+        changePublisher.deleted(userId, ChangeEntityType.NOTE, noteId);
     }
     
     /**
@@ -148,16 +180,12 @@ public class NoteService {
     public NoteDto updateNote(Long userId, Long noteId, NoteCreateRequest request) {
         // Validate
         if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
-            throw new RuntimeException("Note title is required");
+            throw ValidationException.NOTE_TITLE_REQUIRED;
         }
 
         // Find existing note
-        Note note = noteRepository.findById(noteId)
-                .orElseThrow(() -> new RuntimeException("Note not found"));
-
-        if (!note.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Note doesn't belong to this user");
-        }
+        Note note = noteRepository.findByIdAndUserId(noteId, userId)
+                .orElseThrow(() -> NotFoundException.NOTE);
 
         // Parse enums
         Priority priority = request.getPriority() != null ? 
@@ -171,13 +199,15 @@ public class NoteService {
         // Update category
         if (request.getCategoryId() != null) {
             Category category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new RuntimeException("Category not found"));
+                    .orElseThrow(() -> NotFoundException.CATEGORY);
             note.setCategory(category);
         } else {
             note.setCategory(null);
         }
 
         Note updatedNote = noteRepository.save(note);
+        userDataVersions.bump(userId);
+        changePublisher.updated(userId, ChangeEntityType.NOTE, updatedNote.getId());
         return convertToDto(updatedNote);
     }
 
@@ -185,6 +215,7 @@ public class NoteService {
      * Convert Note entity to NoteDto
      */
     private NoteDto convertToDto(Note note) {
+        FieldSelection fields = FieldSelection.current();
         NoteDto dto = new NoteDto();
         dto.setId(note.getId());
         dto.setNoteNumber(note.getNoteNumber());
@@ -199,14 +230,18 @@ public class NoteService {
         // User info
         if (note.getUser() != null) {
             dto.setUserId(note.getUser().getId());
-            dto.setUserDisplayName(note.getUser().getDisplayName());
+            if (fields.includes("userDisplayName")) {
+                dto.setUserDisplayName(note.getUser().getDisplayName());
+            }
         }
 
         // Category info
         if (note.getCategory() != null) {
             dto.setCategoryId(note.getCategory().getId());
-            dto.setCategoryName(note.getCategory().getName());
-            dto.setCategoryColor(note.getCategory().getColor());
+            if (fields.includesAny("categoryName", "categoryColor")) {
+                dto.setCategoryName(note.getCategory().getName());
+                dto.setCategoryColor(note.getCategory().getColor());
+            }
         }
 
         return dto;
@@ -2,6 +2,7 @@ package com.sonic.sonictaskhub.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +17,7 @@ import com.sonic.sonictaskhub.model.dto.TaskDto;
 import com.sonic.sonictaskhub.model.entity.Category;
 import com.sonic.sonictaskhub.model.entity.Task;
 import com.sonic.sonictaskhub.model.entity.User;
+import com.sonic.sonictaskhub.model.enums.ChangeEntityType;
 import com.sonic.sonictaskhub.model.enums.Complexity;
 import com.sonic.sonictaskhub.model.enums.Priority;
 import com.sonic.sonictaskhub.model.enums.TaskStatus;
@@ -23,6 +25,13 @@ import com.sonic.sonictaskhub.model.request.TaskCreateRequest;
 import com.sonic.sonictaskhub.repository.CategoryRepository;
 import com.sonic.sonictaskhub.repository.TaskRepository;
 import com.sonic.sonictaskhub.repository.UserRepository;
+import com.sonic.sonictaskhub.service.cache.QueryResultCache;
+import com.sonic.sonictaskhub.service.cache.UserDataVersions;
+import com.sonic.sonictaskhub.service.change.ChangePublisher;
+import com.sonic.sonictaskhub.service.exception.NotFoundException;
+import com.sonic.sonictaskhub.service.exception.ValidationException;
+import com.sonic.sonictaskhub.service.support.EntityStreamer;
+import com.sonic.sonictaskhub.service.support.FieldSelection;
 
 @Service
 @Transactional
@@ -37,6 +46,18 @@ public class TaskService {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private QueryResultCache queryResultCache;
+
+    @Autowired
+    private UserDataVersions userDataVersions;
+
+    @Autowired
+    private ChangePublisher changePublisher;
+
+    @Autowired
+    private EntityStreamer entityStreamer;
+
     /**
      * Generate next task number for user
      */
@@ -51,7 +72,7 @@ public class TaskService {
     public TaskDto createTask(Long userId, TaskCreateRequest request) {
         // Validate
         if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
-            throw new RuntimeException("Task title is required");
+            throw ValidationException.TASK_TITLE_REQUIRED;
         }
 
         // Parse enums
@@ -62,7 +83,7 @@ public class TaskService {
 
         // Get user
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> NotFoundException.USER);
 
         // Create task
         Task task = new Task();
@@ -78,22 +99,20 @@ public class TaskService {
         // Set category
         if (request.getCategoryId() != null) {
             Category category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new RuntimeException("Category not found"));
+                    .orElseThrow(() -> NotFoundException.CATEGORY);
             task.setCategory(category);
         }
 
         // Set parent task for subtasks
         if (request.getParentTaskId() != null) {
-            Task parentTask = taskRepository.findById(request.getParentTaskId())
-                    .orElseThrow(() -> new RuntimeException("Parent task not found"));
-            
-            if (!parentTask.getUser().getId().equals(userId)) {
-                throw new RuntimeException("Parent task doesn't belong to this user");
-            }
+            Task parentTask = taskRepository.findByIdAndUserId(request.getParentTaskId(), userId)
+                    .orElseThrow(() -> NotFoundException.PARENT_TASK);
             task.setParentTask(parentTask);
         }
 
         Task savedTask = taskRepository.save(task);
+        userDataVersions.bump(userId);
+        changePublisher.created(userId, ChangeEntityType.TASK, savedTask.getId());
         return convertToDto(savedTask, false);
     }
 
@@ -103,23 +122,35 @@ public class TaskService {
     public Page<TaskDto> getTasksWithFilters(Long userId, TaskStatus status, Priority priority, 
                                            Long categoryId, String search, int page, int size, 
                                            String sortBy, String sortDirection) {
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        String normalizedSearch = QueryResultCache.normalizeSearch(search);
+
+        return queryResultCache.get(userId, "task", () -> {
+            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+            Page<Task> tasks = taskRepository.findWithFilters(userId, status, priority, categoryId, normalizedSearch, pageable);
+            return tasks.map(task -> convertToDto(task, false));
+        }, status, priority, categoryId, normalizedSearch, page, size, sortBy, direction);
+    }
+
+    /**
+     * Stream tasks with filters to the consumer, one DTO at a time and without paging
+     */
+    @Transactional(readOnly = true)
+    public void streamTasksWithFilters(Long userId, TaskStatus status, Priority priority, Long categoryId,
+                                       String search, String sortBy, String sortDirection,
+                                       Consumer<TaskDto> consumer) {
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<Task> tasks = taskRepository.findWithFilters(userId, status, priority, categoryId, search, pageable);
-        return tasks.map(task -> convertToDto(task, false));
+        entityStreamer.forEach(taskRepository.streamWithFilters(userId, status, priority, categoryId,
+                QueryResultCache.normalizeSearch(search), sort),
+                row -> convertToDto((Task) row[0], false, (Long) row[1], (Long) row[2]), consumer);
     }
 
     /**
      * Get task by ID
      */
     public TaskDto getTaskById(Long userId, Long taskId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
-        
-        if (!task.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Task doesn't belong to this user");
-        }
+        Task task = taskRepository.findByIdAndUserId(taskId, userId)
+                .orElseThrow(() -> NotFoundException.TASK);
         
         return convertToDto(task, true);
     }
@@ -129,7 +160,7 @@ public class TaskService {
      */
     public TaskDto getTaskByNumber(Long userId, Long taskNumber) {
         Task task = taskRepository.findByUserIdAndTaskNumber(userId, taskNumber)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
+                .orElseThrow(() -> NotFoundException.TASK);
         return convertToDto(task, true);
     }
 
@@ -137,65 +168,48 @@ public class TaskService {
      * Complete a task
      */
     public TaskDto completeTask(Long userId, Long taskId, Integer actualDuration) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
-
-        if (!task.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Task doesn't belong to this user");
-        }
-
-        task.setStatus(TaskStatus.COMPLETED);
-        task.setCompletedAt(LocalDateTime.now());
-        if (actualDuration != null) {
-            task.setActualDuration(actualDuration);
+        // Ownership check and status change in one statement
+        if (taskRepository.completeForUser(taskId, userId, actualDuration, LocalDateTime.now()) == 0) {
+            throw NotFoundException.TASK;
         }
 
-        Task completedTask = taskRepository.save(task);
-        return convertToDto(completedTask, false);
+        userDataVersions.bump(userId);
+        changePublisher.updated(userId, ChangeEntityType.TASK, taskId);
+        return convertToDto(taskRepository.findById(taskId).orElseThrow(() -> NotFoundException.TASK), false);
     }
 
     /**
      * Snooze a task
      */
     public TaskDto snoozeTask(Long userId, Long taskId, LocalDateTime snoozeUntil) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
-
-        if (!task.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Task doesn't belong to this user");
+        // Ownership check and status change in one statement
+        if (taskRepository.snoozeForUser(taskId, userId, snoozeUntil, LocalDateTime.now()) == 0) {
+            throw NotFoundException.TASK;
         }
 
-        task.setStatus(TaskStatus.SNOOZED);
-        task.setSnoozedUntil(snoozeUntil);
-
-        Task snoozedTask = taskRepository.save(task);
-        return convertToDto(snoozedTask, false);
+        userDataVersions.bump(userId);
+        changePublisher.updated(userId, ChangeEntityType.TASK, taskId);
+        return convertToDto(taskRepository.findById(taskId).orElseThrow(() -> NotFoundException.TASK), false);
     }
 
     /**
      * Delete a task
      */
     public void deleteTask(Long userId, Long taskId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
-
-        if (!task.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Task doesn't belong to this user");
-        }
+        Task task = taskRepository.findByIdAndUserId(taskId, userId)
+                .orElseThrow(() -> NotFoundException.TASK);
 
         taskRepository.delete(task);
+        userDataVersions.bump(userId);
+        changePublisher.deleted(userId, ChangeEntityType.TASK, taskId);
     }
 
     /**
      * Get subtasks for a parent task
      */
     public List<TaskDto> getSubtasks(Long userId, Long parentTaskId) {
-        Task parentTask = taskRepository.findById(parentTaskId)
-                .orElseThrow(() -> new RuntimeException("Parent task not found"));
-
-        if (!parentTask.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Parent task doesn't belong to this user");
-        }
+        Task parentTask = taskRepository.findByIdAndUserId(parentTaskId, userId)
+                .orElseThrow(() -> NotFoundException.PARENT_TASK);
 
         List<Task> subtasks = taskRepository.findByParentTaskId(parentTaskId);
         return subtasks.stream()
@@ -209,16 +223,12 @@ public class TaskService {
     public TaskDto updateTask(Long userId, Long taskId, TaskCreateRequest request) {
         // Validate
         if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
-            throw new RuntimeException("Task title is required");
+            throw ValidationException.TASK_TITLE_REQUIRED;
         }
 
         // Find existing task
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
-
-        if (!task.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Task doesn't belong to this user");
-        }
+        Task task = taskRepository.findByIdAndUserId(taskId, userId)
+                .orElseThrow(() -> NotFoundException.TASK);
 
         // Parse enums
         Priority priority = request.getPriority() != null ? 
@@ -237,7 +247,7 @@ public class TaskService {
         // Update category
         if (request.getCategoryId() != null) {
             Category category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new RuntimeException("Category not found"));
+                    .orElseThrow(() -> NotFoundException.CATEGORY);
             task.setCategory(category);
         } else {
             task.setCategory(null);
@@ -245,18 +255,16 @@ public class TaskService {
 
         // Update parent task
         if (request.getParentTaskId() != null) {
-            Task parentTask = taskRepository.findById(request.getParentTaskId())
-                    .orElseThrow(() -> new RuntimeException("Parent task not found"));
-            
-            if (!parentTask.getUser().getId().equals(userId)) {
-                throw new RuntimeException("Parent task doesn't belong to this user");
-            }
+            Task parentTask = taskRepository.findByIdAndUserId(request.getParentTaskId(), userId)
+                    .orElseThrow(() -> NotFoundException.PARENT_TASK);
             task.setParentTask(parentTask);
         } else {
             task.setParentTask(null);
         }
 
         Task updatedTask = taskRepository.save(task);
+        userDataVersions.bump(userId);
+        changePublisher.updated(userId, ChangeEntityType.TASK, updatedTask.getId());
         return convertToDto(updatedTask, false);
     }
 
@@ -264,6 +272,14 @@ public class TaskService {
      * Convert Task entity to TaskDto
      */
     private TaskDto convertToDto(Task task, boolean includeSubtasks) {
+        return convertToDto(task, includeSubtasks, null, null);
+    }
+
+    /**
+     * Convert Task entity to TaskDto, using subtask counts already read with the task when given
+     */
+    private TaskDto convertToDto(Task task, boolean includeSubtasks, Long subtaskCount, Long completedSubtaskCount) {
+        FieldSelection fields = FieldSelection.current();
         TaskDto dto = new TaskDto();
         dto.setId(task.getId());
         dto.setTaskNumber(task.getTaskNumber());
@@ -284,30 +300,41 @@ public class TaskService {
         // User info
         if (task.getUser() != null) {
             dto.setUserId(task.getUser().getId());
-            dto.setUserDisplayName(task.getUser().getDisplayName());
+            if (fields.includes("userDisplayName")) {
+                dto.setUserDisplayName(task.getUser().getDisplayName());
+            }
         }
 
         // Category info
         if (task.getCategory() != null) {
             dto.setCategoryId(task.getCategory().getId());
-            dto.setCategoryName(task.getCategory().getName());
-            dto.setCategoryColor(task.getCategory().getColor());
+            if (fields.includesAny("categoryName", "categoryColor")) {
+                dto.setCategoryName(task.getCategory().getName());
+                dto.setCategoryColor(task.getCategory().getColor());
+            }
         }
 
         // Parent task info
         if (task.getParentTask() != null) {
             dto.setParentTaskId(task.getParentTask().getId());
-            dto.setParentTaskTitle(task.getParentTask().getTitle());
+            if (fields.includes("parentTaskTitle")) {
+                dto.setParentTaskTitle(task.getParentTask().getTitle());
+            }
         }
 
         // Subtask counts
-        dto.setSubtaskCount(task.getSubtasks().size());
-        dto.setCompletedSubtaskCount((int) task.getSubtasks().stream()
-                .filter(subtask -> subtask.getStatus() == TaskStatus.COMPLETED)
-                .count());
+        if (subtaskCount != null) {
+            dto.setSubtaskCount(subtaskCount.intValue());
+            dto.setCompletedSubtaskCount(completedSubtaskCount.intValue());
+        } else if (fields.includesAny("subtaskCount", "completedSubtaskCount")) {
+            dto.setSubtaskCount(task.getSubtasks().size());
+            dto.setCompletedSubtaskCount((int) task.getSubtasks().stream()
+                    .filter(subtask -> subtask.getStatus() == TaskStatus.COMPLETED)
+                    .count());
+        }
 
         // Include subtasks if requested
-        if (includeSubtasks && !task.getSubtasks().isEmpty()) {
+        if (includeSubtasks && fields.includes("subtasks") && !task.getSubtasks().isEmpty()) {
             dto.setSubtasks(task.getSubtasks().stream()
                     .map(subtask -> convertToDto(subtask, false))
                     .collect(Collectors.toList()));
@@ -5,11 +5,23 @@ import com.sonic.sonictaskhub.model.entity.User;
 import com.sonic.sonictaskhub.model.request.UserLoginRequest;
 import com.sonic.sonictaskhub.model.request.UserRegisterRequest;
 import com.sonic.sonictaskhub.repository.UserRepository;
+import com.sonic.sonictaskhub.service.cache.EventIntervalIndex;
+import com.sonic.sonictaskhub.service.cache.UserDataVersions;
+import com.sonic.sonictaskhub.service.cache.UserIdentifierIndex;
+import com.sonic.sonictaskhub.service.exception.ConflictException;
+import com.sonic.sonictaskhub.service.exception.ForbiddenException;
+import com.sonic.sonictaskhub.service.exception.NotFoundException;
+import com.sonic.sonictaskhub.service.exception.UnauthorizedException;
+import com.sonic.sonictaskhub.service.exception.ValidationException;
+import com.sonic.sonictaskhub.service.security.PasswordHasher;
+import com.sonic.sonictaskhub.service.security.SessionTokenService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -22,18 +34,32 @@ public class UserService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private UserDataVersions userDataVersions;
+
+    @Autowired
+    private EventIntervalIndex eventIntervalIndex;
+
+    @Autowired
+    private UserIdentifierIndex userIdentifierIndex;
+
+    @Autowired
+    private SessionTokenService sessionTokenService;
     
     /**
-     * Register a new user from request object
+     * Register a new user from request object.
+     * Runs without a surrounding transaction so no connection is held while the password is hashed.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDto registerUser(UserRegisterRequest request) {
         // Validate
         if (request.getUsername() == null || request.getUsername().trim().isEmpty()) {
-            throw new RuntimeException("Username is required");
+            throw ValidationException.USERNAME_REQUIRED;
         }
         if (request.getPassword() == null || request.getPassword().trim().isEmpty()) {
-            throw new RuntimeException("Password is required");
+            throw ValidationException.PASSWORD_REQUIRED;
         }
 
         // Call existing method
@@ -42,15 +68,17 @@ public class UserService {
     }
 
     /**
-     * Authenticate user from request object
+     * Authenticate user from request object.
+     * Runs without a surrounding transaction so no connection is held while the password is checked.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDto authenticateUser(UserLoginRequest request) {
         // Validate
         if (request.getUsername() == null || request.getUsername().trim().isEmpty()) {
-            throw new RuntimeException("Username is required");
+            throw ValidationException.USERNAME_REQUIRED;
         }
         if (request.getPassword() == null || request.getPassword().trim().isEmpty()) {
-            throw new RuntimeException("Password is required");
+            throw ValidationException.PASSWORD_REQUIRED;
         }
 
         // Call existing method
@@ -62,21 +90,29 @@ public class UserService {
      */
     public UserDto registerUser(String username, String password, String email, String displayName) {
         // Check if username or email already exists
-        if (userRepository.existsByUsername(username)) {
-            throw new RuntimeException("Username already exists");
+        if (userIdentifierIndex.isUsernameTaken(username)) {
+            throw ConflictException.USERNAME_TAKEN;
         }
-        if (email != null && userRepository.existsByEmail(email)) {
-            throw new RuntimeException("Email already exists");
+        if (email != null && userIdentifierIndex.isEmailTaken(email)) {
+            throw ConflictException.EMAIL_TAKEN;
         }
 
         User user = new User();
         user.setUsername(username);
-        user.setPassword(passwordEncoder.encode(password));
+        user.setPassword(passwordHasher.encode(password));
         user.setEmail(email);
         user.setDisplayName(displayName != null ? displayName : username);
         user.setIsActive(true);
 
-        User savedUser = userRepository.save(user);
+        userIdentifierIndex.addUsername(username);
+        userIdentifierIndex.addEmail(email);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent registration took the username or email after the checks above
+            throw userRepository.existsByUsername(username) ? ConflictException.USERNAME_TAKEN : ConflictException.EMAIL_TAKEN;
+        }
         return convertToDto(savedUser);
     }
 
@@ -86,16 +122,24 @@ public class UserService {
     public UserDto authenticateUser(String username, String password) {
         Optional<User> userOpt = userRepository.findByUsername(username);
         if (userOpt.isEmpty()) {
-            throw new RuntimeException("Invalid username or password");
+            throw UnauthorizedException.INVALID_CREDENTIALS;
         }
 
         User user = userOpt.get();
         if (!user.getIsActive()) {
-            throw new RuntimeException("User account is inactive");
+            throw ForbiddenException.USER_INACTIVE;
         }
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new RuntimeException("Invalid username or password");
+        if (!passwordHasher.matches(password, user.getPassword())) {
+            throw UnauthorizedException.INVALID_CREDENTIALS;
+        }
+
+        // Move hashes from an older cost (or other hardware) to the current one without slowing this login
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            Long userId = user.getId();
+            String currentHash = user.getPassword();
+            passwordHasher.rehashInBackground(password, rehashed ->
+                    userRepository.replacePasswordHash(userId, currentHash, rehashed, LocalDateTime.now()) > 0);
         }
 
         return convertToDto(user);
@@ -106,7 +150,7 @@ public class UserService {
      */
     public UserDto getUserById(Long userId) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> NotFoundException.USER);
         return convertToDto(user);
     }
 
@@ -115,21 +159,39 @@ public class UserService {
      */
     public UserDto getUserByUsername(String username) {
         User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> NotFoundException.USER);
         return convertToDto(user);
     }
 
+    /**
+     * Check whether a username is still free to register.
+     * Most answers come from the in-memory index, so no transaction is opened up front.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean isUsernameAvailable(String username) {
+        return !userIdentifierIndex.isUsernameTaken(username);
+    }
+
+    /**
+     * Check whether an email is still free to register
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean isEmailAvailable(String email) {
+        return !userIdentifierIndex.isEmailTaken(email);
+    }
+
     /**
      * Update user profile
      */
     public UserDto updateUserProfile(Long userId, String email, String displayName) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> NotFoundException.USER);
 
         if (email != null && !email.equals(user.getEmail())) {
-            if (userRepository.existsByEmail(email)) {
-                throw new RuntimeException("Email already exists");
+            if (userIdentifierIndex.isEmailTaken(email)) {
+                throw ConflictException.EMAIL_TAKEN;
             }
+            userIdentifierIndex.addEmail(email);
             user.setEmail(email);
         }
 
@@ -138,21 +200,25 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        userDataVersions.bump(userId);
+        eventIntervalIndex.invalidate(userId);
         return convertToDto(updatedUser);
     }
 
     /**
-     * Change user password
+     * Change user password.
+     * Runs without a surrounding transaction so no connection is held while the passwords are hashed.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(Long userId, String currentPassword, String newPassword) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> NotFoundException.USER);
 
-        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
-            throw new RuntimeException("Current password is incorrect");
+        if (!passwordHasher.matches(currentPassword, user.getPassword())) {
+            throw ValidationException.CURRENT_PASSWORD_INCORRECT;
         }
 
-        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setPassword(passwordHasher.encode(newPassword));
         userRepository.save(user);
     }
 
@@ -170,9 +236,11 @@ public class UserService {
      */
     public void deactivateUser(Long userId) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> NotFoundException.USER);
         user.setIsActive(false);
         userRepository.save(user);
+        userDataVersions.bump(userId);
+        sessionTokenService.revoke(userId);
     }
 
     /**
@@ -180,9 +248,10 @@ public class UserService {
      */
     public void activateUser(Long userId) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> NotFoundException.USER);
         user.setIsActive(true);
         userRepository.save(user);
+        userDataVersions.bump(userId);
     }
 
     /**
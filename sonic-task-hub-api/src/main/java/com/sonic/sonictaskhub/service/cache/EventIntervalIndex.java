@@ -0,0 +1,242 @@
+package com.sonic.sonictaskhub.service.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sonic.sonictaskhub.model.dto.EventDto;
+import com.sonic.sonictaskhub.service.support.IntervalIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Per-user in-memory index of calendar events.
+ *
+ * A user's events are loaded on their first calendar read into a
+ * {@link UserEvents} snapshot: single events and edited occurrences indexed by
+ * time, recurring series indexed by the span from their start to their end
+ * date, and the occurrence times each series has overrides for. Range and
+ * upcoming queries then run against the snapshot without touching the database.
+ *
+ * Writes patch the snapshot once their transaction commits, swapping in a
+ * rebuilt copy so readers never see a half-applied change. Patches replace
+ * whole events, so applying one to a snapshot that was loaded after the
+ * commit is harmless. Only recently active users are kept, bounded by
+ * {@code sonic.events.index.max-users}.
+ */
+@Component
+public class EventIntervalIndex {
+
+    private static final String CACHE_NAME = "eventIndex";
+
+    /**
+     * One event row as held in the index; cancelled overrides only hide an occurrence
+     */
+    public record IndexedEvent(EventDto event, boolean cancelled) {
+    }
+
+    private final Cache<Long, UserEvents> snapshots;
+
+    @Autowired
+    public EventIntervalIndex(MeterRegistry meterRegistry,
+                              @Value("${sonic.events.index.max-users:10000}") long maxUsers,
+                              @Value("${sonic.events.index.expire-after-access:30m}") Duration expireAfterAccess) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, CACHE_NAME);
+    }
+
+    /**
+     * The user's snapshot, loading it from every event row of the user on a miss
+     */
+    public UserEvents get(Long userId, Function<Long, List<IndexedEvent>> loader) {
+        return snapshots.get(userId, id -> new UserEvents(loader.apply(id)));
+    }
+
+    /**
+     * Add or replace events in the user's snapshot once the current transaction commits
+     */
+    public void put(Long userId, IndexedEvent... events) {
+        patch(userId, snapshot -> snapshot.with(List.of(events)));
+    }
+
+    /**
+     * Replace a series and the whole set of its overrides once the current transaction commits
+     */
+    public void putSeries(Long userId, IndexedEvent master, List<IndexedEvent> overrides) {
+        patch(userId, snapshot -> snapshot.withSeries(master, overrides));
+    }
+
+    /**
+     * Remove an event, and the overrides of it if it is a series, once the current transaction commits
+     */
+    public void remove(Long userId, Long eventId) {
+        patch(userId, snapshot -> snapshot.without(eventId));
+    }
+
+    /**
+     * Drop the user's snapshot once the current transaction commits, for changes
+     * to data copied into the events such as category names
+     */
+    public void invalidate(Long userId) {
+        afterCommit(() -> snapshots.invalidate(userId));
+    }
+
+    private void patch(Long userId, UnaryOperator<UserEvents> change) {
+        afterCommit(() -> snapshots.asMap().computeIfPresent(userId, (id, snapshot) -> change.apply(snapshot)));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Immutable view of one user's events
+     */
+    public static final class UserEvents {
+
+        private final Map<Long, IndexedEvent> events;
+        private final IntervalIndex<EventDto> singles;
+        private final IntervalIndex<EventDto> series;
+        private final Map<Long, Set<LocalDateTime>> replaced = new HashMap<>();
+
+        UserEvents(Collection<IndexedEvent> rows) {
+            this.events = new HashMap<>();
+            List<EventDto> singleEvents = new ArrayList<>();
+            List<EventDto> masters = new ArrayList<>();
+            for (IndexedEvent row : rows) {
+                EventDto event = row.event();
+                events.put(event.getId(), row);
+                // Rows materialized before series were expanded on read have no original time and replace their own
+                if (event.getMasterEventId() != null) {
+                    LocalDateTime original = event.getOccurrenceDateTime() != null
+                            ? event.getOccurrenceDateTime() : event.getEventDateTime();
+                    replaced.computeIfAbsent(event.getMasterEventId(), id -> new HashSet<>()).add(original);
+                }
+                if (row.cancelled()) {
+                    continue;
+                }
+                (Boolean.TRUE.equals(event.getIsRecurring()) ? masters : singleEvents).add(event);
+            }
+            this.singles = IntervalIndex.of(singleEvents, e -> seconds(e.getEventDateTime()), e -> seconds(e.getEventDateTime()));
+            this.series = IntervalIndex.of(masters, e -> seconds(e.getEventDateTime()),
+                    e -> e.getRecurringEndDate() != null ? seconds(e.getRecurringEndDate()) : Long.MAX_VALUE);
+        }
+
+        /**
+         * Single events and edited occurrences between {@code from} and {@code to}, both inclusive, in time order
+         */
+        public void forEachSingle(LocalDateTime from, LocalDateTime to, Consumer<EventDto> consumer) {
+            singles.forEachOverlapping(seconds(from), seconds(to), event -> {
+                if (!event.getEventDateTime().isBefore(from) && !event.getEventDateTime().isAfter(to)) {
+                    consumer.accept(event);
+                }
+            });
+        }
+
+        /**
+         * The first {@code limit} single events and edited occurrences at or after {@code from}, in time order
+         */
+        public List<EventDto> singlesFrom(LocalDateTime from, int limit) {
+            List<EventDto> found = new ArrayList<>();
+            for (int i = singles.firstStartingAt(seconds(from)); i < singles.size() && found.size() < limit; i++) {
+                EventDto event = singles.get(i);
+                if (!event.getEventDateTime().isBefore(from)) {
+                    found.add(event);
+                }
+            }
+            return found;
+        }
+
+        /**
+         * Recurring series that may have occurrences between {@code from} and {@code to}
+         */
+        public void forEachSeries(LocalDateTime from, LocalDateTime to, Consumer<EventDto> consumer) {
+            series.forEachOverlapping(seconds(from), to != null ? seconds(to) : Long.MAX_VALUE, master -> {
+                boolean started = to == null || !master.getEventDateTime().isAfter(to);
+                boolean ended = master.getRecurringEndDate() != null && !master.getRecurringEndDate().isAfter(from);
+                if (started && !ended) {
+                    consumer.accept(master);
+                }
+            });
+        }
+
+        /**
+         * Occurrence times of the series that were edited or cancelled
+         */
+        public Set<LocalDateTime> replaced(Long masterEventId) {
+            return replaced.getOrDefault(masterEventId, Set.of());
+        }
+
+        UserEvents with(List<IndexedEvent> changed) {
+            Map<Long, IndexedEvent> updated = new HashMap<>(events);
+            for (IndexedEvent row : changed) {
+                EventDto event = row.event();
+                updated.put(event.getId(), row);
+                // Overrides carry the title of their series
+                updated.replaceAll((id, other) -> {
+                    EventDto override = other.event();
+                    if (!event.getId().equals(override.getMasterEventId())
+                            || event.getTitle().equals(override.getMasterEventTitle())) {
+                        return other;
+                    }
+                    EventDto renamed = new EventDto(override);
+                    renamed.setMasterEventTitle(event.getTitle());
+                    return new IndexedEvent(renamed, other.cancelled());
+                });
+            }
+            return new UserEvents(updated.values());
+        }
+
+        UserEvents withSeries(IndexedEvent master, List<IndexedEvent> overrides) {
+            Long masterId = master.event().getId();
+            Map<Long, IndexedEvent> updated = new HashMap<>(events);
+            updated.values().removeIf(row -> masterId.equals(row.event().getMasterEventId()));
+            updated.put(masterId, master);
+            overrides.forEach(row -> updated.put(row.event().getId(), row));
+            return new UserEvents(updated.values());
+        }
+
+        UserEvents without(Long eventId) {
+            Map<Long, IndexedEvent> updated = new HashMap<>(events);
+            updated.remove(eventId);
+            updated.values().removeIf(row -> eventId.equals(row.event().getMasterEventId()));
+            return new UserEvents(updated.values());
+        }
+
+        private static long seconds(LocalDateTime dateTime) {
+            return dateTime.toEpochSecond(ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.sonic.sonictaskhub.service.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sonic.sonictaskhub.model.dto.EventDto;
+import com.sonic.sonictaskhub.model.dto.HabitDto;
+import com.sonic.sonictaskhub.model.dto.NoteDto;
+import com.sonic.sonictaskhub.model.dto.TaskDto;
+import com.sonic.sonictaskhub.service.support.FieldSelection;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache for filtered list queries.
+ *
+ * Entries are keyed on (userId, entity type, user data version, normalized
+ * query parameters). Writes bump the user's version in {@link UserDataVersions},
+ * which makes every older entry for that user unreachable; those entries are
+ * then aged out by the byte-weighted eviction policy.
+ */
+@Component
+public class QueryResultCache {
+
+    private static final String CACHE_NAME = "queryResults";
+
+    private final UserDataVersions userDataVersions;
+    private final boolean enabled;
+    private final Cache<QueryKey, Object> cache;
+
+    @Autowired
+    public QueryResultCache(UserDataVersions userDataVersions,
+                            MeterRegistry meterRegistry,
+                            @Value("${sonic.cache.query.enabled:true}") boolean enabled,
+                            @Value("${sonic.cache.query.max-bytes:33554432}") long maxBytes,
+                            @Value("${sonic.cache.query.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.userDataVersions = userDataVersions;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((QueryKey key, Object value) -> estimateBytes(value))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("sonic.cache.query.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Hit ratio of the filtered query result cache")
+                .register(meterRegistry);
+        Gauge.builder("sonic.cache.query.weighted.bytes", cache,
+                        c -> c.policy().eviction().map(e -> (double) e.weightedSize().orElse(0L)).orElse(0d))
+                .description("Estimated memory held by the filtered query result cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Return the cached result for the query, computing and storing it on a miss
+     *
+     * @param userId owner of the data being queried
+     * @param entityType logical entity name (e.g. "task")
+     * @param loader computes the result on a miss
+     * @param params normalized query parameters, in a fixed order
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long userId, String entityType, Supplier<T> loader, Object... params) {
+        if (!enabled || userId == null) {
+            return loader.get();
+        }
+        QueryKey key = new QueryKey(userId, entityType, userDataVersions.current(userId),
+                FieldSelection.current(), Arrays.asList(params));
+        return (T) cache.get(key, k -> loader.get());
+    }
+
+    /**
+     * Normalize a free-text search term so equivalent searches share an entry.
+     * Matching is case-insensitive in the repositories, so lower-casing is safe.
+     */
+    public static String normalizeSearch(String search) {
+        if (search == null) {
+            return null;
+        }
+        String trimmed = search.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Rough retained-size estimate used by the eviction weigher
+     */
+    static int estimateBytes(Object value) {
+        long bytes = estimate(value);
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static long estimate(Object value) {
+        if (value == null) {
+            return 16;
+        }
+        if (value instanceof Page<?> page) {
+            return 160 + estimate(page.getContent());
+        }
+        if (value instanceof Collection<?> items) {
+            long bytes = 48 + 8L * items.size();
+            for (Object item : items) {
+                bytes += estimate(item);
+            }
+            return bytes;
+        }
+        if (value instanceof TaskDto task) {
+            return 360 + chars(task.getTitle(), task.getDescription(), task.getUserDisplayName(),
+                    task.getCategoryName(), task.getCategoryColor(), task.getParentTaskTitle())
+                    + (task.getSubtasks() != null ? estimate(task.getSubtasks()) : 0);
+        }
+        if (value instanceof NoteDto note) {
+            return 240 + chars(note.getTitle(), note.getDescription(), note.getUserDisplayName(),
+                    note.getCategoryName(), note.getCategoryColor());
+        }
+        if (value instanceof HabitDto habit) {
+            return 260 + chars(habit.getTitle(), habit.getDescription(), habit.getHabitStage(),
+                    habit.getUserDisplayName(), habit.getCategoryName(), habit.getCategoryColor());
+        }
+        if (value instanceof EventDto event) {
+            return 320 + chars(event.getTitle(), event.getDescription(), event.getLocation(),
+                    event.getUserDisplayName(), event.getCategoryName(), event.getCategoryColor(),
+                    event.getMasterEventTitle());
+        }
+        return 256;
+    }
+
+    private static long chars(String... values) {
+        long bytes = 0;
+        for (String value : values) {
+            if (value != null) {
+                bytes += 40 + value.length();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Cache key; the version component ties the entry to one snapshot of the user's data,
+     * and the field selection separates partially populated DTOs from complete ones
+     */
+    record QueryKey(Long userId, String entityType, long version, FieldSelection fields, List<Object> params) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.sonic.sonictaskhub.service.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.sonic.sonictaskhub.service.support.FieldSelection;
+
+/**
+ * Single-flight execution for identical concurrent reads.
+ *
+ * The first caller for a given operation, user data version and argument
+ * list runs the call; callers that arrive while it is still running wait for
+ * its result (or exception). Because the key includes the version from
+ * {@link UserDataVersions}, a read issued after a write has committed never
+ * joins a read that started before it. Each joining caller gets its own copy
+ * of the result, so no two requests share a mutable DTO or page. Nothing is
+ * retained once the call completes.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final UserDataVersions userDataVersions;
+    private final ObjectMapper objectMapper;
+    private final Counter executed;
+    private final Counter coalesced;
+
+    @Autowired
+    public RequestCoalescer(UserDataVersions userDataVersions, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.userDataVersions = userDataVersions;
+        this.objectMapper = objectMapper;
+        this.executed = Counter.builder("sonic.coalescer.requests")
+                .description("Read requests handled by the single-flight coalescer")
+                .tag("result", "executed")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("sonic.coalescer.requests")
+                .description("Read requests handled by the single-flight coalescer")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder("sonic.coalescer.in.flight", inFlight, ConcurrentHashMap::size)
+                .description("Distinct read calls currently in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run the call, or join an identical call that is already in flight
+     *
+     * @param operation name identifying the read operation
+     * @param userId owner of the data being read; their data version is part of the key
+     * @param call the read to execute
+     * @param args further arguments that, together with the operation and user, identify identical calls
+     * @return the result of the call, or a copy of the shared result when joining
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Long userId, Supplier<T> call, Object... args) {
+        Key key = new Key(operation, FieldSelection.current(), userId, userDataVersions.current(userId),
+                Arrays.asList(args));
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            coalesced.increment();
+            return (T) copy(await(existing));
+        }
+
+        executed.increment();
+        try {
+            T result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Deep copy of a shared result; pages and lists are rebuilt around copied elements
+     */
+    private Object copy(Object result) {
+        if (result instanceof Page<?> page) {
+            return new PageImpl<>(copyAll(page.getContent()), page.getPageable(), page.getTotalElements());
+        }
+        if (result instanceof List<?> list) {
+            return copyAll(list);
+        }
+        if (result == null || result instanceof String || result instanceof Number || result instanceof Boolean) {
+            return result;
+        }
+        return objectMapper.convertValue(result, result.getClass());
+    }
+
+    private List<Object> copyAll(List<?> elements) {
+        List<Object> copies = new ArrayList<>(elements.size());
+        for (Object element : elements) {
+            copies.add(copy(element));
+        }
+        return copies;
+    }
+
+    /**
+     * Calls with different field selections produce differently populated DTOs and are never shared
+     */
+    private record Key(String operation, FieldSelection fields, Long userId, long version, List<Object> args) {
+    }
+}
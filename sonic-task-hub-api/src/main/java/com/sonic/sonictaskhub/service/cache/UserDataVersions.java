@@ -0,0 +1,56 @@
+package com.sonic.sonictaskhub.service.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-user data version counters.
+ *
+ * Every write that touches a user's data bumps that user's version, so
+ * anything keyed on the version (see {@link QueryResultCache}) is invalidated
+ * in O(1) without scanning for affected entries.
+ */
+@Component
+public class UserDataVersions {
+
+    private final ConcurrentHashMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Get the current data version for a user
+     */
+    public long current(Long userId) {
+        AtomicLong version = versions.get(userId);
+        return version != null ? version.get() : 0L;
+    }
+
+    /**
+     * Mark the user's data as changed.
+     *
+     * The version is bumped immediately and again after the surrounding
+     * transaction commits, so a read that ran against pre-commit data
+     * can never be cached under the post-commit version.
+     */
+    public void bump(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        increment(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    increment(userId);
+                }
+            });
+        }
+    }
+
+    private void increment(Long userId) {
+        versions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+    }
+}
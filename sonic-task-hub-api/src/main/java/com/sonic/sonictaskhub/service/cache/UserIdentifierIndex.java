@@ -0,0 +1,134 @@
+package com.sonic.sonictaskhub.service.cache;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.sonic.sonictaskhub.repository.UserRepository;
+import com.sonic.sonictaskhub.service.support.BloomFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Answers "is this username / email taken?" mostly from memory.
+ *
+ * Every registered username and email is kept in a Bloom filter, built from
+ * the users table at startup and added to on registration and email change.
+ * A miss in the filter means the value is certainly free; a hit is confirmed
+ * with an exact query, so a false positive costs one query and never a wrong
+ * answer. Values are added before they are saved, so a check can never run
+ * between the commit and the add and report a taken value as free.
+ */
+@Component
+public class UserIdentifierIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserIdentifierIndex.class);
+
+    private final UserRepository userRepository;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+    private final Lookups usernameLookups;
+    private final Lookups emailLookups;
+
+    private volatile BloomFilter usernames;
+    private volatile BloomFilter emails;
+
+    @Autowired
+    public UserIdentifierIndex(UserRepository userRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${sonic.user-index.expected-users:100000}") long expectedUsers,
+                               @Value("${sonic.user-index.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        this.usernameLookups = new Lookups(meterRegistry, "username");
+        this.emailLookups = new Lookups(meterRegistry, "email");
+    }
+
+    /**
+     * Load every existing username and email
+     */
+    @PostConstruct
+    public void build() {
+        List<String> existingUsernames = userRepository.findAllUsernames();
+        List<String> existingEmails = userRepository.findAllEmails();
+        // Leave room to grow; past the sized capacity only the false positive rate rises
+        long capacity = Math.max(expectedUsers, 2L * existingUsernames.size());
+        BloomFilter usernameFilter = new BloomFilter(capacity, falsePositiveRate);
+        BloomFilter emailFilter = new BloomFilter(capacity, falsePositiveRate);
+        existingUsernames.forEach(usernameFilter::add);
+        existingEmails.forEach(emailFilter::add);
+        this.usernames = usernameFilter;
+        this.emails = emailFilter;
+        logger.info("User identifier index built from {} users ({} bits, {} hashes per filter)",
+                existingUsernames.size(), usernameFilter.getBitCount(), usernameFilter.getHashCount());
+    }
+
+    public boolean isUsernameTaken(String username) {
+        return isTaken(usernames, username, userRepository::existsByUsername, usernameLookups);
+    }
+
+    public boolean isEmailTaken(String email) {
+        return isTaken(emails, email, userRepository::existsByEmail, emailLookups);
+    }
+
+    /**
+     * Record a username that is about to be saved
+     */
+    public void addUsername(String username) {
+        usernames.add(username);
+    }
+
+    /**
+     * Record an email that is about to be saved
+     */
+    public void addEmail(String email) {
+        if (email != null) {
+            emails.add(email);
+        }
+    }
+
+    private static boolean isTaken(BloomFilter filter, String value, Predicate<String> exactCheck, Lookups lookups) {
+        if (!filter.mightContain(value)) {
+            lookups.absent.increment();
+            return false;
+        }
+        if (exactCheck.test(value)) {
+            lookups.taken.increment();
+            return true;
+        }
+        lookups.falsePositive.increment();
+        return false;
+    }
+
+    /**
+     * Outcome counters for one field
+     */
+    private static final class Lookups {
+
+        private final Counter absent;
+        private final Counter taken;
+        private final Counter falsePositive;
+
+        Lookups(MeterRegistry meterRegistry, String field) {
+            this.absent = counter(meterRegistry, field, "absent");
+            this.taken = counter(meterRegistry, field, "taken");
+            this.falsePositive = counter(meterRegistry, field, "false_positive");
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String field, String outcome) {
+            return Counter.builder("sonic.user.index.lookups")
+                    .description("Username and email availability checks; only taken and false_positive queried the database")
+                    .tag("field", field)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.sonic.sonictaskhub.service.change;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sonic.sonictaskhub.model.dto.ChangeNotificationDto;
+import com.sonic.sonictaskhub.repository.UserRepository;
+import com.sonic.sonictaskhub.service.exception.NotFoundException;
+import com.sonic.sonictaskhub.web.handler.GlobalExceptionHandler.BusinessException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Fans committed entity changes out to the user's Server-Sent Events connections.
+ *
+ * Each user has a channel with a per-user sequence number and a short replay
+ * history, so a client reconnecting with {@code Last-Event-ID} receives what it
+ * missed. Each connection has its own bounded queue that is drained on the
+ * small {@code sseExecutor} pool; idle connections hold no thread. When a
+ * client falls too far behind, or asks to resume from an event that is no
+ * longer in the history, its queue is dropped and it is sent a single
+ * {@code resync} event telling it to refetch its lists.
+ */
+@Component
+public class ChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeed.class);
+
+    public static final String CHANGE_EVENT = "change";
+    public static final String RESYNC_EVENT = "resync";
+
+    /**
+     * Distinguishes event ids of channels created at different times, including
+     * across restarts, so a stale {@code Last-Event-ID} is never mistaken for a current one
+     */
+    private static final AtomicLong GENERATIONS = new AtomicLong(System.currentTimeMillis());
+
+    private final Map<Long, UserChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter resyncs;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("sseExecutor")
+    private TaskExecutor sseExecutor;
+
+    @Value("${sonic.sse.timeout:PT30M}")
+    private Duration timeout;
+
+    @Value("${sonic.sse.replay-buffer:256}")
+    private int replayCapacity;
+
+    @Value("${sonic.sse.subscriber-buffer:64}")
+    private int subscriberCapacity;
+
+    @Value("${sonic.sse.max-connections-per-user:16}")
+    private int maxConnectionsPerUser;
+
+    @Value("${sonic.sse.channel-retention:PT10M}")
+    private Duration channelRetention;
+
+    public ChangeFeed(MeterRegistry meterRegistry) {
+        Gauge.builder("sonic.sse.connections", connections, AtomicInteger::get)
+                .description("Open change feed connections")
+                .register(meterRegistry);
+        Gauge.builder("sonic.sse.channels", channels, Map::size)
+                .description("Users with a change feed channel")
+                .register(meterRegistry);
+        this.resyncs = Counter.builder("sonic.sse.resyncs")
+                .description("Resync events sent because a client fell behind or resumed too late")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open a change feed connection for the user
+     *
+     * @param lastEventId id of the last event the client received, if it is reconnecting
+     */
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        if (!userRepository.existsById(userId)) {
+            throw NotFoundException.USER;
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+
+        // compute() serializes with idle channel removal, so the channel cannot be dropped under us
+        channels.compute(userId, (id, channel) -> {
+            UserChannel target = channel != null ? channel : new UserChannel();
+            if (target.subscribers.size() >= maxConnectionsPerUser) {
+                throw new BusinessException("Too many change feed connections", "TOO_MANY_CONNECTIONS",
+                        HttpStatus.TOO_MANY_REQUESTS);
+            }
+            target.attach(subscriber, lastEventId);
+            return target;
+        });
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        connections.incrementAndGet();
+        // Send a comment straight away so proxies and the browser see an open stream
+        subscriber.heartbeat();
+        return emitter;
+    }
+
+    /**
+     * Deliver a change once the transaction that made it has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChangeEvent event) {
+        UserChannel channel = channels.get(event.userId());
+        if (channel != null) {
+            channel.publish(event);
+        }
+    }
+
+    /**
+     * Keep connections alive and drop channels nobody has listened to for a while
+     */
+    @Scheduled(fixedRateString = "${sonic.sse.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        long idleBefore = System.currentTimeMillis() - channelRetention.toMillis();
+        for (Long userId : channels.keySet()) {
+            channels.computeIfPresent(userId, (id, channel) -> {
+                if (channel.subscribers.isEmpty()) {
+                    return channel.lastActive < idleBefore ? null : channel;
+                }
+                channel.subscribers.forEach(Subscriber::heartbeat);
+                return channel;
+            });
+        }
+    }
+
+    private record Delivery(String id, ChangeNotificationDto notification) {
+    }
+
+    private final class UserChannel {
+
+        private final long generation = GENERATIONS.incrementAndGet();
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final ArrayDeque<Delivery> history = new ArrayDeque<>();
+        private long sequence;
+        private volatile long lastActive = System.currentTimeMillis();
+
+        synchronized void publish(EntityChangeEvent event) {
+            sequence++;
+            Delivery delivery = new Delivery(eventId(sequence), new ChangeNotificationDto(
+                    event.type(), event.entityId(), event.operation(), sequence));
+            if (history.size() >= replayCapacity) {
+                history.removeFirst();
+            }
+            history.addLast(delivery);
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(delivery);
+            }
+        }
+
+        synchronized void attach(Subscriber subscriber, String lastEventId) {
+            subscriber.channel = this;
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                long resumeAfter = parseSequence(lastEventId);
+                long oldest = history.isEmpty() ? sequence + 1 : history.getFirst().notification().getVersion();
+                if (resumeAfter < 0 || resumeAfter > sequence || resumeAfter + 1 < oldest) {
+                    subscriber.requestResync(eventId(sequence), sequence);
+                } else {
+                    for (Delivery delivery : history) {
+                        if (delivery.notification().getVersion() > resumeAfter) {
+                            subscriber.offer(delivery);
+                        }
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+            lastActive = System.currentTimeMillis();
+        }
+
+        void detach(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+            lastActive = System.currentTimeMillis();
+        }
+
+        private String eventId(long seq) {
+            return generation + "-" + seq;
+        }
+
+        /**
+         * @return the sequence encoded in an id from this channel, or -1 if it came from another channel
+         */
+        private long parseSequence(String eventId) {
+            int dash = eventId.indexOf('-');
+            try {
+                if (dash > 0 && Long.parseLong(eventId.substring(0, dash)) == generation) {
+                    return Long.parseLong(eventId.substring(dash + 1));
+                }
+            } catch (NumberFormatException e) {
+                // Treat malformed ids like ids from another channel
+            }
+            return -1;
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayDeque<Delivery> pending = new ArrayDeque<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile UserChannel channel;
+        private boolean heartbeatDue;
+        private String resyncId;
+        private long resyncVersion;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Delivery delivery) {
+            synchronized (this) {
+                if (resyncId != null) {
+                    // Already behind; the resync supersedes anything queued after it
+                    resyncId = delivery.id();
+                    resyncVersion = delivery.notification().getVersion();
+                } else if (pending.size() >= subscriberCapacity) {
+                    pending.clear();
+                    resyncId = delivery.id();
+                    resyncVersion = delivery.notification().getVersion();
+                    resyncs.increment();
+                } else {
+                    pending.addLast(delivery);
+                }
+            }
+            schedule();
+        }
+
+        void requestResync(String eventId, long version) {
+            synchronized (this) {
+                pending.clear();
+                resyncId = eventId;
+                resyncVersion = version;
+                resyncs.increment();
+            }
+            schedule();
+        }
+
+        void heartbeat() {
+            synchronized (this) {
+                heartbeatDue = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (!closed.get() && scheduled.compareAndSet(false, true)) {
+                try {
+                    sseExecutor.execute(this::drain);
+                } catch (TaskRejectedException e) {
+                    // Picked up again by the next change or heartbeat
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    SseEmitter.SseEventBuilder event;
+                    synchronized (this) {
+                        if (resyncId != null) {
+                            event = SseEmitter.event().id(resyncId).name(RESYNC_EVENT)
+                                    .data(Map.of("version", resyncVersion), MediaType.APPLICATION_JSON);
+                            resyncId = null;
+                            heartbeatDue = false;
+                        } else if (!pending.isEmpty()) {
+                            Delivery delivery = pending.pollFirst();
+                            event = SseEmitter.event().id(delivery.id()).name(CHANGE_EVENT)
+                                    .data(delivery.notification(), MediaType.APPLICATION_JSON);
+                            heartbeatDue = false;
+                        } else if (heartbeatDue) {
+                            event = SseEmitter.event().comment("heartbeat");
+                            heartbeatDue = false;
+                        } else {
+                            scheduled.set(false);
+                            return;
+                        }
+                    }
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Change feed connection closed: {}", e.getMessage());
+                close();
+                emitter.completeWithError(e);
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                connections.decrementAndGet();
+                if (channel != null) {
+                    channel.detach(this);
+                }
+                synchronized (this) {
+                    pending.clear();
+                }
+            }
+        }
+    }
+}
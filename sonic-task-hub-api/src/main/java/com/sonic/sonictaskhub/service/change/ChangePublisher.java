@@ -0,0 +1,39 @@
+package com.sonic.sonictaskhub.service.change;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.sonic.sonictaskhub.model.enums.ChangeEntityType;
+import com.sonic.sonictaskhub.model.enums.ChangeOperation;
+
+/**
+ * Publishes entity writes for the change feed.
+ *
+ * Services call this inside their transaction; {@link ChangeFeed} only
+ * delivers the change once that transaction has committed.
+ */
+@Component
+public class ChangePublisher {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public void created(Long userId, ChangeEntityType type, Long entityId) {
+        publish(userId, type, entityId, ChangeOperation.CREATED);
+    }
+
+    public void updated(Long userId, ChangeEntityType type, Long entityId) {
+        publish(userId, type, entityId, ChangeOperation.UPDATED);
+    }
+
+    public void deleted(Long userId, ChangeEntityType type, Long entityId) {
+        publish(userId, type, entityId, ChangeOperation.DELETED);
+    }
+
+    private void publish(Long userId, ChangeEntityType type, Long entityId, ChangeOperation operation) {
+        if (userId != null) {
+            eventPublisher.publishEvent(new EntityChangeEvent(userId, type, entityId, operation));
+        }
+    }
+}
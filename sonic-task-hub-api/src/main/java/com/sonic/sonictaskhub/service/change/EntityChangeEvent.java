@@ -0,0 +1,10 @@
+package com.sonic.sonictaskhub.service.change;
+
+import com.sonic.sonictaskhub.model.enums.ChangeEntityType;
+import com.sonic.sonictaskhub.model.enums.ChangeOperation;
+
+/**
+ * Application event describing a write to one of a user's entities
+ */
+public record EntityChangeEvent(Long userId, ChangeEntityType type, Long entityId, ChangeOperation operation) {
+}
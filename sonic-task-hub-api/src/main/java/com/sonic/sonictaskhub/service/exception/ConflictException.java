@@ -0,0 +1,18 @@
+package com.sonic.sonictaskhub.service.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The change clashes with existing data (409)
+ */
+public class ConflictException extends DomainException {
+
+    public static final ConflictException USERNAME_TAKEN = new ConflictException("Username already exists", "USERNAME_TAKEN");
+    public static final ConflictException EMAIL_TAKEN = new ConflictException("Email already exists", "EMAIL_TAKEN");
+    public static final ConflictException CATEGORY_NAME_TAKEN = new ConflictException("Category with this name already exists", "CATEGORY_NAME_TAKEN");
+    public static final ConflictException PROGRESS_ALREADY_LOGGED = new ConflictException("Progress already logged for this date", "PROGRESS_ALREADY_LOGGED");
+
+    public ConflictException(String message, String errorCode) {
+        super(message, errorCode, HttpStatus.CONFLICT);
+    }
+}
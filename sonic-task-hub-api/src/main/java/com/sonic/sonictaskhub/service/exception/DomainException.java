@@ -0,0 +1,20 @@
+package com.sonic.sonictaskhub.service.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.sonic.sonictaskhub.web.handler.GlobalExceptionHandler.BusinessException;
+
+/**
+ * Expected failure of a domain operation, such as a missing or foreign record.
+ *
+ * These are routine outcomes rather than bugs, so they carry no stack trace:
+ * creating one costs no more than any small object, and the common cases are
+ * pre-allocated as constants on the subclasses. Each has a stable error code
+ * and is mapped to its HTTP status by the global exception handler.
+ */
+public abstract class DomainException extends BusinessException {
+
+    protected DomainException(String message, String errorCode, HttpStatus httpStatus) {
+        super(message, errorCode, httpStatus, false);
+    }
+}
@@ -0,0 +1,21 @@
+package com.sonic.sonictaskhub.service.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The user may not access or change the record (403)
+ */
+public class ForbiddenException extends DomainException {
+
+    public static final ForbiddenException CATEGORY_MODIFY = new ForbiddenException("You don't have permission to modify this category", "CATEGORY_FORBIDDEN");
+    public static final ForbiddenException CATEGORY_DELETE = new ForbiddenException("You don't have permission to delete this category", "CATEGORY_FORBIDDEN");
+    public static final ForbiddenException DEFAULT_CATEGORY_MODIFY = new ForbiddenException("Cannot modify default categories", "DEFAULT_CATEGORY_READ_ONLY");
+    public static final ForbiddenException DEFAULT_CATEGORY_DELETE = new ForbiddenException("Cannot delete default categories", "DEFAULT_CATEGORY_READ_ONLY");
+    public static final ForbiddenException USER_INACTIVE = new ForbiddenException("User account is inactive", "USER_INACTIVE");
+    public static final ForbiddenException USER_MISMATCH = new ForbiddenException("You can only access your own account", "USER_MISMATCH");
+    public static final ForbiddenException ADMIN_REQUIRED = new ForbiddenException("Only administrators can list all users", "ADMIN_REQUIRED");
+
+    public ForbiddenException(String message, String errorCode) {
+        super(message, errorCode, HttpStatus.FORBIDDEN);
+    }
+}
@@ -0,0 +1,24 @@
+package com.sonic.sonictaskhub.service.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The requested record does not exist, or belongs to another user (404)
+ */
+public class NotFoundException extends DomainException {
+
+    public static final NotFoundException USER = new NotFoundException("User not found", "USER_NOT_FOUND");
+    public static final NotFoundException CATEGORY = new NotFoundException("Category not found", "CATEGORY_NOT_FOUND");
+    public static final NotFoundException TASK = new NotFoundException("Task not found", "TASK_NOT_FOUND");
+    public static final NotFoundException PARENT_TASK = new NotFoundException("Parent task not found", "PARENT_TASK_NOT_FOUND");
+    public static final NotFoundException HABIT = new NotFoundException("Habit not found", "HABIT_NOT_FOUND");
+    public static final NotFoundException HABIT_PROGRESS = new NotFoundException("Progress entry not found", "PROGRESS_NOT_FOUND");
+    public static final NotFoundException NOTE = new NotFoundException("Note not found", "NOTE_NOT_FOUND");
+    public static final NotFoundException EVENT = new NotFoundException("Event not found", "EVENT_NOT_FOUND");
+    public static final NotFoundException EVENT_OCCURRENCE = new NotFoundException("The event does not occur at that time", "EVENT_OCCURRENCE_NOT_FOUND");
+    public static final NotFoundException EXPORT_JOB = new NotFoundException("Export job not found", "EXPORT_JOB_NOT_FOUND");
+
+    public NotFoundException(String message, String errorCode) {
+        super(message, errorCode, HttpStatus.NOT_FOUND);
+    }
+}
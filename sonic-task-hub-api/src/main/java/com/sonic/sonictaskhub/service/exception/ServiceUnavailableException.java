@@ -0,0 +1,15 @@
+package com.sonic.sonictaskhub.service.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The server cannot take on the work right now; the client may retry later (503)
+ */
+public class ServiceUnavailableException extends DomainException {
+
+    public static final ServiceUnavailableException PASSWORD_HASHING_BUSY = new ServiceUnavailableException("Too many sign-in attempts in progress, please retry shortly", "PASSWORD_HASHING_BUSY");
+
+    public ServiceUnavailableException(String message, String errorCode) {
+        super(message, errorCode, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
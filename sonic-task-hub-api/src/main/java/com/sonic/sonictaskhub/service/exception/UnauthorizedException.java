@@ -0,0 +1,16 @@
+package com.sonic.sonictaskhub.service.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The caller could not be authenticated (401)
+ */
+public class UnauthorizedException extends DomainException {
+
+    public static final UnauthorizedException INVALID_CREDENTIALS = new UnauthorizedException("Invalid username or password", "INVALID_CREDENTIALS");
+    public static final UnauthorizedException AUTHENTICATION_REQUIRED = new UnauthorizedException("Authentication required", "AUTHENTICATION_REQUIRED");
+
+    public UnauthorizedException(String message, String errorCode) {
+        super(message, errorCode, HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,33 @@
+package com.sonic.sonictaskhub.service.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The request is missing required input or contains invalid values (400)
+ */
+public class ValidationException extends DomainException {
+
+    public static final ValidationException USERNAME_REQUIRED = new ValidationException("Username is required", "USERNAME_REQUIRED");
+    public static final ValidationException PASSWORD_REQUIRED = new ValidationException("Password is required", "PASSWORD_REQUIRED");
+    public static final ValidationException TASK_TITLE_REQUIRED = new ValidationException("Task title is required", "TITLE_REQUIRED");
+    public static final ValidationException HABIT_TITLE_REQUIRED = new ValidationException("Habit title is required", "TITLE_REQUIRED");
+    public static final ValidationException NOTE_TITLE_REQUIRED = new ValidationException("Note title is required", "TITLE_REQUIRED");
+    public static final ValidationException EVENT_TITLE_REQUIRED = new ValidationException("Event title is required", "TITLE_REQUIRED");
+    public static final ValidationException EVENT_DATE_REQUIRED = new ValidationException("Event date and time is required", "EVENT_DATE_REQUIRED");
+    public static final ValidationException EVENT_NOT_RECURRING = new ValidationException("Only recurring events have occurrences", "EVENT_NOT_RECURRING");
+    public static final ValidationException EVENT_RANGE_INVALID = new ValidationException("The end of the range must not be before its start", "EVENT_RANGE_INVALID");
+    public static final ValidationException EVENT_LIMIT_INVALID = new ValidationException("The number of upcoming events must be between 1 and 100", "EVENT_LIMIT_INVALID");
+    public static final ValidationException CURRENT_PASSWORD_REQUIRED = new ValidationException("Current password is required", "CURRENT_PASSWORD_REQUIRED");
+    public static final ValidationException NEW_PASSWORD_REQUIRED = new ValidationException("New password is required", "PASSWORD_REQUIRED");
+    public static final ValidationException PASSWORD_TOO_SHORT = new ValidationException("New password must be at least 6 characters long", "PASSWORD_TOO_SHORT");
+    public static final ValidationException CATEGORY_NAME_REQUIRED = new ValidationException("Category name is required", "CATEGORY_NAME_REQUIRED");
+    public static final ValidationException SNOOZE_UNTIL_REQUIRED = new ValidationException("snoozeUntil is required", "SNOOZE_UNTIL_REQUIRED");
+    public static final ValidationException SNOOZE_UNTIL_INVALID = new ValidationException("snoozeUntil must be an ISO date and time", "SNOOZE_UNTIL_INVALID");
+    public static final ValidationException HABIT_STATUS_REQUIRED = new ValidationException("Status is required", "HABIT_STATUS_REQUIRED");
+    public static final ValidationException HABIT_STATUS_INVALID = new ValidationException("Status is not a valid habit status", "HABIT_STATUS_INVALID");
+    public static final ValidationException CURRENT_PASSWORD_INCORRECT = new ValidationException("Current password is incorrect", "CURRENT_PASSWORD_INCORRECT");
+
+    public ValidationException(String message, String errorCode) {
+        super(message, errorCode, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,148 @@
+package com.sonic.sonictaskhub.service.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import com.sonic.sonictaskhub.model.enums.ExportEntityType;
+import com.sonic.sonictaskhub.model.export.EventExportRow;
+import com.sonic.sonictaskhub.model.export.HabitExportRow;
+import com.sonic.sonictaskhub.model.export.HabitProgressExportRow;
+import com.sonic.sonictaskhub.model.export.NoteExportRow;
+import com.sonic.sonictaskhub.model.export.TaskExportRow;
+
+/**
+ * Writes all exported types into one CSV table with a shared header.
+ * Columns that do not apply to a row's type are left empty.
+ */
+class CsvExportWriter implements ExportWriter {
+
+    private static final String[] HEADER = {
+            "Type", "ID", "Number", "Title", "Description", "Status", "Priority", "Complexity",
+            "Category", "Parent ID", "Parent Title", "Subtask Count", "Date", "Completed At",
+            "Estimated Duration", "Actual Duration", "Location", "Recurring", "Habit Stage",
+            "Target Days", "Completed Days", "Progress Value", "Progress Unit", "Recurrence Rule", "Original Date",
+            "Created At", "Updated At"
+    };
+
+    private final Writer writer;
+    private final Object[] row = new Object[HEADER.length];
+
+    CsvExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        System.arraycopy(HEADER, 0, row, 0, HEADER.length);
+        writeRow();
+    }
+
+    @Override
+    public void startSection(ExportEntityType type) {
+    }
+
+    @Override
+    public void writeTask(TaskExportRow task) throws IOException {
+        set(ExportEntityType.TASK, task.id(), task.taskNumber(), task.title(), task.description(), task.status(),
+                task.priority(), task.complexity(), task.categoryName(), task.parentTaskId(), task.parentTaskTitle(),
+                task.subtaskCount(), task.dueDate(), task.completedAt(), task.estimatedDuration(),
+                task.actualDuration(), null, null, null, null, null, null, null, null, null, task.createdAt(), task.updatedAt());
+        writeRow();
+    }
+
+    @Override
+    public void writeNote(NoteExportRow note) throws IOException {
+        set(ExportEntityType.NOTE, note.id(), note.noteNumber(), note.title(), note.description(), note.status(),
+                note.priority(), null, note.categoryName(), null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, note.createdAt(), note.updatedAt());
+        writeRow();
+    }
+
+    @Override
+    public void writeHabit(HabitExportRow habit) throws IOException {
+        set(ExportEntityType.HABIT, habit.id(), habit.habitNumber(), habit.title(), habit.description(),
+                habit.status(), null, null, habit.categoryName(), null, null, null, null, null, null, null, null,
+                null, habit.habitStage(), habit.targetDays(), habit.completedDays(), null, null,
+                null, null, habit.createdAt(), habit.updatedAt());
+        writeRow();
+    }
+
+    @Override
+    public void writeEvent(EventExportRow event) throws IOException {
+        set(ExportEntityType.EVENT, event.id(), event.eventNumber(), event.title(), event.description(), null,
+                null, null, event.categoryName(), event.masterEventId(), null, null, event.eventDateTime(), null,
+                null, null, event.location(),
+                event.recurringPattern() != null ? event.recurringPattern() : event.isRecurring(),
+                null, null, null, null, null, event.recurrenceRule(), event.originalDateTime(), event.createdAt(),
+                event.updatedAt());
+        writeRow();
+    }
+
+    /**
+     * A progress entry belongs to its habit, which appears as the parent
+     */
+    @Override
+    public void writeHabitProgress(HabitProgressExportRow progress) throws IOException {
+        set(ExportEntityType.HABIT_PROGRESS, progress.id(), null, progress.habitTitle(), progress.notes(), null,
+                null, null, null, progress.habitId(), progress.habitTitle(), null, progress.sessionDate(), null,
+                null, progress.duration(), null, null, null, null, null, progress.progressValue(),
+                progress.progressUnit(), null, null, progress.createdAt(), progress.updatedAt());
+        writeRow();
+    }
+
+    @Override
+    public void endSection(ExportEntityType type) {
+    }
+
+    @Override
+    public void finish(long totalRows) throws IOException {
+        writer.flush();
+    }
+
+    private void set(ExportEntityType type, Object... values) {
+        row[0] = type.getDisplayName();
+        System.arraycopy(values, 0, row, 1, values.length);
+    }
+
+    private void writeRow() throws IOException {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(row[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!(value instanceof CharSequence)) {
+            writer.write(value instanceof Enum<?> e ? e.name() : value.toString());
+            return;
+        }
+
+        String text = value.toString();
+        // Keep spreadsheet applications from evaluating user text as a formula
+        boolean formula = !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0;
+        boolean quote = formula || text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,71 @@
+package com.sonic.sonictaskhub.service.export;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Set;
+
+import com.sonic.sonictaskhub.model.enums.ExportEntityType;
+import com.sonic.sonictaskhub.model.enums.ExportFormat;
+import com.sonic.sonictaskhub.model.enums.Priority;
+import com.sonic.sonictaskhub.model.enums.TaskStatus;
+
+/**
+ * Validated, immutable form of an export request
+ */
+public final class ExportCriteria {
+
+    private final Long userId;
+    private final ExportFormat format;
+    private final Set<ExportEntityType> types;
+    private final TaskStatus status;
+    private final Priority priority;
+    private final Long categoryId;
+    private final String search;
+    private final boolean includeCompleted;
+    private final boolean includeSnoozed;
+    private final boolean includeSubtasks;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final boolean gzip;
+
+    ExportCriteria(Long userId, ExportFormat format, Set<ExportEntityType> types, TaskStatus status,
+                   Priority priority, Long categoryId, String search, boolean includeCompleted,
+                   boolean includeSnoozed, boolean includeSubtasks, LocalDateTime from, LocalDateTime to,
+                   boolean gzip) {
+        this.userId = userId;
+        this.format = format;
+        this.types = Collections.unmodifiableSet(types);
+        this.status = status;
+        this.priority = priority;
+        this.categoryId = categoryId;
+        this.search = search;
+        this.includeCompleted = includeCompleted;
+        this.includeSnoozed = includeSnoozed;
+        this.includeSubtasks = includeSubtasks;
+        this.from = from;
+        this.to = to;
+        this.gzip = gzip;
+    }
+
+    /**
+     * File name offered to the client, e.g. {@code sonic-task-hub-export.csv}
+     */
+    public String getFileName() {
+        return "sonic-task-hub-export." + format.getExtension();
+    }
+
+    // Getters
+    public Long getUserId() { return userId; }
+    public ExportFormat getFormat() { return format; }
+    public Set<ExportEntityType> getTypes() { return types; }
+    public TaskStatus getStatus() { return status; }
+    public Priority getPriority() { return priority; }
+    public Long getCategoryId() { return categoryId; }
+    public String getSearch() { return search; }
+    public boolean isIncludeCompleted() { return includeCompleted; }
+    public boolean isIncludeSnoozed() { return includeSnoozed; }
+    public boolean isIncludeSubtasks() { return includeSubtasks; }
+    public LocalDateTime getFrom() { return from; }
+    public LocalDateTime getTo() { return to; }
+    public boolean isGzip() { return gzip; }
+}
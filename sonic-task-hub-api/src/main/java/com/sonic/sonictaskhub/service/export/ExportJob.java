@@ -0,0 +1,109 @@
+package com.sonic.sonictaskhub.service.export;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sonic.sonictaskhub.model.enums.ExportJobStatus;
+
+/**
+ * In-memory state of one background export.
+ *
+ * The worker thread updates progress and status while request threads read
+ * them, so mutable state is volatile or atomic.
+ */
+public class ExportJob {
+
+    private final String id;
+    private final Long userId;
+    private final ExportCriteria criteria;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong rowsWritten = new AtomicLong();
+
+    private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+    private volatile long totalRows = -1;
+    private volatile boolean cancelRequested;
+    private volatile Path file;
+    private volatile long sizeBytes;
+    private volatile String error;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+    private volatile LocalDateTime expiresAt;
+
+    ExportJob(String id, ExportCriteria criteria) {
+        this.id = id;
+        this.userId = criteria.getUserId();
+        this.criteria = criteria;
+    }
+
+    /**
+     * File name offered on download, e.g. {@code sonic-task-hub-export.csv.gz}
+     */
+    public String getFileName() {
+        return criteria.getFileName() + (criteria.isGzip() ? ".gz" : "");
+    }
+
+    /**
+     * Content type of the artifact as stored in the spool directory
+     */
+    public String getContentType() {
+        return criteria.isGzip() ? "application/gzip" : criteria.getFormat().getContentType();
+    }
+
+    /**
+     * Completion percentage, once the total is known
+     */
+    public Integer getPercentComplete() {
+        if (status == ExportJobStatus.COMPLETED) {
+            return 100;
+        }
+        long total = totalRows;
+        if (total < 0) {
+            return null;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        return (int) Math.min(99, rowsWritten.get() * 100 / total);
+    }
+
+    boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public Long getUserId() { return userId; }
+    public ExportCriteria getCriteria() { return criteria; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public long getRowsWritten() { return rowsWritten.get(); }
+    void setRowsWritten(long rows) { rowsWritten.set(rows); }
+
+    public ExportJobStatus getStatus() { return status; }
+    void setStatus(ExportJobStatus status) { this.status = status; }
+
+    public long getTotalRows() { return totalRows; }
+    void setTotalRows(long totalRows) { this.totalRows = totalRows; }
+
+    boolean isCancelRequested() { return cancelRequested; }
+    void requestCancel() { this.cancelRequested = true; }
+
+    public Path getFile() { return file; }
+    void setFile(Path file) { this.file = file; }
+
+    public long getSizeBytes() { return sizeBytes; }
+    void setSizeBytes(long sizeBytes) { this.sizeBytes = sizeBytes; }
+
+    public String getError() { return error; }
+    void setError(String error) { this.error = error; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+}
@@ -0,0 +1,269 @@
+package com.sonic.sonictaskhub.service.export;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.sonic.sonictaskhub.model.dto.ExportJobDto;
+import com.sonic.sonictaskhub.model.enums.ExportJobStatus;
+import com.sonic.sonictaskhub.model.request.ExportRequest;
+import com.sonic.sonictaskhub.service.exception.NotFoundException;
+import com.sonic.sonictaskhub.web.handler.GlobalExceptionHandler.BusinessException;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Runs exports as background jobs.
+ *
+ * A bounded worker pool writes each artifact to the spool directory while
+ * clients poll for progress; finished artifacts are downloadable until their
+ * TTL expires. The job registry lives in memory, so artifacts left over from
+ * a previous run are removed at startup.
+ */
+@Service
+public class ExportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportJobService.class);
+
+    private static final String PART_SUFFIX = ".part";
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    // Unfinished jobs per user; reserved before a job is queued and released when it ends
+    private final Map<Long, Integer> activeJobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    @Qualifier("exportExecutor")
+    private TaskExecutor exportExecutor;
+
+    @Value("${sonic.export.spool-dir:data/exports}")
+    private Path spoolDir;
+
+    @Value("${sonic.export.artifact-ttl:1h}")
+    private Duration artifactTtl;
+
+    @Value("${sonic.export.max-active-per-user:2}")
+    private int maxActivePerUser;
+
+    @PostConstruct
+    void initSpoolDirectory() throws IOException {
+        spoolDir = spoolDir.toAbsolutePath().normalize();
+        Files.createDirectories(spoolDir);
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(spoolDir)) {
+            for (Path leftover : leftovers) {
+                deleteQuietly(leftover);
+            }
+        }
+    }
+
+    /**
+     * Queue an export for the user
+     */
+    public ExportJobDto submit(Long userId, ExportRequest request) {
+        ExportCriteria criteria = exportService.prepare(userId, request);
+
+        // The check and the reservation happen under the map's per-key lock, so concurrent submits cannot both pass
+        activeJobs.compute(userId, (id, active) -> {
+            int current = active != null ? active : 0;
+            if (current >= maxActivePerUser) {
+                throw new BusinessException("Too many exports in progress", "EXPORT_LIMIT_REACHED",
+                        HttpStatus.TOO_MANY_REQUESTS);
+            }
+            return current + 1;
+        });
+
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), criteria);
+        jobs.put(job.getId(), job);
+        try {
+            exportExecutor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            releaseSlot(userId);
+            throw new BusinessException("Export queue is full, try again later", "EXPORT_QUEUE_FULL",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return convertToDto(job);
+    }
+
+    /**
+     * Get the state of one of the user's export jobs
+     */
+    public ExportJobDto getJob(Long userId, String jobId) {
+        return convertToDto(findJob(userId, jobId));
+    }
+
+    /**
+     * Get all of the user's export jobs, newest first
+     */
+    public List<ExportJobDto> getJobsForUser(Long userId) {
+        return jobs.values().stream()
+                .filter(job -> job.getUserId().equals(userId))
+                .sorted(Comparator.comparing(ExportJob::getCreatedAt).reversed())
+                .map(this::convertToDto)
+                .toList();
+    }
+
+    /**
+     * Get a completed job whose artifact can be downloaded
+     */
+    public ExportJob getCompletedJob(Long userId, String jobId) {
+        ExportJob job = findJob(userId, jobId);
+        if (job.getStatus() != ExportJobStatus.COMPLETED || job.getFile() == null || !Files.exists(job.getFile())) {
+            throw new BusinessException("Export is not ready for download", "EXPORT_NOT_READY", HttpStatus.CONFLICT);
+        }
+        return job;
+    }
+
+    /**
+     * Cancel a running job, or remove a finished job and its artifact
+     */
+    public void cancel(Long userId, String jobId) {
+        ExportJob job = findJob(userId, jobId);
+        if (job.getStatus().isFinished()) {
+            remove(job);
+        } else {
+            // The worker stops at the next row and discards the partial file
+            job.requestCancel();
+        }
+    }
+
+    /**
+     * Remove jobs whose artifacts have outlived the TTL
+     */
+    @Scheduled(fixedDelayString = "${sonic.export.cleanup-interval:PT5M}")
+    public void removeExpiredJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        for (ExportJob job : jobs.values()) {
+            if (job.isExpired(now)) {
+                remove(job);
+            }
+        }
+    }
+
+    private void run(ExportJob job) {
+        ExportCriteria criteria = job.getCriteria();
+        Path target = spoolDir.resolve(job.getId() + "." + criteria.getFormat().getExtension()
+                + (criteria.isGzip() ? ".gz" : ""));
+        Path part = target.resolveSibling(target.getFileName() + PART_SUFFIX);
+
+        try {
+            if (job.isCancelRequested()) {
+                throw new CancellationException();
+            }
+            job.setStatus(ExportJobStatus.RUNNING);
+            job.setStartedAt(LocalDateTime.now());
+            job.setTotalRows(exportService.count(criteria));
+
+            try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(part), FILE_BUFFER_SIZE)) {
+                OutputStream out = criteria.isGzip() ? new GZIPOutputStream(file, GZIP_BUFFER_SIZE) : file;
+                exportService.export(criteria, out, rows -> {
+                    if (job.isCancelRequested()) {
+                        throw new CancellationException();
+                    }
+                    job.setRowsWritten(rows);
+                });
+                if (out instanceof GZIPOutputStream gzip) {
+                    gzip.finish();
+                }
+            }
+
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            job.setFile(target);
+            job.setSizeBytes(Files.size(target));
+            finish(job, ExportJobStatus.COMPLETED);
+            logger.info("Export job {} completed: {} rows, {} bytes", job.getId(), job.getRowsWritten(),
+                    job.getSizeBytes());
+        } catch (CancellationException e) {
+            deleteQuietly(part);
+            finish(job, ExportJobStatus.CANCELLED);
+            logger.info("Export job {} cancelled", job.getId());
+        } catch (Exception e) {
+            deleteQuietly(part);
+            job.setError(e.getMessage());
+            finish(job, ExportJobStatus.FAILED);
+            logger.warn("Export job {} failed: {}", job.getId(), e.getMessage());
+        } finally {
+            releaseSlot(job.getUserId());
+        }
+    }
+
+    private void releaseSlot(Long userId) {
+        activeJobs.computeIfPresent(userId, (id, active) -> active > 1 ? active - 1 : null);
+    }
+
+    private void finish(ExportJob job, ExportJobStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        job.setCompletedAt(now);
+        job.setExpiresAt(now.plus(artifactTtl));
+        job.setStatus(status);
+    }
+
+    private ExportJob findJob(Long userId, String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null || !job.getUserId().equals(userId)) {
+            throw NotFoundException.EXPORT_JOB;
+        }
+        return job;
+    }
+
+    private void remove(ExportJob job) {
+        jobs.remove(job.getId());
+        if (job.getFile() != null) {
+            deleteQuietly(job.getFile());
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete export file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private ExportJobDto convertToDto(ExportJob job) {
+        ExportJobDto dto = new ExportJobDto();
+        dto.setId(job.getId());
+        dto.setStatus(job.getStatus());
+        dto.setFormat(job.getCriteria().getFormat());
+        dto.setRowsWritten(job.getRowsWritten());
+        dto.setTotalRows(job.getTotalRows() >= 0 ? job.getTotalRows() : null);
+        dto.setPercentComplete(job.getPercentComplete());
+        dto.setFileName(job.getFileName());
+        dto.setSizeBytes(job.getStatus() == ExportJobStatus.COMPLETED ? job.getSizeBytes() : null);
+        dto.setError(job.getError());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setCompletedAt(job.getCompletedAt());
+        dto.setExpiresAt(job.getExpiresAt());
+        return dto;
+    }
+}
@@ -0,0 +1,203 @@
+package com.sonic.sonictaskhub.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sonic.sonictaskhub.model.enums.ExportEntityType;
+import com.sonic.sonictaskhub.model.enums.ExportFormat;
+import com.sonic.sonictaskhub.model.enums.Priority;
+import com.sonic.sonictaskhub.model.enums.TaskStatus;
+import com.sonic.sonictaskhub.model.request.ExportRequest;
+import com.sonic.sonictaskhub.repository.EventRepository;
+import com.sonic.sonictaskhub.repository.HabitProgressRepository;
+import com.sonic.sonictaskhub.repository.HabitRepository;
+import com.sonic.sonictaskhub.repository.NoteRepository;
+import com.sonic.sonictaskhub.repository.TaskRepository;
+import com.sonic.sonictaskhub.repository.UserRepository;
+import com.sonic.sonictaskhub.service.cache.QueryResultCache;
+import com.sonic.sonictaskhub.service.exception.NotFoundException;
+import com.sonic.sonictaskhub.service.exception.ValidationException;
+
+/**
+ * Exports a user's data as CSV or JSON.
+ *
+ * Filtering and projection happen in SQL, and rows are written to the output
+ * as they are read from a forward-only cursor, so memory use does not depend
+ * on the number of exported rows.
+ */
+@Service
+public class ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private HabitRepository habitRepository;
+
+    @Autowired
+    private HabitProgressRepository habitProgressRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Validate an export request before any output is written
+     */
+    public ExportCriteria prepare(Long userId, ExportRequest request) {
+        if (!userRepository.existsById(userId)) {
+            throw NotFoundException.USER;
+        }
+
+        ExportFormat format = request.getFormat() != null
+                ? ExportFormat.valueOf(request.getFormat().toUpperCase(Locale.ROOT)) : ExportFormat.CSV;
+
+        Set<ExportEntityType> types = EnumSet.noneOf(ExportEntityType.class);
+        if (request.getTypes() == null || request.getTypes().isEmpty()) {
+            types.addAll(EnumSet.allOf(ExportEntityType.class));
+        } else {
+            for (String type : request.getTypes()) {
+                types.add(ExportEntityType.fromName(type.trim()));
+            }
+        }
+
+        TaskStatus status = request.getStatus() != null
+                ? TaskStatus.valueOf(request.getStatus().toUpperCase(Locale.ROOT)) : null;
+        Priority priority = request.getPriority() != null
+                ? Priority.valueOf(request.getPriority().toUpperCase(Locale.ROOT)) : null;
+
+        if (request.getFrom() != null && request.getTo() != null && !request.getFrom().isBefore(request.getTo())) {
+            throw new ValidationException("Export start date must be before end date", "INVALID_DATE_RANGE");
+        }
+
+        return new ExportCriteria(userId, format, types, status, priority, request.getCategoryId(),
+                QueryResultCache.normalizeSearch(request.getSearch()),
+                !Boolean.FALSE.equals(request.getIncludeCompleted()),
+                !Boolean.FALSE.equals(request.getIncludeSnoozed()),
+                !Boolean.FALSE.equals(request.getIncludeSubtasks()),
+                request.getFrom(), request.getTo(), Boolean.TRUE.equals(request.getGzip()));
+    }
+
+    /**
+     * Number of rows the export will contain, for progress reporting
+     */
+    @Transactional(readOnly = true)
+    public long count(ExportCriteria c) {
+        long total = 0;
+        for (ExportEntityType type : c.getTypes()) {
+            Long count = switch (type) {
+                case TASK -> taskRepository.countForExport(c.getUserId(), c.getStatus(), c.isIncludeCompleted(),
+                        c.isIncludeSnoozed(), c.isIncludeSubtasks(), c.getPriority(), c.getCategoryId(),
+                        c.getSearch(), c.getFrom(), c.getTo());
+                case NOTE -> noteRepository.countForExport(c.getUserId(), c.getPriority(), c.getCategoryId(),
+                        c.getSearch(), c.getFrom(), c.getTo());
+                case HABIT -> habitRepository.countForExport(c.getUserId(), c.isIncludeCompleted(),
+                        c.getCategoryId(), c.getSearch(), c.getFrom(), c.getTo());
+                case HABIT_PROGRESS -> habitProgressRepository.countForExport(c.getUserId(), c.isIncludeCompleted(),
+                        c.getCategoryId(), c.getSearch(), c.getFrom(), c.getTo());
+                case EVENT -> eventRepository.countForExport(c.getUserId(), c.getCategoryId(), c.getSearch(),
+                        c.getFrom(), c.getTo());
+            };
+            total += count != null ? count : 0;
+        }
+        return total;
+    }
+
+    /**
+     * Write the export document to the stream, leaving the stream open
+     *
+     * @return number of exported rows
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportCriteria criteria, OutputStream out) throws IOException {
+        return export(criteria, out, rows -> { });
+    }
+
+    /**
+     * Write the export document to the stream, reporting the running row count after each row
+     *
+     * @param progress receives the number of rows written so far; may throw to abort the export
+     * @return number of exported rows
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportCriteria criteria, OutputStream out, LongConsumer progress) throws IOException {
+        ExportWriter writer = criteria.getFormat() == ExportFormat.JSON
+                ? new JsonExportWriter(out, objectMapper, criteria.getUserId())
+                : new CsvExportWriter(out);
+
+        long total = 0;
+        for (ExportEntityType type : criteria.getTypes()) {
+            writer.startSection(type);
+            total = writeSection(type, criteria, writer, total, progress);
+            writer.endSection(type);
+        }
+        writer.finish(total);
+
+        logger.info("Exported {} rows as {} for user {}", total, criteria.getFormat(), criteria.getUserId());
+        return total;
+    }
+
+    private long writeSection(ExportEntityType type, ExportCriteria c, ExportWriter writer,
+                              long written, LongConsumer progress) throws IOException {
+        return switch (type) {
+            case TASK -> drain(taskRepository.streamForExport(c.getUserId(), c.getStatus(),
+                    c.isIncludeCompleted(), c.isIncludeSnoozed(), c.isIncludeSubtasks(), c.getPriority(),
+                    c.getCategoryId(), c.getSearch(), c.getFrom(), c.getTo()), writer::writeTask, written, progress);
+            case NOTE -> drain(noteRepository.streamForExport(c.getUserId(), c.getPriority(), c.getCategoryId(),
+                    c.getSearch(), c.getFrom(), c.getTo()), writer::writeNote, written, progress);
+            case HABIT -> drain(habitRepository.streamForExport(c.getUserId(), c.isIncludeCompleted(),
+                    c.getCategoryId(), c.getSearch(), c.getFrom(), c.getTo()), writer::writeHabit, written, progress);
+            case HABIT_PROGRESS -> drain(habitProgressRepository.streamForExport(c.getUserId(),
+                    c.isIncludeCompleted(), c.getCategoryId(), c.getSearch(), c.getFrom(), c.getTo()),
+                    writer::writeHabitProgress, written, progress);
+            case EVENT -> drain(eventRepository.streamForExport(c.getUserId(), c.getCategoryId(), c.getSearch(),
+                    c.getFrom(), c.getTo()), writer::writeEvent, written, progress);
+        };
+    }
+
+    /**
+     * Write every row of the stream and close it
+     *
+     * @return running total of rows written, including the {@code written} rows of earlier sections
+     */
+    private <R> long drain(Stream<R> rows, RowWriter<R> writer, long written, LongConsumer progress)
+            throws IOException {
+        long count = written;
+        try (rows) {
+            Iterator<R> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                progress.accept(++count);
+            }
+        }
+        return count;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<R> {
+        void write(R row) throws IOException;
+    }
+}
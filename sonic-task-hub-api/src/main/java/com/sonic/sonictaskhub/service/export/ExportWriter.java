@@ -0,0 +1,35 @@
+package com.sonic.sonictaskhub.service.export;
+
+import java.io.IOException;
+
+import com.sonic.sonictaskhub.model.enums.ExportEntityType;
+import com.sonic.sonictaskhub.model.export.EventExportRow;
+import com.sonic.sonictaskhub.model.export.HabitExportRow;
+import com.sonic.sonictaskhub.model.export.HabitProgressExportRow;
+import com.sonic.sonictaskhub.model.export.NoteExportRow;
+import com.sonic.sonictaskhub.model.export.TaskExportRow;
+
+/**
+ * Incremental writer for one export document; rows are written as they are read
+ */
+interface ExportWriter {
+
+    void startSection(ExportEntityType type) throws IOException;
+
+    void writeTask(TaskExportRow row) throws IOException;
+
+    void writeNote(NoteExportRow row) throws IOException;
+
+    void writeHabit(HabitExportRow row) throws IOException;
+
+    void writeHabitProgress(HabitProgressExportRow row) throws IOException;
+
+    void writeEvent(EventExportRow row) throws IOException;
+
+    void endSection(ExportEntityType type) throws IOException;
+
+    /**
+     * Complete the document and flush; the underlying stream is left open
+     */
+    void finish(long totalRows) throws IOException;
+}
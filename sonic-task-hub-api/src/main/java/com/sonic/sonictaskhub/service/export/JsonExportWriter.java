@@ -0,0 +1,79 @@
+package com.sonic.sonictaskhub.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sonic.sonictaskhub.model.enums.ExportEntityType;
+import com.sonic.sonictaskhub.model.export.EventExportRow;
+import com.sonic.sonictaskhub.model.export.HabitExportRow;
+import com.sonic.sonictaskhub.model.export.HabitProgressExportRow;
+import com.sonic.sonictaskhub.model.export.NoteExportRow;
+import com.sonic.sonictaskhub.model.export.TaskExportRow;
+
+/**
+ * Writes one JSON document with an array per exported type:
+ * {@code {"exportDate": ..., "userId": ..., "tasks": [...], ..., "totalItems": n}}
+ */
+class JsonExportWriter implements ExportWriter {
+
+    private final ObjectWriter rowWriter;
+    private final JsonGenerator generator;
+
+    JsonExportWriter(OutputStream out, ObjectMapper objectMapper, Long userId) throws IOException {
+        // Let the generator's buffer decide when to flush instead of flushing after every row
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = rowWriter.createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartObject();
+        generator.writeFieldName("exportDate");
+        rowWriter.writeValue(generator, LocalDateTime.now());
+        generator.writeNumberField("userId", userId);
+    }
+
+    @Override
+    public void startSection(ExportEntityType type) throws IOException {
+        generator.writeArrayFieldStart(type.getSectionName());
+    }
+
+    @Override
+    public void writeTask(TaskExportRow row) throws IOException {
+        rowWriter.writeValue(generator, row);
+    }
+
+    @Override
+    public void writeNote(NoteExportRow row) throws IOException {
+        rowWriter.writeValue(generator, row);
+    }
+
+    @Override
+    public void writeHabit(HabitExportRow row) throws IOException {
+        rowWriter.writeValue(generator, row);
+    }
+
+    @Override
+    public void writeHabitProgress(HabitProgressExportRow row) throws IOException {
+        rowWriter.writeValue(generator, row);
+    }
+
+    @Override
+    public void writeEvent(EventExportRow row) throws IOException {
+        rowWriter.writeValue(generator, row);
+    }
+
+    @Override
+    public void endSection(ExportEntityType type) throws IOException {
+        generator.writeEndArray();
+    }
+
+    @Override
+    public void finish(long totalRows) throws IOException {
+        generator.writeNumberField("totalItems", totalRows);
+        generator.writeEndObject();
+        generator.close();
+    }
+}
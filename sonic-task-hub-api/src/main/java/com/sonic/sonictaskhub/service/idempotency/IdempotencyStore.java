@@ -0,0 +1,116 @@
+package com.sonic.sonictaskhub.service.idempotency;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sonic.sonictaskhub.model.entity.IdempotencyRecord;
+import com.sonic.sonictaskhub.repository.IdempotencyRecordRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Stored responses of requests sent with an {@code Idempotency-Key}.
+ *
+ * Recent responses are served from a bounded in-memory cache; every response
+ * is also written to SQLite so that retries arriving after a restart, or after
+ * the entry was evicted, are still replayed until the record expires.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private static final String CACHE_NAME = "idempotency";
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+    private final Cache<String, StoredResponse> cache;
+
+    /**
+     * A response as it was first sent
+     */
+    public record StoredResponse(String requestHash, int status, String contentType, byte[] body,
+                                 LocalDateTime expiresAt) {
+    }
+
+    @Autowired
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            MeterRegistry meterRegistry,
+                            @Value("${sonic.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${sonic.idempotency.max-entries:10000}") long maxEntries) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Find the stored response for a key, checking memory before the database
+     */
+    public Optional<StoredResponse> find(String key) {
+        StoredResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<StoredResponse> persisted = repository.findByRecordKey(key)
+                .filter(record -> record.getExpiresAt().isAfter(LocalDateTime.now()))
+                .map(record -> new StoredResponse(record.getRequestHash(), record.getStatusCode(),
+                        record.getContentType(), record.getBody(), record.getExpiresAt()));
+        persisted.ifPresent(response -> cache.put(key, response));
+        return persisted;
+    }
+
+    /**
+     * Store the first response sent for a key
+     */
+    public StoredResponse save(String key, String requestHash, int status, String contentType, byte[] body) {
+        StoredResponse response = new StoredResponse(requestHash, status, contentType, body,
+                LocalDateTime.now().plus(ttl));
+        cache.put(key, response);
+
+        try {
+            // An expired record for the same key may still be waiting for cleanup
+            IdempotencyRecord record = repository.findByRecordKey(key).orElseGet(IdempotencyRecord::new);
+            record.setRecordKey(key);
+            record.setRequestHash(requestHash);
+            record.setStatusCode(status);
+            record.setContentType(contentType);
+            record.setBody(body);
+            record.setExpiresAt(response.expiresAt());
+            repository.save(record);
+        } catch (DataAccessException e) {
+            // The in-memory copy still covers quick retries
+            logger.warn("Could not persist idempotency record {}: {}", key, e.getMessage());
+        }
+        return response;
+    }
+
+    /**
+     * Delete records whose retention has passed
+     */
+    @Scheduled(fixedDelayString = "${sonic.idempotency.cleanup-interval:PT1H}")
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.debug("Purged {} expired idempotency records", deleted);
+        }
+    }
+}
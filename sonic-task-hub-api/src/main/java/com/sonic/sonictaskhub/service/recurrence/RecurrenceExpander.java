@@ -0,0 +1,111 @@
+package com.sonic.sonictaskhub.service.recurrence;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sonic.sonictaskhub.model.dto.EventDto;
+import com.sonic.sonictaskhub.model.entity.Event;
+import com.sonic.sonictaskhub.model.enums.RecurringPattern;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Computes the occurrences of a recurring event from the rule on its master row.
+ *
+ * The rule is the event's RRULE, or the equivalent of its fixed recurring
+ * pattern. Parsed rules are cached by their text, so the many series sharing
+ * a handful of common rules are parsed once. The recurring end date is
+ * exclusive and applies on top of any UNTIL or COUNT in the rule; without
+ * either a series never ends.
+ */
+@Component
+public class RecurrenceExpander {
+
+    private static final String CACHE_NAME = "recurrenceRules";
+
+    private final Cache<String, RecurrenceRule> rules;
+
+    @Autowired
+    public RecurrenceExpander(MeterRegistry meterRegistry,
+                              @Value("${sonic.recurrence.rule-cache-size:10000}") long cacheSize) {
+        this.rules = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rules, CACHE_NAME);
+    }
+
+    /**
+     * Occurrences of the series between {@code from} and {@code to}, both inclusive, in order
+     */
+    public List<LocalDateTime> occurrences(Event master, LocalDateTime from, LocalDateTime to) {
+        return expand(master.getEventDateTime(), master.getRecurringEndDate(),
+                ruleOf(master.getRecurrenceRule(), master.getRecurringPattern(), master.getRecurringInterval()),
+                from, to, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Occurrences of a series held as a DTO between {@code from} and {@code to}, both inclusive,
+     * in order and at most {@code limit} of them
+     */
+    public List<LocalDateTime> occurrences(EventDto master, LocalDateTime from, LocalDateTime to, int limit) {
+        return expand(master.getEventDateTime(), master.getRecurringEndDate(),
+                ruleOf(master.getRecurrenceRule(), master.getRecurringPattern(), master.getRecurringInterval()),
+                from, to, limit);
+    }
+
+    /**
+     * Whether the series has an occurrence at exactly this time
+     */
+    public boolean occursAt(Event master, LocalDateTime dateTime) {
+        return !occurrences(master, dateTime, dateTime).isEmpty();
+    }
+
+    /**
+     * Parse a rule through the cache
+     *
+     * @throws com.sonic.sonictaskhub.service.exception.ValidationException if the rule is invalid
+     */
+    public RecurrenceRule compile(String rule) {
+        return rules.get(RecurrenceRule.normalize(rule), RecurrenceRule::parse);
+    }
+
+    private List<LocalDateTime> expand(LocalDateTime start, LocalDateTime end, RecurrenceRule rule,
+                                       LocalDateTime from, LocalDateTime to, int limit) {
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        if (rule == null) {
+            if (!start.isBefore(from) && !start.isAfter(to) && limit > 0) {
+                occurrences.add(start);
+            }
+            return occurrences;
+        }
+
+        RecurrenceIterator iterator = rule.iterator(start);
+        iterator.advanceTo(from);
+        for (LocalDateTime occurrence = iterator.next();
+             occurrence != null && occurrences.size() < limit && !occurrence.isAfter(to)
+                     && (end == null || occurrence.isBefore(end));
+             occurrence = iterator.next()) {
+            occurrences.add(occurrence);
+        }
+        return occurrences;
+    }
+
+    private RecurrenceRule ruleOf(String recurrenceRule, RecurringPattern pattern, Integer interval) {
+        if (recurrenceRule != null) {
+            return compile(recurrenceRule);
+        }
+        if (pattern != null) {
+            return compile(RecurrenceRule.forPattern(pattern, interval));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,315 @@
+package com.sonic.sonictaskhub.service.recurrence;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Arrays;
+
+import com.sonic.sonictaskhub.service.recurrence.RecurrenceRule.Frequency;
+
+/**
+ * Walks the occurrences of one {@link RecurrenceRule} for a series start, in order.
+ *
+ * Occurrences are produced one period (day, week, month or year) at a time:
+ * the candidate days of a period are collected as epoch days into a reused
+ * buffer, filtered by the BYxxx parts and BYSETPOS, and handed out one by
+ * one. {@link #advanceTo} jumps straight to the period containing a given
+ * time, so expanding a window late in a long series does not walk from its
+ * start. Rules with COUNT are the exception: the count is relative to the
+ * start, so they are walked, which COUNT itself keeps bounded.
+ *
+ * Not thread-safe; create one per expansion.
+ */
+public final class RecurrenceIterator {
+
+    // Empty periods in a row after which a rule is treated as exhausted (about ten years)
+    private static final int MAX_EMPTY_DAYS = 3660;
+    private static final int MAX_EMPTY_WEEKS = 530;
+    private static final int MAX_EMPTY_MONTHS = 120;
+    private static final int MAX_EMPTY_YEARS = 10;
+    private static final int MAX_YEAR = 9999;
+
+    private final RecurrenceRule rule;
+    private final LocalDateTime start;
+    private final LocalTime time;
+    private final long startPeriod;
+    private final int weekStartRemainder;
+    private final int maxEmptyPeriods;
+    private final int startWeekday;
+    private final int[] monthDays;
+    private final boolean[] months = new boolean[13];
+
+    private final long[] days = new long[366];
+    private final boolean[] selected = new boolean[366];
+    private int size;
+    private int position;
+    private long period;
+    private boolean filled;
+    private int emitted;
+    private boolean exhausted;
+    private LocalDateTime pending;
+
+    RecurrenceIterator(RecurrenceRule rule, LocalDateTime start) {
+        this.rule = rule;
+        this.start = start;
+        this.time = start.toLocalTime();
+        LocalDate startDate = start.toLocalDate();
+        long startDay = startDate.toEpochDay();
+        this.startWeekday = weekday(startDay);
+        this.weekStartRemainder = (int) Math.floorMod(weekStartDay(startDay, rule.weekStart.getValue()), 7L);
+        this.startPeriod = periodOf(startDate);
+        this.period = startPeriod;
+        this.maxEmptyPeriods = switch (rule.frequency) {
+            case DAILY -> MAX_EMPTY_DAYS;
+            case WEEKLY -> MAX_EMPTY_WEEKS;
+            case MONTHLY -> MAX_EMPTY_MONTHS;
+            case YEARLY -> MAX_EMPTY_YEARS;
+        };
+
+        // Without BYDAY or BYMONTHDAY, monthly and yearly rules repeat the start's day of month
+        boolean dayUnspecified = rule.byDayOfWeek.length == 0 && rule.byMonthDay.length == 0
+                && (rule.frequency == Frequency.MONTHLY || rule.frequency == Frequency.YEARLY);
+        this.monthDays = dayUnspecified ? new int[] { startDate.getDayOfMonth() } : rule.byMonthDay;
+        if (rule.byMonth.length > 0) {
+            for (int month : rule.byMonth) {
+                months[month] = true;
+            }
+        } else if (rule.frequency == Frequency.YEARLY && dayUnspecified) {
+            months[startDate.getMonthValue()] = true;
+        } else {
+            Arrays.fill(months, true);
+        }
+    }
+
+    /**
+     * Position the iterator so that {@link #next} returns the first occurrence at or after {@code from}
+     */
+    public void advanceTo(LocalDateTime from) {
+        if (exhausted || (pending != null && !pending.isBefore(from))) {
+            return;
+        }
+        if (rule.count == 0) {
+            long target = periodOf(from.toLocalDate());
+            long aligned = startPeriod + Math.floorDiv(target - startPeriod, rule.interval) * rule.interval;
+            if (aligned > period) {
+                period = aligned;
+                filled = false;
+                size = 0;
+                position = 0;
+                pending = null;
+            }
+        }
+        LocalDateTime next = peek();
+        while (next != null && next.isBefore(from)) {
+            next();
+            next = peek();
+        }
+    }
+
+    /**
+     * The next occurrence without consuming it, or null once the rule is exhausted
+     */
+    public LocalDateTime peek() {
+        if (pending == null && !exhausted) {
+            pending = compute();
+        }
+        return pending;
+    }
+
+    /**
+     * The next occurrence, or null once the rule is exhausted
+     */
+    public LocalDateTime next() {
+        LocalDateTime next = peek();
+        if (next != null) {
+            pending = null;
+            emitted++;
+        }
+        return next;
+    }
+
+    private LocalDateTime compute() {
+        if (rule.count > 0 && emitted >= rule.count) {
+            exhausted = true;
+            return null;
+        }
+        int emptyPeriods = 0;
+        while (true) {
+            while (position < size) {
+                LocalDateTime candidate = LocalDate.ofEpochDay(days[position++]).atTime(time);
+                if (candidate.isBefore(start)) {
+                    continue;
+                }
+                if (rule.until != null && candidate.isAfter(rule.until)) {
+                    exhausted = true;
+                    return null;
+                }
+                return candidate;
+            }
+            if (filled) {
+                period += rule.interval;
+            }
+            if (yearOfPeriod(period) > MAX_YEAR) {
+                exhausted = true;
+                return null;
+            }
+            fill();
+            if (size == 0 && ++emptyPeriods > maxEmptyPeriods) {
+                exhausted = true;
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Collect the candidate days of the current period, ascending
+     */
+    private void fill() {
+        filled = true;
+        size = 0;
+        position = 0;
+        switch (rule.frequency) {
+            case DAILY -> {
+                LocalDate date = LocalDate.ofEpochDay(period);
+                if (months[date.getMonthValue()] && matchesMonthDay(date.getDayOfMonth(), date.lengthOfMonth())
+                        && matchesWeekday(weekday(period), 0, 0)) {
+                    days[size++] = period;
+                }
+            }
+            case WEEKLY -> {
+                long first = period * 7 + weekStartRemainder;
+                for (long day = first; day < first + 7; day++) {
+                    int weekday = weekday(day);
+                    boolean selected = rule.byDayOfWeek.length > 0
+                            ? matchesWeekday(weekday, 0, 0) : weekday == startWeekday;
+                    if (selected && (rule.byMonth.length == 0 || months[LocalDate.ofEpochDay(day).getMonthValue()])) {
+                        days[size++] = day;
+                    }
+                }
+            }
+            case MONTHLY -> {
+                int year = (int) Math.floorDiv(period, 12L);
+                int month = (int) Math.floorMod(period, 12L) + 1;
+                if (months[month]) {
+                    scanMonth(year, month, true, 0, 0);
+                }
+            }
+            case YEARLY -> {
+                int year = (int) period;
+                int yearLength = Year.of(year).length();
+                // BYDAY ordinals count within the month when BYMONTH is given, otherwise within the year
+                boolean ordinalsInMonth = rule.byMonth.length > 0;
+                int dayOfYearOffset = 0;
+                for (int month = 1; month <= 12; month++) {
+                    if (months[month]) {
+                        scanMonth(year, month, ordinalsInMonth, dayOfYearOffset, yearLength);
+                    }
+                    dayOfYearOffset += YearMonth.of(year, month).lengthOfMonth();
+                }
+            }
+        }
+        if (rule.bySetPos.length > 0) {
+            applySetPositions();
+        }
+    }
+
+    private void scanMonth(int year, int month, boolean ordinalsInMonth, int dayOfYearOffset, int yearLength) {
+        LocalDate first = LocalDate.of(year, month, 1);
+        long firstDay = first.toEpochDay();
+        int length = first.lengthOfMonth();
+        for (int dayOfMonth = 1; dayOfMonth <= length; dayOfMonth++) {
+            if (!matchesMonthDay(dayOfMonth, length)) {
+                continue;
+            }
+            long day = firstDay + dayOfMonth - 1;
+            int index = ordinalsInMonth ? dayOfMonth : dayOfYearOffset + dayOfMonth;
+            int scopeLength = ordinalsInMonth ? length : yearLength;
+            int fromStart = (index - 1) / 7 + 1;
+            int fromEnd = -((scopeLength - index) / 7 + 1);
+            if (matchesWeekday(weekday(day), fromStart, fromEnd)) {
+                days[size++] = day;
+            }
+        }
+    }
+
+    private boolean matchesMonthDay(int dayOfMonth, int monthLength) {
+        if (monthDays.length == 0) {
+            return true;
+        }
+        for (int monthDay : monthDays) {
+            if (monthDay > 0 ? monthDay == dayOfMonth : monthLength + 1 + monthDay == dayOfMonth) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param fromStart which such weekday of the scope the day is, counting from 1
+     * @param fromEnd the same counted from the end, as a negative number
+     */
+    private boolean matchesWeekday(int weekday, int fromStart, int fromEnd) {
+        if (rule.byDayOfWeek.length == 0) {
+            return true;
+        }
+        for (int i = 0; i < rule.byDayOfWeek.length; i++) {
+            int ordinal = rule.byDayOrdinal[i];
+            if (rule.byDayOfWeek[i] == weekday && (ordinal == 0 || ordinal == fromStart || ordinal == fromEnd)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Keep only the BYSETPOS positions of the period's candidates, ascending and without duplicates
+     */
+    private void applySetPositions() {
+        // Candidates are ascending, so marking positions and compacting in order keeps them sorted
+        for (int setPos : rule.bySetPos) {
+            int index = setPos > 0 ? setPos - 1 : size + setPos;
+            if (index >= 0 && index < size) {
+                selected[index] = true;
+            }
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (selected[i]) {
+                days[kept++] = days[i];
+                selected[i] = false;
+            }
+        }
+        size = kept;
+    }
+
+    private long periodOf(LocalDate date) {
+        return switch (rule.frequency) {
+            case DAILY -> date.toEpochDay();
+            case WEEKLY -> Math.floorDiv(weekStartDay(date.toEpochDay(), rule.weekStart.getValue()), 7L);
+            case MONTHLY -> date.getYear() * 12L + date.getMonthValue() - 1;
+            case YEARLY -> date.getYear();
+        };
+    }
+
+    private long yearOfPeriod(long period) {
+        return switch (rule.frequency) {
+            case DAILY -> LocalDate.ofEpochDay(Math.min(period, LocalDate.MAX.toEpochDay())).getYear();
+            case WEEKLY -> LocalDate.ofEpochDay(Math.min(period * 7, LocalDate.MAX.toEpochDay())).getYear();
+            case MONTHLY -> Math.floorDiv(period, 12L);
+            case YEARLY -> period;
+        };
+    }
+
+    /**
+     * ISO day of week (1 = Monday) of an epoch day; day 0 was a Thursday
+     */
+    private static int weekday(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+    }
+
+    private static long weekStartDay(long epochDay, int weekStart) {
+        return epochDay - Math.floorMod(weekday(epochDay) - weekStart, 7);
+    }
+}
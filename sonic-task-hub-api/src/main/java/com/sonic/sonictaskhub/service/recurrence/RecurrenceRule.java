@@ -0,0 +1,269 @@
+package com.sonic.sonictaskhub.service.recurrence;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+
+import com.sonic.sonictaskhub.model.enums.RecurringPattern;
+import com.sonic.sonictaskhub.service.exception.ValidationException;
+
+/**
+ * A parsed RFC 5545 recurrence rule.
+ *
+ * Supports FREQ (DAILY, WEEKLY, MONTHLY, YEARLY), INTERVAL, COUNT, UNTIL,
+ * BYDAY (with ordinals such as {@code 2TU} or {@code -1FR} for monthly and
+ * yearly rules), BYMONTHDAY, BYMONTH, BYSETPOS and WKST. Rules using other
+ * parts are rejected rather than silently misread. Instances are immutable
+ * and shared between threads; {@link #iterator} creates the per-use state.
+ */
+public final class RecurrenceRule {
+
+    enum Frequency { DAILY, WEEKLY, MONTHLY, YEARLY }
+
+    private static final String[] WEEKDAY_CODES = { "MO", "TU", "WE", "TH", "FR", "SA", "SU" };
+    private static final DateTimeFormatter UNTIL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UNTIL_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    // Distinct BYDAY values: seven weekdays, each plain or with an ordinal in -53..53
+    private static final int MAX_BYDAY_ENTRIES = 7 * (2 * 53 + 1);
+
+    final Frequency frequency;
+    final int interval;
+    final int count;
+    final LocalDateTime until;
+    // BYDAY as parallel arrays: ISO day of week (1 = Monday) and ordinal (0 = every such day)
+    final int[] byDayOfWeek;
+    final int[] byDayOrdinal;
+    final int[] byMonthDay;
+    final int[] byMonth;
+    final int[] bySetPos;
+    final DayOfWeek weekStart;
+
+    private final String text;
+
+    private RecurrenceRule(String text, Frequency frequency, int interval, int count, LocalDateTime until,
+                           int[] byDayOfWeek, int[] byDayOrdinal, int[] byMonthDay, int[] byMonth,
+                           int[] bySetPos, DayOfWeek weekStart) {
+        this.text = text;
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDayOfWeek = byDayOfWeek;
+        this.byDayOrdinal = byDayOrdinal;
+        this.byMonthDay = byMonthDay;
+        this.byMonth = byMonth;
+        this.bySetPos = bySetPos;
+        this.weekStart = weekStart;
+    }
+
+    /**
+     * Parse a rule such as {@code FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1}.
+     * An {@code RRULE:} prefix is accepted. UNTIL in UTC form is read as a local time,
+     * matching how event times are stored.
+     *
+     * @throws ValidationException if the rule is malformed or uses unsupported parts
+     */
+    public static RecurrenceRule parse(String rule) {
+        String text = normalize(rule);
+        if (text.isEmpty()) {
+            throw invalid("the rule is empty");
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        int count = 0;
+        LocalDateTime until = null;
+        int[] byDayOfWeek = new int[0];
+        int[] byDayOrdinal = new int[0];
+        int[] byMonthDay = new int[0];
+        int[] byMonth = new int[0];
+        int[] bySetPos = new int[0];
+        DayOfWeek weekStart = DayOfWeek.MONDAY;
+
+        for (String part : text.split(";")) {
+            int eq = part.indexOf('=');
+            if (eq <= 0 || eq == part.length() - 1) {
+                throw invalid("'" + part + "' is not NAME=VALUE");
+            }
+            String name = part.substring(0, eq);
+            String value = part.substring(eq + 1);
+            switch (name) {
+                case "FREQ" -> {
+                    try {
+                        frequency = Frequency.valueOf(value);
+                    } catch (IllegalArgumentException e) {
+                        throw invalid("FREQ=" + value + " is not supported");
+                    }
+                }
+                case "INTERVAL" -> interval = parseInt(name, value, 1, 1000);
+                case "COUNT" -> count = parseInt(name, value, 1, 100_000);
+                case "UNTIL" -> until = parseUntil(value);
+                case "BYDAY" -> {
+                    String[] days = value.split(",");
+                    if (days.length > MAX_BYDAY_ENTRIES) {
+                        throw invalid("BYDAY has more than " + MAX_BYDAY_ENTRIES + " entries");
+                    }
+                    byDayOfWeek = new int[days.length];
+                    byDayOrdinal = new int[days.length];
+                    int distinct = 0;
+                    for (String day : days) {
+                        if (day.length() < 2) {
+                            throw invalid("BYDAY value '" + day + "' is not a weekday");
+                        }
+                        int weekday = weekday(day.substring(day.length() - 2)).getValue();
+                        int ordinal = day.length() > 2
+                                ? parseSignedInt(name, day.substring(0, day.length() - 2), 53) : 0;
+                        if (!containsDay(byDayOfWeek, byDayOrdinal, distinct, weekday, ordinal)) {
+                            byDayOfWeek[distinct] = weekday;
+                            byDayOrdinal[distinct++] = ordinal;
+                        }
+                    }
+                    byDayOfWeek = Arrays.copyOf(byDayOfWeek, distinct);
+                    byDayOrdinal = Arrays.copyOf(byDayOrdinal, distinct);
+                }
+                case "BYMONTHDAY" -> byMonthDay = parseList(name, value, 31, true);
+                case "BYMONTH" -> byMonth = parseList(name, value, 12, false);
+                case "BYSETPOS" -> bySetPos = parseList(name, value, 366, true);
+                case "WKST" -> weekStart = weekday(value);
+                default -> throw invalid(name + " is not supported");
+            }
+        }
+
+        if (frequency == null) {
+            throw invalid("FREQ is required");
+        }
+        if (count > 0 && until != null) {
+            throw invalid("COUNT and UNTIL cannot both be set");
+        }
+        boolean hasOrdinal = Arrays.stream(byDayOrdinal).anyMatch(ordinal -> ordinal != 0);
+        if (hasOrdinal && (frequency == Frequency.DAILY || frequency == Frequency.WEEKLY)) {
+            throw invalid("BYDAY ordinals are only allowed with MONTHLY or YEARLY");
+        }
+        if (byMonthDay.length > 0 && frequency == Frequency.WEEKLY) {
+            throw invalid("BYMONTHDAY is not allowed with WEEKLY");
+        }
+        if (bySetPos.length > 0 && byDayOfWeek.length == 0 && byMonthDay.length == 0 && byMonth.length == 0) {
+            throw invalid("BYSETPOS requires another BYxxx part");
+        }
+
+        Arrays.sort(byMonthDay);
+        Arrays.sort(byMonth);
+        return new RecurrenceRule(text, frequency, interval, count, until, byDayOfWeek, byDayOrdinal,
+                byMonthDay, byMonth, bySetPos, weekStart);
+    }
+
+    /**
+     * The rule equivalent to one of the fixed {@link RecurringPattern}s
+     */
+    public static String forPattern(RecurringPattern pattern, Integer interval) {
+        int n = interval != null && interval > 0 ? interval : 1;
+        return switch (pattern) {
+            case DAILY -> "FREQ=DAILY";
+            case WEEKLY -> "FREQ=WEEKLY";
+            case MONTHLY -> "FREQ=MONTHLY";
+            case YEARLY -> "FREQ=YEARLY";
+            case EVERY_N_DAYS -> "FREQ=DAILY;INTERVAL=" + n;
+            case EVERY_N_WEEKS -> "FREQ=WEEKLY;INTERVAL=" + n;
+        };
+    }
+
+    /**
+     * Canonical text for caching and storage: upper case, no prefix or blanks
+     */
+    public static String normalize(String rule) {
+        String text = rule == null ? "" : rule.strip().toUpperCase(Locale.ROOT).replace(" ", "");
+        if (text.startsWith("RRULE:")) {
+            text = text.substring("RRULE:".length());
+        }
+        while (text.endsWith(";")) {
+            text = text.substring(0, text.length() - 1);
+        }
+        return text;
+    }
+
+    /**
+     * Iterate the occurrences of the rule for a series starting at {@code start}
+     */
+    public RecurrenceIterator iterator(LocalDateTime start) {
+        return new RecurrenceIterator(this, start);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    private static DayOfWeek weekday(String code) {
+        for (int i = 0; i < WEEKDAY_CODES.length; i++) {
+            if (WEEKDAY_CODES[i].equals(code)) {
+                return DayOfWeek.of(i + 1);
+            }
+        }
+        throw invalid("'" + code + "' is not a weekday");
+    }
+
+    private static LocalDateTime parseUntil(String value) {
+        String local = value.endsWith("Z") ? value.substring(0, value.length() - 1) : value;
+        try {
+            return local.length() == 8
+                    ? LocalDate.parse(local, UNTIL_DATE).atTime(23, 59, 59)
+                    : LocalDateTime.parse(local, UNTIL_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw invalid("UNTIL=" + value + " is not a date or date-time");
+        }
+    }
+
+    /**
+     * Parse a comma-separated list, dropping duplicates; a list longer than the
+     * number of distinct legal values is rejected before anything is parsed
+     */
+    private static int[] parseList(String name, String value, int max, boolean signed) {
+        String[] items = value.split(",");
+        int distinctValues = signed ? 2 * max : max;
+        if (items.length > distinctValues) {
+            throw invalid(name + " has more than " + distinctValues + " entries");
+        }
+        int[] parsed = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            parsed[i] = signed ? parseSignedInt(name, items[i], max) : parseInt(name, items[i], 1, max);
+        }
+        return Arrays.stream(parsed).distinct().toArray();
+    }
+
+    private static boolean containsDay(int[] weekdays, int[] ordinals, int size, int weekday, int ordinal) {
+        for (int i = 0; i < size; i++) {
+            if (weekdays[i] == weekday && ordinals[i] == ordinal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int parseSignedInt(String name, String value, int max) {
+        int parsed = parseInt(name, value, -max, max);
+        if (parsed == 0) {
+            throw invalid(name + " values cannot be 0");
+        }
+        return parsed;
+    }
+
+    private static int parseInt(String name, String value, int min, int max) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < min || parsed > max) {
+                throw invalid(name + "=" + value + " is out of range");
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw invalid(name + "=" + value + " is not a number");
+        }
+    }
+
+    private static ValidationException invalid(String reason) {
+        return new ValidationException("Invalid recurrence rule: " + reason, "INVALID_RECURRENCE_RULE");
+    }
+}
@@ -0,0 +1,98 @@
+package com.sonic.sonictaskhub.service.security;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * BCrypt cost used for new password hashes, calibrated to this machine.
+ *
+ * Unless {@code sonic.password-hash.strength} fixes it, the cost is chosen at
+ * startup as the highest one whose hash still fits
+ * {@code sonic.password-hash.target-time}, within the configured bounds. Each
+ * step doubles the work, so the cost is extrapolated from a few cheap hashes
+ * at the minimum cost and then confirmed with one hash at the chosen cost.
+ * Stored hashes carry their own cost, so a different cost on new hardware
+ * only affects hashes written from then on (see {@link PasswordHasher#needsRehash}).
+ */
+@Component
+public class PasswordCost {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordCost.class);
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final String PROBE_PASSWORD = "calibration-probe";
+
+    private final int strength;
+
+    @Autowired
+    public PasswordCost(MeterRegistry meterRegistry,
+                        @Value("${sonic.password-hash.strength:0}") int fixedStrength,
+                        @Value("${sonic.password-hash.target-time:250ms}") Duration targetTime,
+                        @Value("${sonic.password-hash.min-strength:10}") int minStrength,
+                        @Value("${sonic.password-hash.max-strength:16}") int maxStrength) {
+        this.strength = fixedStrength > 0 ? fixedStrength : calibrate(targetTime, minStrength, maxStrength);
+        Gauge.builder("sonic.password.hash.cost", this, PasswordCost::getStrength)
+                .description("BCrypt cost used for new password hashes")
+                .register(meterRegistry);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * Cost recorded in a BCrypt hash such as {@code $2a$10$...}, or -1 if it is not one
+     */
+    public static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char units = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(units)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (units - '0');
+    }
+
+    private static int calibrate(Duration targetTime, int minStrength, int maxStrength) {
+        long budgetNanos = targetTime.toNanos();
+        long baseNanos = Long.MAX_VALUE;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            baseNanos = Math.min(baseNanos, timeHash(minStrength));
+        }
+
+        int chosen = minStrength;
+        while (chosen < maxStrength && baseNanos << (chosen + 1 - minStrength) <= budgetNanos) {
+            chosen++;
+        }
+        long measuredNanos = chosen > minStrength ? timeHash(chosen) : baseNanos;
+        // Extrapolation can overshoot on machines where larger costs fall out of cache or get throttled
+        while (chosen > minStrength && measuredNanos > budgetNanos) {
+            chosen--;
+            measuredNanos /= 2;
+        }
+
+        logger.info("Calibrated BCrypt cost {} (about {} ms per hash, target {} ms, allowed {}-{})",
+                chosen, TimeUnit.NANOSECONDS.toMillis(measuredNanos), targetTime.toMillis(), minStrength, maxStrength);
+        return chosen;
+    }
+
+    private static long timeHash(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(PROBE_PASSWORD);
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,187 @@
+package com.sonic.sonictaskhub.service.security;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.sonic.sonictaskhub.service.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs password hashing on the bounded {@code passwordHashExecutor} instead of
+ * the request thread.
+ *
+ * A BCrypt hash takes tens of milliseconds of CPU, so a burst of logins could
+ * otherwise occupy every core and stall the rest of the API. Callers still
+ * wait for the result, but at most {@code sonic.password-hash.threads} hashes
+ * run at once. Attempts that find the queue full, or wait longer than
+ * {@code sonic.password-hash.timeout}, fail with 503.
+ *
+ * Hashes written at a cost other than the current {@link PasswordCost} can be
+ * replaced in the background after a successful login, using spare capacity
+ * of the same executor.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordCost passwordCost;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration timeout;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Timer queueWait;
+    private final Counter rejected;
+    private final Counter rehashScheduled;
+    private final Counter rehashSkipped;
+    private final Counter rehashStored;
+    private final Counter rehashDiscarded;
+
+    @Autowired
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          PasswordCost passwordCost,
+                          @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+                          MeterRegistry meterRegistry,
+                          @Value("${sonic.password-hash.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordCost = passwordCost;
+        this.executor = executor;
+        this.timeout = timeout;
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchTimer = hashTimer(meterRegistry, "matches");
+        this.queueWait = Timer.builder("sonic.password.hash.wait")
+                .description("Time password hashing tasks waited for a worker")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("sonic.password.hash.rejected")
+                .description("Password hashing attempts refused because the executor was saturated")
+                .register(meterRegistry);
+        this.rehashScheduled = rehashCounter(meterRegistry, "scheduled");
+        this.rehashSkipped = rehashCounter(meterRegistry, "skipped");
+        this.rehashStored = rehashCounter(meterRegistry, "stored");
+        this.rehashDiscarded = rehashCounter(meterRegistry, "discarded");
+        Gauge.builder("sonic.password.hash.queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Password hashing tasks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("sonic.password.hash.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Password hashing tasks running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hash a new password
+     */
+    public String encode(CharSequence rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    /**
+     * Check a password against its stored hash
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchTimer);
+    }
+
+    /**
+     * Whether a stored hash was written at a different cost than new hashes get
+     */
+    public boolean needsRehash(String encodedPassword) {
+        int cost = PasswordCost.costOf(encodedPassword);
+        return cost > 0 && cost != passwordCost.getStrength();
+    }
+
+    /**
+     * Hash the password again at the current cost without making the caller wait.
+     * Skipped while the executor is more than half full, so logins keep priority;
+     * the next login tries again.
+     *
+     * @param store saves the new hash, returning false if the stored password changed meanwhile
+     */
+    public void rehashInBackground(CharSequence rawPassword, Predicate<String> store) {
+        BlockingQueue<Runnable> queue = executor.getThreadPoolExecutor().getQueue();
+        if (queue.size() > queue.remainingCapacity()) {
+            rehashSkipped.increment();
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    String rehashed = encodeTimer.record(() -> passwordEncoder.encode(rawPassword));
+                    (store.test(rehashed) ? rehashStored : rehashDiscarded).increment();
+                } catch (RuntimeException e) {
+                    rehashDiscarded.increment();
+                    logger.warn("Background password rehash failed: {}", e.getMessage());
+                }
+            });
+            rehashScheduled.increment();
+        } catch (TaskRejectedException e) {
+            rehashSkipped.increment();
+        }
+    }
+
+    private <T> T run(Callable<T> hashing, Timer timer) {
+        long submitted = System.nanoTime();
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(hashing);
+            });
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw ServiceUnavailableException.PASSWORD_HASHING_BUSY;
+        }
+
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejected.increment();
+            throw ServiceUnavailableException.PASSWORD_HASHING_BUSY;
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw ServiceUnavailableException.PASSWORD_HASHING_BUSY;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("sonic.password.hash")
+                .description("Time spent hashing or checking a password")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static Counter rehashCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("sonic.password.rehash")
+                .description("Background rehashes of passwords stored at an outdated cost, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,265 @@
+package com.sonic.sonictaskhub.service.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sonic.sonictaskhub.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Issues and verifies signed session tokens.
+ *
+ * A token is {@code <key id>.<payload>.<signature>}: the payload holds the user
+ * id, issue time and expiry, and the signature is an HMAC-SHA256 over the key
+ * id and payload. Verification needs no I/O, only the keys in memory.
+ *
+ * Keys come from {@code sonic.auth.signing-keys} as {@code id:base64-secret}
+ * entries. The first one signs new tokens and all of them verify, so a key is
+ * rotated by putting a new one first and dropping the old one once its tokens
+ * have expired. Without configured keys a random key is generated at startup
+ * and tokens do not survive a restart.
+ *
+ * Revoking a user rejects every token issued to them up to that moment. The
+ * revocation list lives in memory and only has to remember a user for one
+ * token lifetime, after which those tokens have expired anyway. Because it
+ * does not survive a restart, every deactivated user is revoked again at
+ * startup, so tokens issued before the restart stay rejected.
+ */
+@Component
+public class SessionTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionTokenService.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final int PAYLOAD_BYTES = 3 * Long.BYTES;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Result of checking a token
+     */
+    public enum Status {
+        VALID("Valid"),
+        MALFORMED("Malformed token"),
+        UNKNOWN_KEY("Token signed with an unknown key"),
+        BAD_SIGNATURE("Token signature does not match"),
+        EXPIRED("Token has expired"),
+        REVOKED("Token has been revoked");
+
+        private final String displayName;
+
+        Status(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    public record Verification(Status status, Long userId) {
+    }
+
+    public record IssuedToken(String token, Instant expiresAt) {
+    }
+
+    private final Map<String, SigningKey> keys;
+    private final SigningKey activeKey;
+    private final Duration ttl;
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+    private final Map<Status, Counter> outcomes = new EnumMap<>(Status.class);
+
+    private final UserRepository userRepository;
+
+    @Autowired
+    public SessionTokenService(UserRepository userRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${sonic.auth.signing-keys:}") List<String> signingKeys,
+                               @Value("${sonic.auth.token-ttl:12h}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.ttl = ttl;
+        this.keys = parseKeys(signingKeys);
+        this.activeKey = keys.values().iterator().next();
+
+        for (Status status : Status.values()) {
+            outcomes.put(status, Counter.builder("sonic.auth.tokens")
+                    .description("Session tokens checked, by outcome")
+                    .tag("outcome", status.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("sonic.auth.revoked.users", revokedBefore, Map::size)
+                .description("Users whose earlier tokens are currently revoked")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Revoke the tokens of users deactivated before the last restart
+     */
+    @PostConstruct
+    public void revokeInactiveUsers() {
+        long now = System.currentTimeMillis();
+        List<Long> inactive = userRepository.findInactiveUserIds();
+        for (Long userId : inactive) {
+            revokedBefore.put(userId, now);
+        }
+        if (!inactive.isEmpty()) {
+            logger.info("Revoked session tokens of {} inactive users", inactive.size());
+        }
+    }
+
+    /**
+     * Issue a token for the user, valid for {@code sonic.auth.token-ttl}
+     */
+    public IssuedToken issue(Long userId) {
+        long issuedAt = System.currentTimeMillis();
+        long expiresAt = issuedAt + ttl.toMillis();
+        byte[] payload = ByteBuffer.allocate(PAYLOAD_BYTES).putLong(userId).putLong(issuedAt).putLong(expiresAt).array();
+        String signed = activeKey.id + "." + ENCODER.encodeToString(payload);
+        String token = signed + "." + ENCODER.encodeToString(activeKey.sign(signed));
+        return new IssuedToken(token, Instant.ofEpochMilli(expiresAt));
+    }
+
+    /**
+     * Check a token's signature, expiry and revocation
+     */
+    public Verification verify(String token) {
+        Verification result = check(token);
+        outcomes.get(result.status()).increment();
+        return result;
+    }
+
+    /**
+     * Reject every token issued to the user so far
+     */
+    public void revoke(Long userId) {
+        revokedBefore.put(userId, System.currentTimeMillis());
+    }
+
+    /**
+     * Forget revocations older than a token lifetime
+     */
+    @Scheduled(fixedDelayString = "${sonic.auth.revocation-cleanup-interval:PT10M}")
+    public void purgeRevocations() {
+        long cutoff = System.currentTimeMillis() - ttl.toMillis();
+        revokedBefore.values().removeIf(revokedAt -> revokedAt < cutoff);
+    }
+
+    private Verification check(String token) {
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot <= firstDot + 1 || lastDot == token.length() - 1) {
+            return new Verification(Status.MALFORMED, null);
+        }
+        SigningKey key = keys.get(token.substring(0, firstDot));
+        if (key == null) {
+            return new Verification(Status.UNKNOWN_KEY, null);
+        }
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(firstDot + 1, lastDot));
+            signature = DECODER.decode(token.substring(lastDot + 1));
+        } catch (IllegalArgumentException e) {
+            return new Verification(Status.MALFORMED, null);
+        }
+        if (payload.length != PAYLOAD_BYTES) {
+            return new Verification(Status.MALFORMED, null);
+        }
+        if (!MessageDigest.isEqual(key.sign(token.substring(0, lastDot)), signature)) {
+            return new Verification(Status.BAD_SIGNATURE, null);
+        }
+
+        ByteBuffer fields = ByteBuffer.wrap(payload);
+        long userId = fields.getLong();
+        long issuedAt = fields.getLong();
+        long expiresAt = fields.getLong();
+        if (expiresAt <= System.currentTimeMillis()) {
+            return new Verification(Status.EXPIRED, userId);
+        }
+        Long revokedAt = revokedBefore.get(userId);
+        if (revokedAt != null && issuedAt <= revokedAt) {
+            return new Verification(Status.REVOKED, userId);
+        }
+        return new Verification(Status.VALID, userId);
+    }
+
+    private static Map<String, SigningKey> parseKeys(List<String> signingKeys) {
+        Map<String, SigningKey> parsed = new LinkedHashMap<>();
+        for (String entry : signingKeys) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int colon = entry.indexOf(':');
+            String id = colon > 0 ? entry.substring(0, colon).trim() : "";
+            if (id.isEmpty() || id.contains(".")) {
+                throw new IllegalStateException("sonic.auth.signing-keys entries must look like <id>:<base64 secret>, without '.' in the id");
+            }
+            byte[] secret = Base64.getDecoder().decode(entry.substring(colon + 1).trim());
+            if (secret.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException("Signing key '" + id + "' must be at least " + MIN_SECRET_BYTES + " bytes");
+            }
+            parsed.put(id, new SigningKey(id, secret));
+        }
+        if (parsed.isEmpty()) {
+            logger.warn("No sonic.auth.signing-keys configured; using a random key, so sessions end on restart");
+            byte[] secret = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(secret);
+            parsed.put("local", new SigningKey("local", secret));
+        }
+        return parsed;
+    }
+
+    /**
+     * One HMAC key; a {@link Mac} is not thread-safe, so each thread keeps its own
+     */
+    private static final class SigningKey {
+
+        private final String id;
+        private final ThreadLocal<Mac> mac;
+
+        SigningKey(String id, byte[] secret) {
+            this.id = id;
+            SecretKeySpec spec = new SecretKeySpec(secret, ALGORITHM);
+            this.mac = ThreadLocal.withInitial(() -> {
+                try {
+                    Mac instance = Mac.getInstance(ALGORITHM);
+                    instance.init(spec);
+                    return instance;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        byte[] sign(String data) {
+            return mac.get().doFinal(data.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.sonic.sonictaskhub.service.support;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Converts rows of a repository {@link Stream} one at a time.
+ *
+ * Entities read through a cursor stay attached to the persistence context,
+ * so the context is cleared every {@value #CLEAR_INTERVAL} rows; together with
+ * the cursor's fetch size this keeps memory use independent of the result size.
+ * Must be called inside the transaction that opened the stream.
+ */
+@Component
+public class EntityStreamer {
+
+    private static final int CLEAR_INTERVAL = 256;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Convert each row and hand it to the consumer, then close the stream
+     */
+    public <E, D> long forEach(Stream<E> rows, Function<E, D> converter, Consumer<D> consumer) {
+        long count = 0;
+        try (rows) {
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(converter.apply(iterator.next()));
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+}
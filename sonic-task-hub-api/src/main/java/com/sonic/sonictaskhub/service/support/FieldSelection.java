@@ -0,0 +1,98 @@
+package com.sonic.sonictaskhub.service.support;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The set of DTO properties requested by the client through {@code ?fields=}.
+ *
+ * The selection for the current request is bound to the handling thread so
+ * that {@code convertToDto} methods can skip associations and derived counts
+ * nobody asked for, and so that cache and coalescing keys can tell differently
+ * shaped results apart.
+ */
+public final class FieldSelection {
+
+    /**
+     * Selection that includes every property
+     */
+    public static final FieldSelection ALL = new FieldSelection(null);
+
+    private static final ThreadLocal<FieldSelection> CURRENT = new ThreadLocal<>();
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Create a selection limited to the given property names
+     */
+    public static FieldSelection of(Collection<String> fields) {
+        return new FieldSelection(Collections.unmodifiableSet(new LinkedHashSet<>(fields)));
+    }
+
+    /**
+     * Selection bound to the current thread, or {@link #ALL} if none
+     */
+    public static FieldSelection current() {
+        FieldSelection selection = CURRENT.get();
+        return selection != null ? selection : ALL;
+    }
+
+    /**
+     * Bind a selection to the current thread; {@code null} or {@link #ALL} unbinds
+     */
+    public static void bind(FieldSelection selection) {
+        if (selection == null || selection.isAll()) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(selection);
+        }
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    public boolean includesAny(String... candidates) {
+        if (fields == null) {
+            return true;
+        }
+        for (String candidate : candidates) {
+            if (fields.contains(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FieldSelection)) return false;
+        return Objects.equals(fields, ((FieldSelection) o).fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(fields);
+    }
+
+    @Override
+    public String toString() {
+        return fields == null ? "*" : String.join(",", fields);
+    }
+}
@@ -0,0 +1,118 @@
+package com.sonic.sonictaskhub.service.support;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Immutable index of closed intervals {@code [start, end]} over longs.
+ *
+ * The intervals are kept in primitive arrays sorted by start, which also form
+ * an implicit balanced search tree: the middle of any slice is its root. Each
+ * root records the largest end in its slice, so an overlap query skips every
+ * slice that ends before the query begins or starts after it ends, visiting
+ * O(log n + k) roots for k matches. Matches are reported in start order.
+ * Instances are safe to share between threads.
+ */
+public final class IntervalIndex<T> {
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final Object[] values;
+
+    private IntervalIndex(long[] starts, long[] ends, Object[] values) {
+        this.starts = starts;
+        this.ends = ends;
+        this.values = values;
+        this.maxEnds = new long[starts.length];
+        fillMaxEnds(0, starts.length);
+    }
+
+    /**
+     * Index the values under the interval each one covers
+     */
+    public static <T> IntervalIndex<T> of(List<T> items, ToLongFunction<T> start, ToLongFunction<T> end) {
+        Object[] sorted = items.toArray();
+        @SuppressWarnings("unchecked")
+        Comparator<Object> byStart = Comparator.comparingLong(item -> start.applyAsLong((T) item));
+        Arrays.sort(sorted, byStart);
+
+        long[] starts = new long[sorted.length];
+        long[] ends = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            @SuppressWarnings("unchecked")
+            T item = (T) sorted[i];
+            starts[i] = start.applyAsLong(item);
+            ends[i] = Math.max(starts[i], end.applyAsLong(item));
+        }
+        return new IntervalIndex<>(starts, ends, sorted);
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Hand every value whose interval overlaps {@code [from, to]} to the consumer, in start order
+     */
+    public void forEachOverlapping(long from, long to, Consumer<? super T> consumer) {
+        if (from <= to) {
+            visit(0, starts.length, from, to, consumer);
+        }
+    }
+
+    /**
+     * Position of the first value starting at or after {@code from}; {@link #size} if there is none
+     */
+    public int firstStartingAt(long from) {
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < from) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The value at a position in start order
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int position) {
+        return (T) values[position];
+    }
+
+    private void visit(int low, int high, long from, long to, Consumer<? super T> consumer) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (maxEnds[mid] < from) {
+                return;
+            }
+            visit(low, mid, from, to, consumer);
+            if (starts[mid] > to) {
+                return;
+            }
+            if (ends[mid] >= from) {
+                consumer.accept(get(mid));
+            }
+            low = mid + 1;
+        }
+    }
+
+    private long fillMaxEnds(int low, int high) {
+        if (low >= high) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        long max = Math.max(ends[mid], Math.max(fillMaxEnds(low, mid), fillMaxEnds(mid + 1, high)));
+        maxEnds[mid] = max;
+        return max;
+    }
+}
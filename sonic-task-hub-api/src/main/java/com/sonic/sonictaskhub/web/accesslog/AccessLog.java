@@ -0,0 +1,267 @@
+package com.sonic.sonictaskhub.web.accesslog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Structured access log written off the request path.
+ *
+ * Request threads claim a slot in a preallocated ring buffer with a single
+ * compare-and-set and store a handful of references and numbers in it; a
+ * background thread formats the records as JSON lines and writes them in
+ * batches, flushing whenever the buffer runs empty. When the buffer is full
+ * the record is dropped and counted rather than making the request wait.
+ *
+ * Successful requests can be sampled; errors and slow requests are always
+ * logged. Query strings are never logged because they carry search terms.
+ */
+@Component
+public class AccessLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLog.class);
+
+    private static final int MAX_BATCH = 512;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final Slot[] slots;
+    private final int mask;
+    /** Next sequence to hand to a request thread */
+    private final AtomicLong claimed = new AtomicLong();
+    /** Next sequence the writer will consume; written by the writer thread only */
+    private volatile long consumed;
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final AccessLogFile file;
+    private final Counter dropped;
+    private final Counter written;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final ZoneId zone = ZoneId.systemDefault();
+    private Thread writer;
+    private volatile boolean running;
+
+    @Autowired
+    public AccessLog(MeterRegistry meterRegistry,
+                     @Value("${sonic.access-log.enabled:true}") boolean enabled,
+                     @Value("${sonic.access-log.file:logs/access.log}") Path path,
+                     @Value("${sonic.access-log.buffer-size:8192}") int bufferSize,
+                     @Value("${sonic.access-log.sample-rate:1.0}") double sampleRate,
+                     @Value("${sonic.access-log.slow-threshold:1s}") Duration slowThreshold,
+                     @Value("${sonic.access-log.max-file-size:50MB}") DataSize maxFileSize,
+                     @Value("${sonic.access-log.max-history:7}") int maxHistory) {
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize - 1)) << 1;
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.file = new AccessLogFile(path, maxFileSize.toBytes(), maxHistory);
+
+        this.dropped = Counter.builder("sonic.accesslog.dropped")
+                .description("Access log records dropped because the buffer was full")
+                .register(meterRegistry);
+        this.written = Counter.builder("sonic.accesslog.written")
+                .description("Access log records written")
+                .register(meterRegistry);
+        Gauge.builder("sonic.accesslog.backlog", this, log -> log.claimed.get() - log.consumed)
+                .description("Access log records waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("access-log-writer").daemon().start(this::writeLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (writer != null) {
+            running = false;
+            LockSupport.unpark(writer);
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record a finished request. Called on the request thread, so it only copies references.
+     *
+     * @param error exception class name if the request failed with an exception, otherwise null
+     */
+    public void record(long startMillis, long durationNanos, String method, String path, int status,
+                       String remoteAddr, String forwardedFor, String userAgent, String error) {
+        boolean always = status >= 400 || error != null || durationNanos >= slowThresholdNanos;
+        if (!always && sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) sequence & mask];
+        slot.startMillis = startMillis;
+        slot.durationNanos = durationNanos;
+        slot.method = method;
+        slot.path = path;
+        slot.status = status;
+        slot.remoteAddr = remoteAddr;
+        slot.forwardedFor = forwardedFor;
+        slot.userAgent = userAgent;
+        slot.error = error;
+        // Volatile write publishes the fields above to the writer
+        slot.sequence = sequence;
+    }
+
+    private void writeLoop() {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(512);
+        try (JsonGenerator json = jsonFactory.createGenerator(line)) {
+            json.setRootValueSeparator(null);
+            while (running || consumed < claimed.get()) {
+                int count = drain(json, line);
+                if (count == 0) {
+                    file.flush();
+                    if (running) {
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    } else if (consumed < claimed.get()) {
+                        // A claimed slot that is still being filled in
+                        Thread.onSpinWait();
+                    }
+                }
+            }
+            file.flush();
+        } catch (IOException e) {
+            logger.error("Access log writer stopped: {}", e.getMessage());
+        } finally {
+            try {
+                file.close();
+            } catch (IOException e) {
+                logger.warn("Could not close access log: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Write the published records at the head of the buffer
+     *
+     * @return records written
+     */
+    private int drain(JsonGenerator json, ByteArrayOutputStream line) throws IOException {
+        int count = 0;
+        long next = consumed;
+        while (count < MAX_BATCH) {
+            Slot slot = slots[(int) next & mask];
+            if (slot.sequence != next) {
+                break;
+            }
+            writeRecord(slot, json, line);
+            // Drop references so the buffer does not keep request strings alive
+            slot.path = null;
+            slot.userAgent = null;
+            slot.forwardedFor = null;
+            slot.error = null;
+            consumed = ++next;
+            count++;
+        }
+        if (count > 0) {
+            written.increment(count);
+        }
+        return count;
+    }
+
+    private void writeRecord(Slot slot, JsonGenerator json, ByteArrayOutputStream line) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("ts", Instant.ofEpochMilli(slot.startMillis).toString());
+        json.writeStringField("method", slot.method);
+        json.writeStringField("path", slot.path);
+        json.writeNumberField("status", slot.status);
+        json.writeNumberField("durationMs", slot.durationNanos / 1_000_000.0);
+        json.writeStringField("client", clientAddress(slot));
+        if (slot.userAgent != null) {
+            json.writeStringField("userAgent", slot.userAgent);
+        }
+        if (slot.error != null) {
+            json.writeStringField("error", slot.error);
+        }
+        if (slot.durationNanos >= slowThresholdNanos) {
+            json.writeBooleanField("slow", true);
+        }
+        json.writeEndObject();
+        json.flush();
+        line.write('\n');
+
+        file.write(line.toByteArray(), line.size(),
+                LocalDate.ofInstant(Instant.ofEpochMilli(slot.startMillis), zone));
+        line.reset();
+    }
+
+    /**
+     * First address in X-Forwarded-For if a proxy set it, otherwise the peer address
+     */
+    private static String clientAddress(Slot slot) {
+        String forwarded = slot.forwardedFor;
+        if (forwarded != null && !forwarded.isBlank() && !"unknown".equalsIgnoreCase(forwarded)) {
+            int comma = forwarded.indexOf(',');
+            return (comma >= 0 ? forwarded.substring(0, comma) : forwarded).trim();
+        }
+        return slot.remoteAddr;
+    }
+
+    /**
+     * Preallocated record; fields are plain and published by the volatile sequence write
+     */
+    private static final class Slot {
+        private volatile long sequence = -1;
+        private long startMillis;
+        private long durationNanos;
+        private String method;
+        private String path;
+        private int status;
+        private String remoteAddr;
+        private String forwardedFor;
+        private String userAgent;
+        private String error;
+    }
+}
@@ -0,0 +1,118 @@
+package com.sonic.sonictaskhub.web.accesslog;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Access log file that rolls over daily and when it reaches a size limit.
+ *
+ * Rolled files are renamed to {@code <name>.<date>.<n>.log}; only the newest
+ * {@code maxHistory} of them are kept. Used by the writer thread only.
+ */
+final class AccessLogFile {
+
+    private final Path file;
+    private final String baseName;
+    private final long maxFileSize;
+    private final int maxHistory;
+
+    private OutputStream out;
+    private long size;
+    private LocalDate date;
+
+    AccessLogFile(Path file, long maxFileSize, int maxHistory) {
+        this.file = file.toAbsolutePath();
+        String name = this.file.getFileName().toString();
+        this.baseName = name.endsWith(".log") ? name.substring(0, name.length() - 4) : name;
+        this.maxFileSize = maxFileSize;
+        this.maxHistory = maxHistory;
+    }
+
+    /**
+     * Append one line, rolling the file over first if needed
+     *
+     * @param day date of the record, used for daily rollover
+     */
+    void write(byte[] line, int length, LocalDate day) throws IOException {
+        if (out == null) {
+            open(day);
+        } else if (!day.equals(date) || size + length > maxFileSize) {
+            roll(day);
+        }
+        out.write(line, 0, length);
+        size += length;
+    }
+
+    void flush() throws IOException {
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    private void open(LocalDate day) throws IOException {
+        Files.createDirectories(file.getParent());
+        out = new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), 64 * 1024);
+        size = Files.size(file);
+        date = size > 0 ? LocalDate.ofInstant(Files.getLastModifiedTime(file).toInstant(),
+                ZoneId.systemDefault()) : day;
+        if (!day.equals(date) || size >= maxFileSize) {
+            roll(day);
+        }
+    }
+
+    private void roll(LocalDate day) throws IOException {
+        close();
+        if (Files.exists(file) && Files.size(file) > 0) {
+            int index = 1;
+            Path target;
+            do {
+                target = file.resolveSibling(baseName + "." + date + "." + index++ + ".log");
+            } while (Files.exists(target));
+            Files.move(file, target);
+            pruneHistory();
+        }
+        out = new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), 64 * 1024);
+        size = 0;
+        date = day;
+    }
+
+    private void pruneHistory() throws IOException {
+        List<Path> rolled = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(file.getParent(), baseName + ".*.log")) {
+            stream.forEach(rolled::add);
+        }
+        if (rolled.size() <= maxHistory) {
+            return;
+        }
+        rolled.sort(Comparator.comparing(path -> {
+            try {
+                return Files.getLastModifiedTime(path);
+            } catch (IOException e) {
+                return FileTime.fromMillis(0);
+            }
+        }));
+        for (Path old : rolled.subList(0, rolled.size() - maxHistory)) {
+            Files.deleteIfExists(old);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.sonic.sonictaskhub.web.accesslog;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Hands every request to the {@link AccessLog} once its response is complete.
+ *
+ * Runs first in the chain so that requests rejected by later filters, such as
+ * admission control, are logged too. Responses that continue asynchronously
+ * (streams, SSE) are logged when they finish.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    @Autowired
+    private AccessLog accessLog;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !accessLog.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        String error = null;
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            error = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            if (error == null && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncCompletion(request, response, startMillis, startNanos));
+            } else {
+                // The container turns an escaped exception into a 500 after this filter returns
+                int status = error != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+                record(request, status, startMillis, startNanos, error);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int status, long startMillis, long startNanos, String error) {
+        accessLog.record(startMillis, System.nanoTime() - startNanos, request.getMethod(), request.getRequestURI(),
+                status, request.getRemoteAddr(), request.getHeader(FORWARDED_FOR),
+                request.getHeader(HttpHeaders.USER_AGENT), error);
+    }
+
+    private final class AsyncCompletion implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long startMillis;
+        private final long startNanos;
+        private String error;
+
+        AsyncCompletion(HttpServletRequest request, HttpServletResponse response, long startMillis, long startNanos) {
+            this.request = request;
+            this.response = response;
+            this.startMillis = startMillis;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, response.getStatus(), startMillis, startNanos, error);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            error = "AsyncTimeout";
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            Throwable failure = event.getThrowable();
+            error = failure != null ? failure.getClass().getSimpleName() : "AsyncError";
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
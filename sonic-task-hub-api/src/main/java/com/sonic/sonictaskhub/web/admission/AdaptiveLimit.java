@@ -0,0 +1,80 @@
+package com.sonic.sonictaskhub.web.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency limit that follows observed latency.
+ *
+ * Each completed request is compared with the fastest latency seen in the
+ * previous sample window. While requests run close to that baseline the
+ * limit grows by about {@code sqrt(limit)}; once they slow down because they
+ * queue on the database, the limit shrinks in proportion to the slowdown.
+ * All state is updated with compare-and-set, so recording a sample never blocks.
+ */
+final class AdaptiveLimit {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final int window;
+
+    private final AtomicLong limitBits;
+    private final AtomicLong baselineNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong windowMinNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicInteger windowSamples = new AtomicInteger();
+
+    AdaptiveLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, int window) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.window = window;
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(clamp(initialLimit)));
+    }
+
+    int get() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    /**
+     * Record a completed request
+     *
+     * @param latencyNanos time the request took
+     * @param inFlight requests in flight when it was admitted
+     */
+    void onSample(long latencyNanos, int inFlight) {
+        long sample = Math.max(1, latencyNanos);
+        windowMinNanos.accumulateAndGet(sample, Math::min);
+        if (windowSamples.incrementAndGet() >= window) {
+            windowSamples.set(0);
+            baselineNanos.set(windowMinNanos.getAndSet(Long.MAX_VALUE));
+        }
+        long baseline = baselineNanos.get();
+        if (baseline == Long.MAX_VALUE) {
+            // First window: compare against the best sample so far
+            baseline = windowMinNanos.get();
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * baseline / sample));
+        while (true) {
+            long currentBits = limitBits.get();
+            double current = Double.longBitsToDouble(currentBits);
+            if (gradient >= 1.0 && inFlight < current / 2) {
+                // Not using the capacity we have; no evidence that more would help
+                return;
+            }
+            double target = current * gradient + Math.sqrt(current);
+            double next = clamp(current * (1 - SMOOTHING) + target * SMOOTHING);
+            if (next == current || limitBits.compareAndSet(currentBits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    private double clamp(double limit) {
+        return Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+}
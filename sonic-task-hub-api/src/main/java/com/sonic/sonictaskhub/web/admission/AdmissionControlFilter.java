@@ -0,0 +1,303 @@
+package com.sonic.sonictaskhub.web.admission;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sonic.sonictaskhub.model.response.BaseResponse;
+import com.sonic.sonictaskhub.web.auth.SessionTokenFilter;
+import com.sonic.sonictaskhub.web.support.RequestPaths;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sheds load before it queues up behind the database.
+ *
+ * Every API request takes a permit from a global in-flight limit, and requests
+ * made by an authenticated user also take one from that user's limit. The
+ * filter runs after {@link SessionTokenFilter}, so the user is the one the
+ * session token names; only when authentication is disabled is the user taken
+ * from a {@code /user/{userId}/...} path. A user's counter is removed as soon
+ * as their last request completes, so idle users hold no memory.
+ * Permits are plain counters, so admission never blocks: a request
+ * that finds no permit is answered straight away with {@code 429} (the user is
+ * over their share) or {@code 503} (the server is saturated), both with
+ * {@code Retry-After}. The global limit adapts to observed latency, and a
+ * single user may hold at most a fixed share of it.
+ *
+ * Streaming responses keep their permits until the stream completes. The
+ * change feed is excluded because its connections are long-lived and capped
+ * separately. The batch endpoint is excluded because each of its entries
+ * passes through this filter and is charged on its own. Paths are compared
+ * in their normalized form (see {@link RequestPaths}), with exclusions
+ * matched on whole segments, so no spelling of an endpoint skips admission.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 20)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String USER_SEGMENT = "/user/";
+
+    private final Map<Long, Integer> userInFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger globalInFlight = new AtomicInteger();
+
+    private final ObjectMapper objectMapper;
+    private final AdaptiveLimit globalLimit;
+    private final boolean enabled;
+    private final int perUserLimit;
+    private final double userShare;
+    private final String retryAfterSeconds;
+    private final List<String> excludedPaths;
+    private final Counter userRejections;
+    private final Counter globalRejections;
+    private final DistributionSummary userConcurrency;
+
+    @Autowired
+    public AdmissionControlFilter(ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${sonic.admission.enabled:true}") boolean enabled,
+                                  @Value("${sonic.admission.per-user-limit:8}") int perUserLimit,
+                                  @Value("${sonic.admission.user-share:0.5}") double userShare,
+                                  @Value("${sonic.admission.initial-limit:32}") int initialLimit,
+                                  @Value("${sonic.admission.min-limit:8}") int minLimit,
+                                  @Value("${sonic.admission.max-limit:200}") int maxLimit,
+                                  @Value("${sonic.admission.latency-tolerance:2.0}") double latencyTolerance,
+                                  @Value("${sonic.admission.sample-window:500}") int sampleWindow,
+                                  @Value("${sonic.admission.retry-after:1s}") Duration retryAfter,
+                                  @Value("${sonic.admission.excluded-paths:/api/stream/,/api/batch}") List<String> excludedPaths) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.perUserLimit = perUserLimit;
+        this.userShare = userShare;
+        this.globalLimit = new AdaptiveLimit(initialLimit, minLimit, maxLimit, latencyTolerance, sampleWindow);
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.excludedPaths = excludedPaths;
+
+        Gauge.builder("sonic.admission.limit", globalLimit, AdaptiveLimit::get)
+                .description("Current adaptive limit on requests in flight")
+                .register(meterRegistry);
+        Gauge.builder("sonic.admission.in.flight", globalInFlight, AtomicInteger::get)
+                .description("Admitted requests in flight")
+                .register(meterRegistry);
+        this.userRejections = rejectionCounter(meterRegistry, "user");
+        this.globalRejections = rejectionCounter(meterRegistry, "global");
+        this.userConcurrency = DistributionSummary.builder("sonic.admission.user.in.flight")
+                .description("Requests the same user had in flight when a request was admitted")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = RequestPaths.lookupPath(request);
+        if (!enabled || !path.startsWith("/api/")) {
+            return true;
+        }
+        for (String excluded : excludedPaths) {
+            if (RequestPaths.isWithin(path, excluded)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        int limit = globalLimit.get();
+        Long userId = resolveUserId(request);
+        if (userId != null) {
+            int userLimit = Math.max(1, Math.min(perUserLimit, (int) (limit * userShare)));
+            int held = tryAcquireUser(userId, userLimit);
+            if (held < 0) {
+                userRejections.increment();
+                reject(response, HttpStatus.TOO_MANY_REQUESTS,
+                        "Too many concurrent requests for this user", "USER_CONCURRENCY_LIMIT");
+                return;
+            }
+            userConcurrency.record(held);
+        }
+
+        int inFlight = tryAcquire(globalInFlight, limit);
+        if (inFlight < 0) {
+            releaseUser(userId);
+            globalRejections.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE,
+                    "Server is busy, please retry shortly", "SERVER_OVERLOADED");
+            return;
+        }
+
+        Permits permits = new Permits(userId, inFlight);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(permits);
+            } else {
+                permits.release(true);
+            }
+        }
+    }
+
+    /**
+     * Take a permit unless {@code limit} are already held
+     *
+     * @return permits held including this one, or -1 if none was available
+     */
+    private static int tryAcquire(AtomicInteger counter, int limit) {
+        while (true) {
+            int current = counter.get();
+            if (current >= limit) {
+                return -1;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Take a permit from the user's counter, creating it if needed
+     *
+     * @return permits the user holds including this one, or -1 if none was available
+     */
+    private int tryAcquireUser(Long userId, int limit) {
+        int[] held = { -1 };
+        userInFlight.compute(userId, (id, current) -> {
+            int count = current != null ? current : 0;
+            if (count >= limit) {
+                return current;
+            }
+            held[0] = count + 1;
+            return held[0];
+        });
+        return held[0];
+    }
+
+    /**
+     * Return a user's permit; the counter is removed when it drops to zero
+     */
+    private void releaseUser(Long userId) {
+        if (userId != null) {
+            userInFlight.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    /**
+     * @return the authenticated user, or the user addressed by the path when authentication is disabled
+     */
+    private static Long resolveUserId(HttpServletRequest request) {
+        Object authenticated = request.getAttribute(SessionTokenFilter.USER_ID_ATTRIBUTE);
+        if (authenticated instanceof Long userId) {
+            return userId;
+        }
+        return extractUserId(RequestPaths.lookupPath(request));
+    }
+
+    /**
+     * @return the id following a {@code /user/} path segment, or null if the path has none
+     */
+    private static Long extractUserId(String path) {
+        int start = path.indexOf(USER_SEGMENT);
+        if (start < 0) {
+            return null;
+        }
+        start += USER_SEGMENT.length();
+        int end = start;
+        while (end < path.length() && Character.isDigit(path.charAt(end))) {
+            end++;
+        }
+        if (end == start || end - start > 18 || (end < path.length() && path.charAt(end) != '/')) {
+            return null;
+        }
+        return Long.parseLong(path, start, end, 10);
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message, String errorCode)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), BaseResponse.error(message, errorCode));
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("sonic.admission.rejected")
+                .description("Requests shed by admission control, by the limit they hit")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Permits held by one admitted request; released once, when the response is complete
+     */
+    private final class Permits implements AsyncListener {
+
+        private final Long userId;
+        private final int inFlightAtAdmission;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permits(Long userId, int inFlightAtAdmission) {
+            this.userId = userId;
+            this.inFlightAtAdmission = inFlightAtAdmission;
+        }
+
+        void release(boolean sampleLatency) {
+            if (released.compareAndSet(false, true)) {
+                globalInFlight.decrementAndGet();
+                releaseUser(userId);
+                if (sampleLatency) {
+                    globalLimit.onSample(System.nanoTime() - startNanos, inFlightAtAdmission);
+                }
+            }
+        }
+
+        // Streams run as long as the client reads, so their duration says nothing about server load
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Listeners are dropped when async is restarted; register again to keep the permits tracked
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.sonic.sonictaskhub.web.auth;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sonic.sonictaskhub.service.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Rate-limits login and registration attempts before they reach password hashing.
+ *
+ * The login and register handlers call {@link #acquire} first, so every way
+ * of reaching them (encoded paths, batch entries) is throttled alike. Each
+ * attempt takes a token from the bucket of the client address and from the
+ * bucket of the username. An empty bucket answers {@code 429} with
+ * {@code Retry-After}. Buckets live in memory and are dropped once they have
+ * refilled, so an idle client or username costs nothing. Client and
+ * username buckets are capped separately ({@code max-client-buckets},
+ * {@code max-username-buckets}); beyond its cap a new key of that kind goes
+ * unthrottled rather than unbounded memory being used. A flood of distinct
+ * usernames therefore never stops client buckets from being created, and
+ * each attempt still drains its client's bucket.
+ */
+@Component
+public class AuthThrottle {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final Map<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> usernameBuckets = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final int clientCapacity;
+    private final long clientRefillNanos;
+    private final int usernameCapacity;
+    private final long usernameRefillNanos;
+    private final boolean trustForwardedFor;
+    private final int maxClientBuckets;
+    private final int maxUsernameBuckets;
+    private final Counter clientThrottled;
+    private final Counter usernameThrottled;
+
+    @Autowired
+    public AuthThrottle(MeterRegistry meterRegistry,
+                        @Value("${sonic.auth-throttle.enabled:true}") boolean enabled,
+                        @Value("${sonic.auth-throttle.client-capacity:20}") int clientCapacity,
+                        @Value("${sonic.auth-throttle.client-refill:3s}") Duration clientRefill,
+                        @Value("${sonic.auth-throttle.username-capacity:5}") int usernameCapacity,
+                        @Value("${sonic.auth-throttle.username-refill:30s}") Duration usernameRefill,
+                        @Value("${sonic.auth-throttle.trust-forwarded-for:false}") boolean trustForwardedFor,
+                        @Value("${sonic.auth-throttle.max-client-buckets:100000}") int maxClientBuckets,
+                        @Value("${sonic.auth-throttle.max-username-buckets:100000}") int maxUsernameBuckets) {
+        this.enabled = enabled;
+        this.clientCapacity = clientCapacity;
+        this.clientRefillNanos = clientRefill.toNanos();
+        this.usernameCapacity = usernameCapacity;
+        this.usernameRefillNanos = usernameRefill.toNanos();
+        this.trustForwardedFor = trustForwardedFor;
+        this.maxClientBuckets = maxClientBuckets;
+        this.maxUsernameBuckets = maxUsernameBuckets;
+
+        this.clientThrottled = throttledCounter(meterRegistry, "client");
+        this.usernameThrottled = throttledCounter(meterRegistry, "username");
+        Gauge.builder("sonic.auth.throttle.buckets", this, t -> t.clientBuckets.size() + t.usernameBuckets.size())
+                .description("Client and username buckets currently tracked")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Take one attempt from the client's and the username's buckets
+     *
+     * @param request the login or registration request, for the client address
+     * @param username the username in the request body; blank names are only throttled per client
+     * @throws TooManyRequestsException if either bucket is empty
+     */
+    public void acquire(HttpServletRequest request, String username) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        long wait = tryAcquire(clientBuckets, clientAddress(request), now, clientRefillNanos, clientCapacity,
+                maxClientBuckets);
+        if (wait > 0) {
+            clientThrottled.increment();
+            throw rejection("Too many attempts from this address, please retry later", wait);
+        }
+
+        if (username != null && !username.isBlank()) {
+            String key = username.trim().toLowerCase(Locale.ROOT);
+            wait = tryAcquire(usernameBuckets, key, now, usernameRefillNanos, usernameCapacity, maxUsernameBuckets);
+            if (wait > 0) {
+                usernameThrottled.increment();
+                throw rejection("Too many attempts for this username, please retry later", wait);
+            }
+        }
+    }
+
+    /**
+     * Drop buckets that have refilled completely
+     */
+    @Scheduled(fixedDelayString = "${sonic.auth-throttle.cleanup-interval:PT1M}")
+    public void evictFullBuckets() {
+        long now = System.nanoTime();
+        // A token taken from a bucket as it is removed is forgotten, which only errs towards letting a request through
+        clientBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        usernameBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private static long tryAcquire(Map<String, TokenBucket> buckets, String key, long now, long refillNanos,
+                                   int capacity, int maxBuckets) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets) {
+                return 0;
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+        }
+        return bucket.tryAcquire(now, refillNanos, capacity);
+    }
+
+    private String clientAddress(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader(FORWARDED_FOR);
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma >= 0 ? forwardedFor.substring(0, comma) : forwardedFor).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static TooManyRequestsException rejection(String message, long waitNanos) {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return new TooManyRequestsException(message, "TOO_MANY_ATTEMPTS", retryAfter);
+    }
+
+    private static Counter throttledCounter(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("sonic.auth.throttled")
+                .description("Login and registration attempts refused by rate limiting, by the bucket that was empty")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+}
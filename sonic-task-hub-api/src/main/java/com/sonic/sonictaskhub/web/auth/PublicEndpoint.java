@@ -0,0 +1,20 @@
+package com.sonic.sonictaskhub.web.auth;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler that may be called without a session token.
+ *
+ * {@link SessionOwnershipInterceptor} rejects unauthenticated calls to every
+ * other handler, so a path must be both listed in
+ * {@code sonic.auth.public-paths} and carry this annotation to be public.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PublicEndpoint {
+}
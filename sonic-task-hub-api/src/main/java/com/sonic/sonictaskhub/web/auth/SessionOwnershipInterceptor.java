@@ -0,0 +1,58 @@
+package com.sonic.sonictaskhub.web.auth;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.sonic.sonictaskhub.service.exception.ForbiddenException;
+import com.sonic.sonictaskhub.service.exception.UnauthorizedException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Rejects requests whose {@code {userId}} path variable names a user other
+ * than the one the session token was issued to.
+ *
+ * Compares the variable as resolved by the handler mapping, so encoded or
+ * otherwise unusual paths cannot slip a different id past the check. Runs
+ * inside the dispatcher, so batch entries are checked as well. Fails closed:
+ * with authentication enabled, a request that reaches a handler not marked
+ * {@link PublicEndpoint} without an authenticated user is rejected, whatever
+ * path it came in on.
+ */
+@Component
+public class SessionOwnershipInterceptor implements HandlerInterceptor {
+
+    private static final String USER_ID_VARIABLE = "userId";
+
+    private final boolean authEnabled;
+
+    public SessionOwnershipInterceptor(@Value("${sonic.auth.enabled:true}") boolean authEnabled) {
+        this.authEnabled = authEnabled;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object authenticated = request.getAttribute(SessionTokenFilter.USER_ID_ATTRIBUTE);
+        if (authenticated == null) {
+            // CORS pre-flight and resource handlers are not handler methods and carry no data
+            if (authEnabled && handler instanceof HandlerMethod method && !method.hasMethodAnnotation(PublicEndpoint.class)) {
+                throw UnauthorizedException.AUTHENTICATION_REQUIRED;
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String userId = variables != null ? variables.get(USER_ID_VARIABLE) : null;
+        if (userId != null && !userId.equals(authenticated.toString())) {
+            throw ForbiddenException.USER_MISMATCH;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,119 @@
+package com.sonic.sonictaskhub.web.auth;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sonic.sonictaskhub.model.response.BaseResponse;
+import com.sonic.sonictaskhub.service.security.SessionTokenService;
+import com.sonic.sonictaskhub.service.security.SessionTokenService.Status;
+import com.sonic.sonictaskhub.service.security.SessionTokenService.Verification;
+import com.sonic.sonictaskhub.web.support.RequestPaths;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Requires a valid session token on every API request except the public ones.
+ *
+ * The token is read from {@code Authorization: Bearer <token>}; the change
+ * stream may pass it as the {@code access_token} query parameter instead,
+ * since browsers cannot set headers on an {@code EventSource}. Verification
+ * is a signature check in memory, so authentication adds no query. The
+ * authenticated user id is stored as the {@link #USER_ID_ATTRIBUTE} request
+ * attribute for {@link SessionOwnershipInterceptor} to compare against the
+ * user addressed by the path.
+ *
+ * Public paths are matched against the normalized lookup path (see
+ * {@link RequestPaths}), the same path the dispatcher maps, so an encoded spelling of a path is treated like the path
+ * itself. {@link SessionOwnershipInterceptor} additionally refuses to run any
+ * handler not marked {@link PublicEndpoint} without a token.
+ *
+ * Runs after the security filter chain so that rejections still carry CORS
+ * headers the browser can read.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 10)
+public class SessionTokenFilter extends OncePerRequestFilter {
+
+    public static final String USER_ID_ATTRIBUTE = SessionTokenFilter.class.getName() + ".userId";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ACCESS_TOKEN_PARAM = "access_token";
+    private static final String STREAM_PATH = "/api/stream/";
+
+    private final SessionTokenService sessionTokenService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<String> publicPaths;
+
+    @Autowired
+    public SessionTokenFilter(SessionTokenService sessionTokenService,
+                              ObjectMapper objectMapper,
+                              @Value("${sonic.auth.enabled:true}") boolean enabled,
+                              @Value("${sonic.auth.public-paths:/api/users/login,/api/users/register,/api/users/check-username,/api/users/check-email}") List<String> publicPaths) {
+        this.sessionTokenService = sessionTokenService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.publicPaths = publicPaths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = RequestPaths.lookupPath(request);
+        return !enabled || "OPTIONS".equals(request.getMethod()) || !RequestPaths.isWithin(path, "/api")
+                || publicPaths.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = extractToken(request);
+        if (token == null) {
+            reject(response, "Authentication required", "AUTHENTICATION_REQUIRED");
+            return;
+        }
+
+        Verification verification = sessionTokenService.verify(token);
+        if (verification.status() != Status.VALID) {
+            reject(response, verification.status().getDisplayName(),
+                    verification.status() == Status.EXPIRED ? "TOKEN_EXPIRED" : "INVALID_TOKEN");
+            return;
+        }
+
+        request.setAttribute(USER_ID_ATTRIBUTE, verification.userId());
+        chain.doFilter(request, response);
+    }
+
+    private static String extractToken(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            String token = authorization.substring(BEARER_PREFIX.length()).trim();
+            return token.isEmpty() ? null : token;
+        }
+        if (RequestPaths.isWithin(RequestPaths.lookupPath(request), STREAM_PATH)) {
+            String token = request.getParameter(ACCESS_TOKEN_PARAM);
+            return token == null || token.isBlank() ? null : token;
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, String message, String errorCode) throws IOException {
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), BaseResponse.error(message, errorCode));
+    }
+}
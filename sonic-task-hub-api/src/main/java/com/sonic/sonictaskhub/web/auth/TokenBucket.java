@@ -0,0 +1,48 @@
+package com.sonic.sonictaskhub.web.auth;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, kept as the single time at which the bucket will be
+ * full again (the generic cell rate algorithm).
+ *
+ * Taking a token pushes that time one refill interval further; a request is
+ * refused when the push would put it more than a full bucket ahead of now.
+ * All times are {@link System#nanoTime()} values.
+ */
+final class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Take one token
+     *
+     * @param refillNanos time to earn back one token
+     * @param capacity tokens the bucket holds when full
+     * @return 0 if a token was taken, otherwise nanoseconds until one will be available
+     */
+    long tryAcquire(long now, long refillNanos, int capacity) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + refillNanos;
+            long excess = next - now - refillNanos * capacity;
+            if (excess > 0) {
+                return excess;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * A full bucket behaves exactly like a new one, so it can be dropped
+     */
+    boolean isFull(long now) {
+        return fullAt.get() - now <= 0;
+    }
+}
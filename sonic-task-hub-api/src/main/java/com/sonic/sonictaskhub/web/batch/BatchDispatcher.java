@@ -0,0 +1,226 @@
+package com.sonic.sonictaskhub.web.batch;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sonic.sonictaskhub.model.dto.BatchResultDto;
+import com.sonic.sonictaskhub.model.request.BatchRequest;
+import com.sonic.sonictaskhub.model.request.BatchSubRequest;
+import com.sonic.sonictaskhub.service.exception.ValidationException;
+import com.sonic.sonictaskhub.web.accesslog.AccessLogFilter;
+import com.sonic.sonictaskhub.web.admission.AdmissionControlFilter;
+import com.sonic.sonictaskhub.web.auth.SessionTokenFilter;
+import com.sonic.sonictaskhub.web.filter.IdempotencyFilter;
+import com.sonic.sonictaskhub.web.support.RequestPaths;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Runs the entries of a batch in-process through the {@link DispatcherServlet}.
+ *
+ * Each sub-request first passes through the application's own filters, in
+ * their usual order, so an entry is logged, admitted, throttled, authenticated
+ * and made idempotent exactly like a standalone request. Container and
+ * framework filters (encoding, CORS) do not apply to in-memory sub-requests
+ * and are not run. Entry paths are checked after decoding and normalizing
+ * them the way the dispatcher matches them. Login and registration are
+ * refused inside a batch, so many password attempts cannot share one request.
+ */
+@Component
+public class BatchDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchDispatcher.class);
+
+    private static final Set<String> SUPPORTED_METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE");
+    private static final String API_PREFIX = "/api/";
+    private static final String BATCH_PATH = "/api/batch";
+    private static final Set<String> AUTH_PATHS = Set.of("/api/users/login", "/api/users/register");
+
+    @Autowired
+    private DispatcherServlet dispatcherServlet;
+
+    @Autowired
+    private AccessLogFilter accessLogFilter;
+
+    @Autowired
+    private AdmissionControlFilter admissionControlFilter;
+
+    @Autowired
+    private SessionTokenFilter sessionTokenFilter;
+
+    @Autowired
+    private IdempotencyFilter idempotencyFilter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("batchExecutor")
+    private TaskExecutor batchExecutor;
+
+    @Value("${sonic.batch.max-requests:20}")
+    private int maxRequests;
+
+    private List<Filter> subRequestFilters;
+
+    @PostConstruct
+    void orderFilters() {
+        List<Filter> filters = new ArrayList<>(List.of(accessLogFilter, admissionControlFilter,
+                sessionTokenFilter, idempotencyFilter));
+        AnnotationAwareOrderComparator.sort(filters);
+        this.subRequestFilters = List.copyOf(filters);
+    }
+
+    /**
+     * Execute all entries of the batch and collect their results in request order.
+     * Entries run in parallel only when requested and every entry is a GET.
+     */
+    public List<BatchResultDto> dispatch(BatchRequest batch, HttpServletRequest request, HttpServletResponse response) {
+        List<BatchSubRequest> entries = batch.getRequests();
+        if (entries == null || entries.isEmpty()) {
+            throw new ValidationException("Batch must contain at least one request", "INVALID_BATCH");
+        }
+        if (entries.size() > maxRequests) {
+            throw new ValidationException("Batch cannot contain more than " + maxRequests + " requests", "INVALID_BATCH");
+        }
+        for (BatchSubRequest entry : entries) {
+            validate(entry);
+        }
+
+        boolean parallel = Boolean.TRUE.equals(batch.getParallel())
+                && entries.stream().allMatch(entry -> "GET".equalsIgnoreCase(entry.getMethod()));
+
+        if (!parallel) {
+            List<BatchResultDto> results = new ArrayList<>(entries.size());
+            for (BatchSubRequest entry : entries) {
+                results.add(execute(entry, request, response));
+            }
+            return results;
+        }
+
+        List<CompletableFuture<BatchResultDto>> futures = new ArrayList<>(entries.size());
+        for (BatchSubRequest entry : entries) {
+            futures.add(CompletableFuture.supplyAsync(() -> execute(entry, request, response), batchExecutor));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private void validate(BatchSubRequest entry) {
+        if (entry.getMethod() == null || !SUPPORTED_METHODS.contains(entry.getMethod().toUpperCase(Locale.ROOT))) {
+            throw new ValidationException("Unsupported batch method: " + entry.getMethod(), "INVALID_BATCH");
+        }
+        String path = entry.getPath() != null ? RequestPaths.normalize(entry.getPath()) : null;
+        if (path == null || !path.startsWith(API_PREFIX)) {
+            throw new ValidationException("Batch paths must start with " + API_PREFIX, "INVALID_BATCH");
+        }
+        if (RequestPaths.isWithin(path, BATCH_PATH)) {
+            throw new ValidationException("Batch requests cannot be nested", "INVALID_BATCH");
+        }
+        if (AUTH_PATHS.contains(path)) {
+            throw new ValidationException("Login and registration cannot be batched", "INVALID_BATCH");
+        }
+    }
+
+    /**
+     * Run a single entry; failures are reported through the entry's status
+     */
+    private BatchResultDto execute(BatchSubRequest entry, HttpServletRequest request, HttpServletResponse response) {
+        String method = entry.getMethod().toUpperCase(Locale.ROOT);
+
+        BatchResultDto result = new BatchResultDto();
+        result.setId(entry.getId());
+        result.setMethod(method);
+        result.setPath(entry.getPath());
+
+        try {
+            UriComponents uri = UriComponentsBuilder.fromUriString(entry.getPath()).build();
+            byte[] body = entry.getBody() != null && !entry.getBody().isNull()
+                    ? objectMapper.writeValueAsBytes(entry.getBody()) : null;
+
+            BatchSubHttpRequest subRequest = new BatchSubHttpRequest(request, method, uri.getPath(),
+                    uri.getQuery(), decode(uri.getQueryParams()), body, entry.getIdempotencyKey());
+            BatchSubHttpResponse subResponse = new BatchSubHttpResponse(response);
+
+            new SubRequestChain().doFilter(subRequest, subResponse);
+
+            result.setStatus(subResponse.getStatus());
+            result.setBody(toBody(subResponse));
+        } catch (Exception e) {
+            logger.warn("Batch sub-request {} {} failed: {}", method, entry.getPath(), e.getMessage());
+            result.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            result.setBody(e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Walks the sub-request through {@link #subRequestFilters} and then into the dispatcher
+     */
+    private final class SubRequestChain implements FilterChain {
+
+        private int next;
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+            if (next < subRequestFilters.size()) {
+                subRequestFilters.get(next++).doFilter(request, response, this);
+            } else {
+                dispatcherServlet.service(request, response);
+            }
+        }
+    }
+
+    private Object toBody(BatchSubHttpResponse subResponse) throws IOException {
+        byte[] body = subResponse.getBody();
+        if (body.length == 0) {
+            return null;
+        }
+        String contentType = subResponse.getContentType();
+        if (contentType != null && contentType.contains("json")) {
+            // Parsed rather than embedded raw, so the batch can also be written as CBOR or Smile
+            return objectMapper.readTree(body);
+        }
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private Map<String, List<String>> decode(MultiValueMap<String, String> queryParams) {
+        Map<String, List<String>> decoded = new LinkedHashMap<>();
+        queryParams.forEach((name, values) -> {
+            List<String> decodedValues = new ArrayList<>(values.size());
+            for (String value : values) {
+                decodedValues.add(value != null ? UriUtils.decode(value, StandardCharsets.UTF_8) : "");
+            }
+            decoded.put(UriUtils.decode(name, StandardCharsets.UTF_8), decodedValues);
+        });
+        return decoded;
+    }
+}
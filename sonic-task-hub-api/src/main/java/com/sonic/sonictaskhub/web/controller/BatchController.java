@@ -0,0 +1,45 @@
+package com.sonic.sonictaskhub.web.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sonic.sonictaskhub.model.dto.BatchResultDto;
+import com.sonic.sonictaskhub.model.request.BatchRequest;
+import com.sonic.sonictaskhub.model.response.BaseResponse;
+import com.sonic.sonictaskhub.web.batch.BatchDispatcher;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Controller for running several API calls in one round trip
+ */
+@RestController
+@RequestMapping("/api/batch")
+@CrossOrigin(origins = "*")
+public class BatchController {
+
+    @Autowired
+    private BatchDispatcher batchDispatcher;
+
+    /**
+     * Execute a batch of sub-requests
+     * 
+     * @param request containing the sub-requests (method, path, optional body)
+     *                and whether read-only batches may run in parallel
+     * @return BaseResponse with one result (status and body) per sub-request, in request order
+     */
+    @PostMapping
+    public BaseResponse<List<BatchResultDto>> executeBatch(@RequestBody BatchRequest request,
+                                                           HttpServletRequest httpRequest,
+                                                           HttpServletResponse httpResponse) {
+        List<BatchResultDto> results = batchDispatcher.dispatch(request, httpRequest, httpResponse);
+        return BaseResponse.success(results);
+    }
+}
@@ -3,12 +3,17 @@ package com.sonic.sonictaskhub.web.controller;
 import com.sonic.sonictaskhub.model.dto.CategoryDto;
 import com.sonic.sonictaskhub.model.response.BaseResponse;
 import com.sonic.sonictaskhub.service.CategoryService;
+import com.sonic.sonictaskhub.service.cache.RequestCoalescer;
+import com.sonic.sonictaskhub.service.exception.ValidationException;
+import com.sonic.sonictaskhub.web.auth.SessionTokenFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 /**
  * Controller for category management operations
  */
@@ -20,6 +25,9 @@ public class CategoryController {
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
     /**
      * Get all available categories for a user (default + user-created)
      * 
@@ -28,13 +36,9 @@ public class CategoryController {
      */
     @GetMapping("/user/{userId}")
     public BaseResponse<List<CategoryDto>> getAvailableCategoriesForUser(@PathVariable(name = "userId") Long userId) {
-        try {
-            List<CategoryDto> categories = categoryService.getAvailableCategoriesForUser(userId);
-            return BaseResponse.success(categories);
-            
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        List<CategoryDto> categories = requestCoalescer.execute("categories.available", userId,
+                () -> categoryService.getAvailableCategoriesForUser(userId));
+        return BaseResponse.success(categories);
     }
 
     /**
@@ -45,13 +49,9 @@ public class CategoryController {
      */
     @GetMapping("/user/{userId}/custom")
     public BaseResponse<List<CategoryDto>> getUserCustomCategories(@PathVariable(name = "userId") Long userId) {
-        try {
-            List<CategoryDto> categories = categoryService.getUserCategories(userId);
-            return BaseResponse.success(categories);
-            
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        List<CategoryDto> categories = requestCoalescer.execute("categories.custom", userId,
+                () -> categoryService.getUserCategories(userId));
+        return BaseResponse.success(categories);
     }
 
     /**
@@ -64,21 +64,16 @@ public class CategoryController {
     @PostMapping("/user/{userId}")
     public BaseResponse<CategoryDto> createUserCategory(@PathVariable(name = "userId") Long userId,
                                                        @RequestBody Map<String, String> request) {
-        try {
-            String name = request.get("name");
-            String description = request.get("description");
-            String color = request.get("color");
+        String name = request.get("name");
+        String description = request.get("description");
+        String color = request.get("color");
 
-            if (name == null || name.trim().isEmpty()) {
-                return BaseResponse.error("Category name is required");
-            }
-
-            CategoryDto category = categoryService.createUserCategory(userId, name.trim(), description, color);
-            return BaseResponse.success("Category created successfully", category);
-            
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
+        if (name == null || name.trim().isEmpty()) {
+            throw ValidationException.CATEGORY_NAME_REQUIRED;
         }
+
+        CategoryDto category = categoryService.createUserCategory(userId, name.trim(), description, color);
+        return BaseResponse.success("Category created successfully", category);
     }
 
     /**
@@ -93,17 +88,12 @@ public class CategoryController {
     public BaseResponse<CategoryDto> updateUserCategory(@PathVariable(name = "userId") Long userId,
                                                        @PathVariable(name = "categoryId") Long categoryId,
                                                        @RequestBody Map<String, String> request) {
-        try {
-            String name = request.get("name");
-            String description = request.get("description");
-            String color = request.get("color");
+        String name = request.get("name");
+        String description = request.get("description");
+        String color = request.get("color");
 
-            CategoryDto category = categoryService.updateUserCategory(userId, categoryId, name, description, color);
-            return BaseResponse.success("Category updated successfully", category);
-            
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        CategoryDto category = categoryService.updateUserCategory(userId, categoryId, name, description, color);
+        return BaseResponse.success("Category updated successfully", category);
     }
 
     /**
@@ -116,29 +106,24 @@ public class CategoryController {
     @DeleteMapping("/user/{userId}/category/{categoryId}")
     public BaseResponse<String> deleteUserCategory(@PathVariable(name = "userId") Long userId,
                                                   @PathVariable(name = "categoryId") Long categoryId) {
-        try {
-            categoryService.deleteUserCategory(userId, categoryId);
-            return BaseResponse.success("Category deleted successfully", "Category has been deleted");
-            
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        categoryService.deleteUserCategory(userId, categoryId);
+        return BaseResponse.success("Category deleted successfully", "Category has been deleted");
     }
 
     /**
-     * Get category by ID
+     * Get category by ID; a signed-in user only sees default categories and their own
      * 
      * @param categoryId the ID of the category
+     * @param httpRequest the servlet request, carrying the authenticated user unless authentication is disabled
      * @return BaseResponse with category data
      */
     @GetMapping("/{categoryId}")
-    public BaseResponse<CategoryDto> getCategoryById(@PathVariable(name = "categoryId") Long categoryId) {
-        try {
-            CategoryDto category = categoryService.getCategoryById(categoryId);
-            return BaseResponse.success(category);
-            
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+    public BaseResponse<CategoryDto> getCategoryById(@PathVariable(name = "categoryId") Long categoryId,
+                                                     HttpServletRequest httpRequest) {
+        Long callerId = (Long) httpRequest.getAttribute(SessionTokenFilter.USER_ID_ATTRIBUTE);
+        CategoryDto category = callerId != null
+                ? categoryService.getCategoryById(callerId, categoryId)
+                : categoryService.getCategoryById(categoryId);
+        return BaseResponse.success(category);
     }
 }
\ No newline at end of file
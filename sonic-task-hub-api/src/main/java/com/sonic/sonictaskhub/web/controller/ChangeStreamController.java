@@ -0,0 +1,43 @@
+package com.sonic.sonictaskhub.web.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sonic.sonictaskhub.service.change.ChangeFeed;
+
+/**
+ * Controller for the Server-Sent Events change feed
+ */
+@RestController
+@RequestMapping("/api/stream")
+@CrossOrigin(origins = "*")
+public class ChangeStreamController {
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    /**
+     * Subscribe to change notifications for the user's tasks, notes, habits,
+     * habit progress and events
+     * 
+     * @param userId the ID of the user
+     * @param lastEventIdHeader id of the last received event, sent by the browser on reconnect
+     * @param lastEventId the same id as a query parameter, for clients that cannot set headers
+     * @return event stream of "change" and "resync" events
+     */
+    @GetMapping(value = "/user/{userId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @PathVariable(name = "userId") Long userId,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(name = "lastEventId", required = false) String lastEventId) {
+        return changeFeed.subscribe(userId, lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,11 +16,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.sonic.sonictaskhub.model.dto.EventDto;
 import com.sonic.sonictaskhub.model.request.EventCreateRequest;
 import com.sonic.sonictaskhub.model.response.BaseResponse;
 import com.sonic.sonictaskhub.service.EventService;
+import com.sonic.sonictaskhub.service.cache.RequestCoalescer;
+import com.sonic.sonictaskhub.web.fields.SelectableFields;
+import com.sonic.sonictaskhub.web.stream.NdjsonStreamer;
 
 /**
  * Controller for event management operations
@@ -32,6 +37,12 @@ public class EventController {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private NdjsonStreamer ndjsonStreamer;
+
     /**
      * Create a new event
      * 
@@ -42,12 +53,8 @@ public class EventController {
     @PostMapping("/user/{userId}")
     public BaseResponse<EventDto> createEvent(@PathVariable(name = "userId") Long userId,
                                             @RequestBody EventCreateRequest request) {
-        try {
-            EventDto event = eventService.createEvent(userId, request);
-            return BaseResponse.success("Event created successfully", event);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        EventDto event = eventService.createEvent(userId, request);
+        return BaseResponse.success("Event created successfully", event);
     }
 
     /**
@@ -71,13 +78,34 @@ public class EventController {
             @RequestParam(name = "size", required = false, defaultValue = "20") int size,
             @RequestParam(name = "sortBy", required = false, defaultValue = "eventDateTime") String sortBy,
             @RequestParam(name = "sortDirection", required = false, defaultValue = "asc") String sortDirection) {
-        try {
-            Page<EventDto> events = eventService.getEventsWithFilters(userId, categoryId, search, 
-                                                                     page, size, sortBy, sortDirection);
-            return BaseResponse.success(events);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        Page<EventDto> events = requestCoalescer.execute("events.filter", userId,
+                () -> eventService.getEventsWithFilters(userId, categoryId, search,
+                                                        page, size, sortBy, sortDirection),
+                categoryId, search, page, size, sortBy, sortDirection);
+        return BaseResponse.success(events);
+    }
+
+    /**
+     * Stream all events matching the filters as newline-delimited JSON, one event per line.
+     * Rows are written as they are read from the database, without paging.
+     * 
+     * @param userId the ID of the user
+     * @param categoryId filter by category ID
+     * @param search search term for title/description
+     * @param sortBy field to sort by
+     * @param sortDirection sort direction (asc/desc)
+     * @return application/x-ndjson stream of event data
+     */
+    @SelectableFields(EventDto.class)
+    @GetMapping("/user/{userId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamEvents(
+            @PathVariable(name = "userId") Long userId,
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "search", required = false) String search,
+            @RequestParam(name = "sortBy", required = false, defaultValue = "eventDateTime") String sortBy,
+            @RequestParam(name = "sortDirection", required = false, defaultValue = "asc") String sortDirection) {
+        return ndjsonStreamer.<EventDto>stream(sink -> eventService.streamEventsWithFilters(
+                userId, categoryId, search, sortBy, sortDirection, sink));
     }
 
     /**
@@ -90,12 +118,9 @@ public class EventController {
     @GetMapping("/user/{userId}/event/{eventId}")
     public BaseResponse<EventDto> getEventById(@PathVariable(name = "userId") Long userId,
                                              @PathVariable(name = "eventId") Long eventId) {
-        try {
-            EventDto event = eventService.getEventById(userId, eventId);
-            return BaseResponse.success(event);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        EventDto event = requestCoalescer.execute("events.byId", userId,
+                () -> eventService.getEventById(userId, eventId), eventId);
+        return BaseResponse.success(event);
     }
 
     /**
@@ -111,15 +136,28 @@ public class EventController {
             @PathVariable(name = "userId") Long userId,
             @RequestParam(name = "startDate", required = true) String startDate,
             @RequestParam(name = "endDate", required = true) String endDate) {
-        try {
-            LocalDateTime start = LocalDateTime.parse(startDate);
-            LocalDateTime end = LocalDateTime.parse(endDate);
-            
-            List<EventDto> events = eventService.getEventsInDateRange(userId, start, end);
-            return BaseResponse.success(events);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        LocalDateTime start = LocalDateTime.parse(startDate);
+        LocalDateTime end = LocalDateTime.parse(endDate);
+        
+        List<EventDto> events = requestCoalescer.execute("events.range", userId,
+                () -> eventService.getEventsInDateRange(userId, start, end), start, end);
+        return BaseResponse.success(events);
+    }
+
+    /**
+     * Get the next upcoming events, recurring occurrences included
+     *
+     * @param userId the ID of the user
+     * @param limit how many events to return (1-100)
+     * @return BaseResponse with list of events in time order
+     */
+    @GetMapping("/user/{userId}/upcoming")
+    public BaseResponse<List<EventDto>> getUpcomingEvents(
+            @PathVariable(name = "userId") Long userId,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        List<EventDto> events = requestCoalescer.execute("events.upcoming", userId,
+                () -> eventService.getUpcomingEvents(userId, limit), limit);
+        return BaseResponse.success(events);
     }
     
     /**
@@ -134,12 +172,42 @@ public class EventController {
     public BaseResponse<EventDto> updateEvent(@PathVariable(name = "userId") Long userId,
                                              @PathVariable(name = "eventId") Long eventId,
                                              @RequestBody EventCreateRequest request) {
-        try {
-            EventDto event = eventService.updateEvent(userId, eventId, request);
-            return BaseResponse.success("Event updated successfully", event);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        EventDto event = eventService.updateEvent(userId, eventId, request);
+        return BaseResponse.success("Event updated successfully", event);
+    }
+
+    /**
+     * Edit one occurrence of a recurring event
+     * 
+     * @param userId the ID of the user
+     * @param eventId the ID of the recurring event
+     * @param at the scheduled time of the occurrence (ISO format)
+     * @param request containing the occurrence's new details
+     * @return BaseResponse with the edited occurrence
+     */
+    @PutMapping("/user/{userId}/event/{eventId}/occurrence")
+    public BaseResponse<EventDto> updateOccurrence(@PathVariable(name = "userId") Long userId,
+                                                   @PathVariable(name = "eventId") Long eventId,
+                                                   @RequestParam(name = "at", required = true) String at,
+                                                   @RequestBody EventCreateRequest request) {
+        EventDto event = eventService.updateOccurrence(userId, eventId, LocalDateTime.parse(at), request);
+        return BaseResponse.success("Occurrence updated successfully", event);
+    }
+
+    /**
+     * Remove one occurrence of a recurring event
+     * 
+     * @param userId the ID of the user
+     * @param eventId the ID of the recurring event
+     * @param at the scheduled time of the occurrence (ISO format)
+     * @return BaseResponse with success message
+     */
+    @DeleteMapping("/user/{userId}/event/{eventId}/occurrence")
+    public BaseResponse<String> cancelOccurrence(@PathVariable(name = "userId") Long userId,
+                                                 @PathVariable(name = "eventId") Long eventId,
+                                                 @RequestParam(name = "at", required = true) String at) {
+        eventService.cancelOccurrence(userId, eventId, LocalDateTime.parse(at));
+        return BaseResponse.success("Occurrence removed successfully", "Occurrence has been removed");
     }
 
     /**
@@ -152,12 +220,8 @@ public class EventController {
     @DeleteMapping("/user/{userId}/event/{eventId}")
     public BaseResponse<String> deleteEvent(@PathVariable(name = "userId") Long userId,
                                           @PathVariable(name = "eventId") Long eventId) {
-        try {
-            eventService.deleteEvent(userId, eventId);
-            return BaseResponse.success("Event deleted successfully", "Event has been deleted");
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        eventService.deleteEvent(userId, eventId);
+        return BaseResponse.success("Event deleted successfully", "Event has been deleted");
     }
     
     /**
@@ -170,11 +234,8 @@ public class EventController {
     @GetMapping("/user/{userId}/number/{eventNumber}")
     public BaseResponse<EventDto> getEventByNumber(@PathVariable(name = "userId") Long userId,
                                                   @PathVariable(name = "eventNumber") Long eventNumber) {
-        try {
-            EventDto event = eventService.getEventByNumber(userId, eventNumber);
-            return BaseResponse.success(event);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        EventDto event = requestCoalescer.execute("events.byNumber", userId,
+                () -> eventService.getEventByNumber(userId, eventNumber), eventNumber);
+        return BaseResponse.success(event);
     }
 }
\ No newline at end of file
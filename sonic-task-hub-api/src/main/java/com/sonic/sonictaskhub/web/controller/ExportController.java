@@ -0,0 +1,199 @@
+package com.sonic.sonictaskhub.web.controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.sonic.sonictaskhub.model.dto.ExportJobDto;
+import com.sonic.sonictaskhub.model.request.ExportRequest;
+import com.sonic.sonictaskhub.model.response.BaseResponse;
+import com.sonic.sonictaskhub.service.export.ExportCriteria;
+import com.sonic.sonictaskhub.service.export.ExportJob;
+import com.sonic.sonictaskhub.service.export.ExportJobService;
+import com.sonic.sonictaskhub.service.export.ExportService;
+import com.sonic.sonictaskhub.web.download.RangeFileSender;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Controller for exporting user data
+ */
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = "*")
+public class ExportController {
+
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ExportJobService exportJobService;
+
+    @Autowired
+    private RangeFileSender rangeFileSender;
+
+    /**
+     * Stream an export of the user's data as CSV or JSON
+     * 
+     * @param userId the ID of the user
+     * @param format csv (default) or json
+     * @param types entity types to include (task, note, habit, event); all when omitted
+     * @param status only include tasks with this status
+     * @param priority only include tasks and notes with this priority
+     * @param categoryId only include items in this category
+     * @param search search term for title/description
+     * @param includeCompleted include completed tasks and habits
+     * @param includeSnoozed include snoozed tasks
+     * @param includeSubtasks include subtasks
+     * @param from only include items created at or after this time
+     * @param to only include items created before this time
+     * @param gzip compress the response with gzip content encoding
+     * @return the export document, written while it is read from the database
+     */
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<StreamingResponseBody> exportUserData(
+            @PathVariable(name = "userId") Long userId,
+            @RequestParam(name = "format", required = false, defaultValue = "csv") String format,
+            @RequestParam(name = "types", required = false) List<String> types,
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "priority", required = false) String priority,
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "search", required = false) String search,
+            @RequestParam(name = "includeCompleted", required = false, defaultValue = "true") boolean includeCompleted,
+            @RequestParam(name = "includeSnoozed", required = false, defaultValue = "true") boolean includeSnoozed,
+            @RequestParam(name = "includeSubtasks", required = false, defaultValue = "true") boolean includeSubtasks,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "gzip", required = false, defaultValue = "false") boolean gzip) {
+        ExportRequest request = new ExportRequest();
+        request.setFormat(format);
+        request.setTypes(types);
+        request.setStatus(status);
+        request.setPriority(priority);
+        request.setCategoryId(categoryId);
+        request.setSearch(search);
+        request.setIncludeCompleted(includeCompleted);
+        request.setIncludeSnoozed(includeSnoozed);
+        request.setIncludeSubtasks(includeSubtasks);
+        request.setFrom(from);
+        request.setTo(to);
+        request.setGzip(gzip);
+
+        // Validate before streaming so bad requests still get an error response
+        ExportCriteria criteria = exportService.prepare(userId, request);
+
+        StreamingResponseBody body = out -> {
+            if (criteria.isGzip()) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                exportService.export(criteria, gzipOut);
+                gzipOut.finish();
+            } else {
+                exportService.export(criteria, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(criteria.getFormat().getContentType()),
+                        StandardCharsets.UTF_8))
+                .cacheControl(CacheControl.noStore())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(criteria.getFileName()).build().toString());
+        if (criteria.isGzip()) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Start a background export job
+     * 
+     * @param userId the ID of the user
+     * @param request export format, types and filters
+     * @return BaseResponse with the queued job
+     */
+    @PostMapping("/user/{userId}/jobs")
+    public BaseResponse<ExportJobDto> createExportJob(@PathVariable(name = "userId") Long userId,
+                                                      @RequestBody ExportRequest request) {
+        ExportJobDto job = exportJobService.submit(userId, request);
+        return BaseResponse.success("Export job queued", job);
+    }
+
+    /**
+     * Get the user's export jobs, newest first
+     * 
+     * @param userId the ID of the user
+     * @return BaseResponse with the jobs
+     */
+    @GetMapping("/user/{userId}/jobs")
+    public BaseResponse<List<ExportJobDto>> getExportJobs(@PathVariable(name = "userId") Long userId) {
+        List<ExportJobDto> jobs = exportJobService.getJobsForUser(userId);
+        return BaseResponse.success(jobs);
+    }
+
+    /**
+     * Get the status and progress of an export job
+     * 
+     * @param userId the ID of the user
+     * @param jobId the ID of the job
+     * @return BaseResponse with the job
+     */
+    @GetMapping("/user/{userId}/jobs/{jobId}")
+    public BaseResponse<ExportJobDto> getExportJob(@PathVariable(name = "userId") Long userId,
+                                                   @PathVariable(name = "jobId") String jobId) {
+        ExportJobDto job = exportJobService.getJob(userId, jobId);
+        return BaseResponse.success(job);
+    }
+
+    /**
+     * Cancel a running export job, or delete a finished one and its file
+     * 
+     * @param userId the ID of the user
+     * @param jobId the ID of the job
+     * @return BaseResponse with success message
+     */
+    @DeleteMapping("/user/{userId}/jobs/{jobId}")
+    public BaseResponse<Void> cancelExportJob(@PathVariable(name = "userId") Long userId,
+                                              @PathVariable(name = "jobId") String jobId) {
+        exportJobService.cancel(userId, jobId);
+        return BaseResponse.success("Export job cancelled", null);
+    }
+
+    /**
+     * Download the file of a completed export job; supports single byte ranges
+     * so interrupted downloads can resume
+     * 
+     * @param userId the ID of the user
+     * @param jobId the ID of the job
+     */
+    @GetMapping("/user/{userId}/jobs/{jobId}/download")
+    public void downloadExportJob(@PathVariable(name = "userId") Long userId,
+                                  @PathVariable(name = "jobId") String jobId,
+                                  HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException {
+        ExportJob job = exportJobService.getCompletedJob(userId, jobId);
+        rangeFileSender.send(job.getFile(), job.getFileName(), job.getContentType(), request, response);
+    }
+}
@@ -2,6 +2,7 @@ package com.sonic.sonictaskhub.web.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,13 +13,19 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.sonic.sonictaskhub.model.dto.HabitDto;
 import com.sonic.sonictaskhub.model.enums.HabitStatus;
 import com.sonic.sonictaskhub.model.request.HabitCreateRequest;
 import com.sonic.sonictaskhub.model.response.BaseResponse;
 import com.sonic.sonictaskhub.service.HabitService;
+import com.sonic.sonictaskhub.service.cache.RequestCoalescer;
+import com.sonic.sonictaskhub.service.exception.ValidationException;
+import com.sonic.sonictaskhub.web.fields.SelectableFields;
+import com.sonic.sonictaskhub.web.stream.NdjsonStreamer;
 
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -32,6 +39,12 @@ public class HabitController {
     @Autowired
     private HabitService habitService;
 
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private NdjsonStreamer ndjsonStreamer;
+
     /**
      * Create a new habit
      * 
@@ -42,12 +55,8 @@ public class HabitController {
     @PostMapping("/user/{userId}")
     public BaseResponse<HabitDto> createHabit(@PathVariable(name = "userId") Long userId,
                                             @RequestBody HabitCreateRequest request) {
-        try {
-            HabitDto habit = habitService.createHabit(userId, request);
-            return BaseResponse.success("Habit created successfully", habit);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        HabitDto habit = habitService.createHabit(userId, request);
+        return BaseResponse.success("Habit created successfully", habit);
     }
 
     /**
@@ -73,15 +82,40 @@ public class HabitController {
             @RequestParam(name = "size", required = false, defaultValue = "20") int size,
             @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(name = "sortDirection", required = false, defaultValue = "desc") String sortDirection) {
-        try {
-            HabitStatus habitStatus = status != null ? HabitStatus.valueOf(status.toUpperCase()) : null;
+        HabitStatus habitStatus = status != null ? HabitStatus.valueOf(status.toUpperCase()) : null;
 
-            Page<HabitDto> habits = habitService.getHabitsWithFilters(userId, habitStatus, categoryId, 
-                                                                    search, page, size, sortBy, sortDirection);
-            return BaseResponse.success(habits);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        Page<HabitDto> habits = requestCoalescer.execute("habits.filter", userId,
+                () -> habitService.getHabitsWithFilters(userId, habitStatus, categoryId,
+                                                        search, page, size, sortBy, sortDirection),
+                habitStatus, categoryId, search, page, size, sortBy, sortDirection);
+        return BaseResponse.success(habits);
+    }
+
+    /**
+     * Stream all habits matching the filters as newline-delimited JSON, one habit per line.
+     * Rows are written as they are read from the database, without paging.
+     * 
+     * @param userId the ID of the user
+     * @param status filter by habit status
+     * @param categoryId filter by category ID
+     * @param search search term for title/description
+     * @param sortBy field to sort by
+     * @param sortDirection sort direction (asc/desc)
+     * @return application/x-ndjson stream of habit data
+     */
+    @SelectableFields(HabitDto.class)
+    @GetMapping("/user/{userId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamHabits(
+            @PathVariable(name = "userId") Long userId,
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "search", required = false) String search,
+            @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(name = "sortDirection", required = false, defaultValue = "desc") String sortDirection) {
+        HabitStatus habitStatus = status != null ? HabitStatus.valueOf(status.toUpperCase()) : null;
+
+        return ndjsonStreamer.<HabitDto>stream(sink -> habitService.streamHabitsWithFilters(
+                userId, habitStatus, categoryId, search, sortBy, sortDirection, sink));
     }
 
     /**
@@ -94,12 +128,9 @@ public class HabitController {
     @GetMapping("/user/{userId}/habit/{habitId}")
     public BaseResponse<HabitDto> getHabitById(@PathVariable(name = "userId") Long userId,
                                              @PathVariable(name = "habitId") Long habitId) {
-        try {
-            HabitDto habit = habitService.getHabitById(userId, habitId);
-            return BaseResponse.success(habit);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        HabitDto habit = requestCoalescer.execute("habits.byId", userId,
+                () -> habitService.getHabitById(userId, habitId), habitId);
+        return BaseResponse.success(habit);
     }
 
     /**
@@ -112,12 +143,9 @@ public class HabitController {
     @GetMapping("/user/{userId}/number/{habitNumber}")
     public BaseResponse<HabitDto> getHabitByNumber(@PathVariable(name = "userId") Long userId,
                                                  @PathVariable(name = "habitNumber") Long habitNumber) {
-        try {
-            HabitDto habit = habitService.getHabitByNumber(userId, habitNumber);
-            return BaseResponse.success(habit);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        HabitDto habit = requestCoalescer.execute("habits.byNumber", userId,
+                () -> habitService.getHabitByNumber(userId, habitNumber), habitNumber);
+        return BaseResponse.success(habit);
     }
 
     /**
@@ -132,18 +160,19 @@ public class HabitController {
     public BaseResponse<HabitDto> updateHabitStatus(@PathVariable(name = "userId") Long userId,
                                                   @PathVariable(name = "habitId") Long habitId,
                                                   @RequestBody Map<String, String> request) {
+        String statusStr = request.get("status");
+        if (statusStr == null) {
+            throw ValidationException.HABIT_STATUS_REQUIRED;
+        }
+
+        HabitStatus status;
         try {
-            String statusStr = request.get("status");
-            if (statusStr == null) {
-                return BaseResponse.error("Status is required");
-            }
-
-            HabitStatus status = HabitStatus.valueOf(statusStr.toUpperCase());
-            HabitDto habit = habitService.updateHabitStatus(userId, habitId, status);
-            return BaseResponse.success("Habit status updated successfully", habit);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
+            status = HabitStatus.valueOf(statusStr.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw ValidationException.HABIT_STATUS_INVALID;
         }
+        HabitDto habit = habitService.updateHabitStatus(userId, habitId, status);
+        return BaseResponse.success("Habit status updated successfully", habit);
     }
     
     /**
@@ -158,12 +187,8 @@ public class HabitController {
     public BaseResponse<HabitDto> updateHabit(@PathVariable(name = "userId") Long userId,
                                              @PathVariable(name = "habitId") Long habitId,
                                              @RequestBody HabitCreateRequest request) {
-        try {
-            HabitDto habit = habitService.updateHabit(userId, habitId, request);
-            return BaseResponse.success("Habit updated successfully", habit);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        HabitDto habit = habitService.updateHabit(userId, habitId, request);
+        return BaseResponse.success("Habit updated successfully", habit);
     }
 
     /**
@@ -176,11 +201,7 @@ public class HabitController {
     @DeleteMapping("/user/{userId}/habit/{habitId}")
     public BaseResponse<String> deleteHabit(@PathVariable(name = "userId") Long userId,
                                           @PathVariable(name = "habitId") Long habitId) {
-        try {
-            habitService.deleteHabit(userId, habitId);
-            return BaseResponse.success("Habit deleted successfully", "Habit has been deleted");
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        habitService.deleteHabit(userId, habitId);
+        return BaseResponse.success("Habit deleted successfully", "Habit has been deleted");
     }
 }
\ No newline at end of file
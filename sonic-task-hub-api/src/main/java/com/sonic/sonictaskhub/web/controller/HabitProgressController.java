@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.sonic.sonictaskhub.model.dto.HabitProgressDto;
 import com.sonic.sonictaskhub.model.response.BaseResponse;
 import com.sonic.sonictaskhub.service.HabitProgressService;
+import com.sonic.sonictaskhub.service.cache.RequestCoalescer;
 
 /**
  * Controller for habit progress tracking operations
@@ -30,6 +31,9 @@ public class HabitProgressController {
     @Autowired
     private HabitProgressService habitProgressService;
 
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
     /**
      * Log habit progress
      * 
@@ -42,22 +46,18 @@ public class HabitProgressController {
     public BaseResponse<HabitProgressDto> logProgress(@PathVariable(name = "userId") Long userId,
                                                     @PathVariable(name = "habitId") Long habitId,
                                                     @RequestBody Map<String, Object> request) {
-        try {
-            String sessionDateStr = (String) request.get("sessionDate");
-            LocalDate sessionDate = sessionDateStr != null ? LocalDate.parse(sessionDateStr) : LocalDate.now();
-            
-            Integer duration = request.containsKey("duration") ? (Integer) request.get("duration") : null;
-            String notes = (String) request.get("notes");
-            Double progressValue = request.containsKey("progressValue") ? 
-                ((Number) request.get("progressValue")).doubleValue() : null;
-            String progressUnit = (String) request.get("progressUnit");
+        String sessionDateStr = (String) request.get("sessionDate");
+        LocalDate sessionDate = sessionDateStr != null ? LocalDate.parse(sessionDateStr) : LocalDate.now();
+        
+        Integer duration = request.containsKey("duration") ? (Integer) request.get("duration") : null;
+        String notes = (String) request.get("notes");
+        Double progressValue = request.containsKey("progressValue") ? 
+            ((Number) request.get("progressValue")).doubleValue() : null;
+        String progressUnit = (String) request.get("progressUnit");
 
-            HabitProgressDto progress = habitProgressService.logProgress(userId, habitId, sessionDate, 
-                                                                        duration, notes, progressValue, progressUnit);
-            return BaseResponse.success("Progress logged successfully", progress);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        HabitProgressDto progress = habitProgressService.logProgress(userId, habitId, sessionDate, 
+                                                                    duration, notes, progressValue, progressUnit);
+        return BaseResponse.success("Progress logged successfully", progress);
     }
 
     /**
@@ -70,12 +70,9 @@ public class HabitProgressController {
     @GetMapping("/user/{userId}/habit/{habitId}")
     public BaseResponse<List<HabitProgressDto>> getProgressForHabit(@PathVariable(name = "userId") Long userId,
                                                                   @PathVariable(name = "habitId") Long habitId) {
-        try {
-            List<HabitProgressDto> progress = habitProgressService.getProgressForHabit(userId, habitId);
-            return BaseResponse.success(progress);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        List<HabitProgressDto> progress = requestCoalescer.execute("habitProgress.byHabit", userId,
+                () -> habitProgressService.getProgressForHabit(userId, habitId), habitId);
+        return BaseResponse.success(progress);
     }
 
     /**
@@ -93,15 +90,13 @@ public class HabitProgressController {
             @PathVariable(name = "habitId") Long habitId,
             @RequestParam(name = "startDate", required = true) String startDate,
             @RequestParam(name = "endDate", required = true) String endDate) {
-        try {
-            LocalDate start = LocalDate.parse(startDate);
-            LocalDate end = LocalDate.parse(endDate);
-            
-            List<HabitProgressDto> progress = habitProgressService.getProgressInDateRange(userId, habitId, start, end);
-            return BaseResponse.success(progress);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        LocalDate start = LocalDate.parse(startDate);
+        LocalDate end = LocalDate.parse(endDate);
+        
+        List<HabitProgressDto> progress = requestCoalescer.execute("habitProgress.range", userId,
+                () -> habitProgressService.getProgressInDateRange(userId, habitId, start, end),
+                habitId, start, end);
+        return BaseResponse.success(progress);
     }
 
     /**
@@ -114,11 +109,7 @@ public class HabitProgressController {
     @DeleteMapping("/user/{userId}/progress/{progressId}")
     public BaseResponse<String> deleteProgress(@PathVariable(name = "userId") Long userId,
                                              @PathVariable(name = "progressId") Long progressId) {
-        try {
-            habitProgressService.deleteProgress(userId, progressId);
-            return BaseResponse.success("Progress entry deleted successfully", "Progress entry has been deleted");
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        habitProgressService.deleteProgress(userId, progressId);
+        return BaseResponse.success("Progress entry deleted successfully", "Progress entry has been deleted");
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.sonic.sonictaskhub.web.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.sonic.sonictaskhub.model.dto.NoteDto;
 import com.sonic.sonictaskhub.model.enums.NoteStatus;
@@ -19,6 +21,9 @@ import com.sonic.sonictaskhub.model.enums.Priority;
 import com.sonic.sonictaskhub.model.request.NoteCreateRequest;
 import com.sonic.sonictaskhub.model.response.BaseResponse;
 import com.sonic.sonictaskhub.service.NoteService;
+import com.sonic.sonictaskhub.service.cache.RequestCoalescer;
+import com.sonic.sonictaskhub.web.fields.SelectableFields;
+import com.sonic.sonictaskhub.web.stream.NdjsonStreamer;
 
 /**
  * Controller for note management operations
@@ -31,6 +36,12 @@ public class NoteController {
     @Autowired
     private NoteService noteService;
 
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private NdjsonStreamer ndjsonStreamer;
+
     /**
      * Create a new note
      * 
@@ -41,12 +52,8 @@ public class NoteController {
     @PostMapping("/user/{userId}")
     public BaseResponse<NoteDto> createNote(@PathVariable(name = "userId") Long userId,
                                           @RequestBody NoteCreateRequest request) {
-        try {
-            NoteDto note = noteService.createNote(userId, request);
-            return BaseResponse.success("Note created successfully", note);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        NoteDto note = noteService.createNote(userId, request);
+        return BaseResponse.success("Note created successfully", note);
     }
 
     /**
@@ -74,16 +81,44 @@ public class NoteController {
             @RequestParam(name = "size", required = false, defaultValue = "20") int size,
             @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(name = "sortDirection", required = false, defaultValue = "desc") String sortDirection) {
-        try {
-            NoteStatus noteStatus = status != null ? NoteStatus.valueOf(status.toUpperCase()) : null;
-            Priority notePriority = priority != null ? Priority.valueOf(priority.toUpperCase()) : null;
+        NoteStatus noteStatus = status != null ? NoteStatus.valueOf(status.toUpperCase()) : null;
+        Priority notePriority = priority != null ? Priority.valueOf(priority.toUpperCase()) : null;
+
+        Page<NoteDto> notes = requestCoalescer.execute("notes.filter", userId,
+                () -> noteService.getNotesWithFilters(userId, noteStatus, notePriority,
+                                                      categoryId, search, page, size, sortBy, sortDirection),
+                noteStatus, notePriority, categoryId, search, page, size, sortBy, sortDirection);
+        return BaseResponse.success(notes);
+    }
+
+    /**
+     * Stream all notes matching the filters as newline-delimited JSON, one note per line.
+     * Rows are written as they are read from the database, without paging.
+     * 
+     * @param userId the ID of the user
+     * @param status filter by note status
+     * @param priority filter by priority
+     * @param categoryId filter by category ID
+     * @param search search term for title/description
+     * @param sortBy field to sort by
+     * @param sortDirection sort direction (asc/desc)
+     * @return application/x-ndjson stream of note data
+     */
+    @SelectableFields(NoteDto.class)
+    @GetMapping("/user/{userId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamNotes(
+            @PathVariable(name = "userId") Long userId,
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "priority", required = false) String priority,
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "search", required = false) String search,
+            @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(name = "sortDirection", required = false, defaultValue = "desc") String sortDirection) {
+        NoteStatus noteStatus = status != null ? NoteStatus.valueOf(status.toUpperCase()) : null;
+        Priority notePriority = priority != null ? Priority.valueOf(priority.toUpperCase()) : null;
 
-            Page<NoteDto> notes = noteService.getNotesWithFilters(userId, noteStatus, notePriority, 
-                                                                categoryId, search, page, size, sortBy, sortDirection);
-            return BaseResponse.success(notes);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        return ndjsonStreamer.<NoteDto>stream(sink -> noteService.streamNotesWithFilters(
+                userId, noteStatus, notePriority, categoryId, search, sortBy, sortDirection, sink));
     }
 
     /**
@@ -96,12 +131,9 @@ public class NoteController {
     @GetMapping("/user/{userId}/note/{noteId}")
     public BaseResponse<NoteDto> getNoteById(@PathVariable(name = "userId") Long userId,
                                            @PathVariable(name = "noteId") Long noteId) {
-        try {
-            NoteDto note = noteService.getNoteById(userId, noteId);
-            return BaseResponse.success(note);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        NoteDto note = requestCoalescer.execute("notes.byId", userId,
+                () -> noteService.getNoteById(userId, noteId), noteId);
+        return BaseResponse.success(note);
     }
 
     /**
@@ -114,12 +146,9 @@ public class NoteController {
     @GetMapping("/user/{userId}/number/{noteNumber}")
     public BaseResponse<NoteDto> getNoteByNumber(@PathVariable(name = "userId") Long userId,
                                                @PathVariable(name = "noteNumber") Long noteNumber) {
-        try {
-            NoteDto note = noteService.getNoteByNumber(userId, noteNumber);
-            return BaseResponse.success(note);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        NoteDto note = requestCoalescer.execute("notes.byNumber", userId,
+                () -> noteService.getNoteByNumber(userId, noteNumber), noteNumber);
+        return BaseResponse.success(note);
     }
 
     /**
@@ -132,12 +161,8 @@ public class NoteController {
     @PutMapping("/user/{userId}/note/{noteId}/archive")
     public BaseResponse<NoteDto> archiveNote(@PathVariable(name = "userId") Long userId,
                                            @PathVariable(name = "noteId") Long noteId) {
-        try {
-            NoteDto note = noteService.archiveNote(userId, noteId);
-            return BaseResponse.success("Note archived successfully", note);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        NoteDto note = noteService.archiveNote(userId, noteId);
+        return BaseResponse.success("Note archived successfully", note);
     }
     
     /**
@@ -152,12 +177,8 @@ public class NoteController {
     public BaseResponse<NoteDto> updateNote(@PathVariable(name = "userId") Long userId,
                                            @PathVariable(name = "noteId") Long noteId,
                                            @RequestBody NoteCreateRequest request) {
-        try {
-            NoteDto note = noteService.updateNote(userId, noteId, request);
-            return BaseResponse.success("Note updated successfully", note);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        NoteDto note = noteService.updateNote(userId, noteId, request);
+        return BaseResponse.success("Note updated successfully", note);
     }
 
     /**
@@ -170,11 +191,7 @@ public class NoteController {
     @DeleteMapping("/user/{userId}/note/{noteId}")
     public BaseResponse<String> deleteNote(@PathVariable(name = "userId") Long userId,
                                          @PathVariable(name = "noteId") Long noteId) {
-        try {
-            noteService.deleteNote(userId, noteId);
-            return BaseResponse.success("Note deleted successfully", "Note has been deleted");
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        noteService.deleteNote(userId, noteId);
+        return BaseResponse.success("Note deleted successfully", "Note has been deleted");
     }
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.sonic.sonictaskhub.web.controller;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.sonic.sonictaskhub.model.dto.TaskDto;
 import com.sonic.sonictaskhub.model.enums.Priority;
@@ -23,6 +26,10 @@ import com.sonic.sonictaskhub.model.enums.TaskStatus;
 import com.sonic.sonictaskhub.model.request.TaskCreateRequest;
 import com.sonic.sonictaskhub.model.response.BaseResponse;
 import com.sonic.sonictaskhub.service.TaskService;
+import com.sonic.sonictaskhub.service.cache.RequestCoalescer;
+import com.sonic.sonictaskhub.service.exception.ValidationException;
+import com.sonic.sonictaskhub.web.fields.SelectableFields;
+import com.sonic.sonictaskhub.web.stream.NdjsonStreamer;
 
 /**
  * Controller for task management operations
@@ -35,6 +42,12 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private NdjsonStreamer ndjsonStreamer;
+
     /**
      * Create a new task
      * 
@@ -45,12 +58,8 @@ public class TaskController {
     @PostMapping("/user/{userId}")
     public BaseResponse<TaskDto> createTask(@PathVariable(name = "userId") Long userId,
                                            @RequestBody TaskCreateRequest request) {
-        try {
-            TaskDto task = taskService.createTask(userId, request);
-            return BaseResponse.success("Task created successfully", task);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        TaskDto task = taskService.createTask(userId, request);
+        return BaseResponse.success("Task created successfully", task);
     }
 
     /**
@@ -78,16 +87,44 @@ public class TaskController {
             @RequestParam(name = "size", required = false, defaultValue = "20") int size,
             @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(name = "sortDirection", required = false, defaultValue = "desc") String sortDirection) {
-        try {
-            TaskStatus taskStatus = status != null ? TaskStatus.valueOf(status.toUpperCase()) : null;
-            Priority taskPriority = priority != null ? Priority.valueOf(priority.toUpperCase()) : null;
-
-            Page<TaskDto> tasks = taskService.getTasksWithFilters(userId, taskStatus, taskPriority, 
-                                                                 categoryId, search, page, size, sortBy, sortDirection);
-            return BaseResponse.success(tasks);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        TaskStatus taskStatus = status != null ? TaskStatus.valueOf(status.toUpperCase()) : null;
+        Priority taskPriority = priority != null ? Priority.valueOf(priority.toUpperCase()) : null;
+
+        Page<TaskDto> tasks = requestCoalescer.execute("tasks.filter", userId,
+                () -> taskService.getTasksWithFilters(userId, taskStatus, taskPriority,
+                                                      categoryId, search, page, size, sortBy, sortDirection),
+                taskStatus, taskPriority, categoryId, search, page, size, sortBy, sortDirection);
+        return BaseResponse.success(tasks);
+    }
+
+    /**
+     * Stream all tasks matching the filters as newline-delimited JSON, one task per line.
+     * Rows are written as they are read from the database, without paging.
+     * 
+     * @param userId the ID of the user
+     * @param status filter by task status
+     * @param priority filter by priority
+     * @param categoryId filter by category ID
+     * @param search search term for title/description
+     * @param sortBy field to sort by
+     * @param sortDirection sort direction (asc/desc)
+     * @return application/x-ndjson stream of task data
+     */
+    @SelectableFields(TaskDto.class)
+    @GetMapping("/user/{userId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamTasks(
+            @PathVariable(name = "userId") Long userId,
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "priority", required = false) String priority,
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "search", required = false) String search,
+            @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(name = "sortDirection", required = false, defaultValue = "desc") String sortDirection) {
+        TaskStatus taskStatus = status != null ? TaskStatus.valueOf(status.toUpperCase()) : null;
+        Priority taskPriority = priority != null ? Priority.valueOf(priority.toUpperCase()) : null;
+
+        return ndjsonStreamer.<TaskDto>stream(sink -> taskService.streamTasksWithFilters(
+                userId, taskStatus, taskPriority, categoryId, search, sortBy, sortDirection, sink));
     }
 
     /**
@@ -100,12 +137,9 @@ public class TaskController {
     @GetMapping("/user/{userId}/task/{taskId}")
     public BaseResponse<TaskDto> getTaskById(@PathVariable(name = "userId") Long userId,
                                            @PathVariable(name = "taskId") Long taskId) {
-        try {
-            TaskDto task = taskService.getTaskById(userId, taskId);
-            return BaseResponse.success(task);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        TaskDto task = requestCoalescer.execute("tasks.byId", userId,
+                () -> taskService.getTaskById(userId, taskId), taskId);
+        return BaseResponse.success(task);
     }
 
     /**
@@ -118,12 +152,9 @@ public class TaskController {
     @GetMapping("/user/{userId}/number/{taskNumber}")
     public BaseResponse<TaskDto> getTaskByNumber(@PathVariable(name = "userId") Long userId,
                                                 @PathVariable(name = "taskNumber") Long taskNumber) {
-        try {
-            TaskDto task = taskService.getTaskByNumber(userId, taskNumber);
-            return BaseResponse.success(task);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        TaskDto task = requestCoalescer.execute("tasks.byNumber", userId,
+                () -> taskService.getTaskByNumber(userId, taskNumber), taskNumber);
+        return BaseResponse.success(task);
     }
 
     /**
@@ -138,17 +169,13 @@ public class TaskController {
     public BaseResponse<TaskDto> completeTask(@PathVariable(name = "userId") Long userId,
                                             @PathVariable(name = "taskId") Long taskId,
                                             @RequestBody(required = false) Map<String, Object> request) {
-        try {
-            Integer actualDuration = null;
-            if (request != null && request.containsKey("actualDuration")) {
-                actualDuration = (Integer) request.get("actualDuration");
-            }
-
-            TaskDto task = taskService.completeTask(userId, taskId, actualDuration);
-            return BaseResponse.success("Task completed successfully", task);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
+        Integer actualDuration = null;
+        if (request != null && request.containsKey("actualDuration")) {
+            actualDuration = (Integer) request.get("actualDuration");
         }
+
+        TaskDto task = taskService.completeTask(userId, taskId, actualDuration);
+        return BaseResponse.success("Task completed successfully", task);
     }
 
     /**
@@ -163,18 +190,19 @@ public class TaskController {
     public BaseResponse<TaskDto> snoozeTask(@PathVariable(name = "userId") Long userId,
                                           @PathVariable(name = "taskId") Long taskId,
                                           @RequestBody Map<String, String> request) {
+        String snoozeUntilStr = request.get("snoozeUntil");
+        if (snoozeUntilStr == null) {
+            throw ValidationException.SNOOZE_UNTIL_REQUIRED;
+        }
+
+        LocalDateTime snoozeUntil;
         try {
-            String snoozeUntilStr = request.get("snoozeUntil");
-            if (snoozeUntilStr == null) {
-                return BaseResponse.error("snoozeUntil is required");
-            }
-
-            LocalDateTime snoozeUntil = LocalDateTime.parse(snoozeUntilStr);
-            TaskDto task = taskService.snoozeTask(userId, taskId, snoozeUntil);
-            return BaseResponse.success("Task snoozed successfully", task);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
+            snoozeUntil = LocalDateTime.parse(snoozeUntilStr);
+        } catch (DateTimeParseException e) {
+            throw ValidationException.SNOOZE_UNTIL_INVALID;
         }
+        TaskDto task = taskService.snoozeTask(userId, taskId, snoozeUntil);
+        return BaseResponse.success("Task snoozed successfully", task);
     }
 
     /**
@@ -187,12 +215,9 @@ public class TaskController {
     @GetMapping("/user/{userId}/task/{parentTaskId}/subtasks")
     public BaseResponse<List<TaskDto>> getSubtasks(@PathVariable(name = "userId") Long userId,
                                                   @PathVariable(name = "parentTaskId") Long parentTaskId) {
-        try {
-            List<TaskDto> subtasks = taskService.getSubtasks(userId, parentTaskId);
-            return BaseResponse.success(subtasks);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        List<TaskDto> subtasks = requestCoalescer.execute("tasks.subtasks", userId,
+                () -> taskService.getSubtasks(userId, parentTaskId), parentTaskId);
+        return BaseResponse.success(subtasks);
     }
 
     /**
@@ -207,12 +232,8 @@ public class TaskController {
     public BaseResponse<TaskDto> updateTask(@PathVariable(name = "userId") Long userId,
                                            @PathVariable(name = "taskId") Long taskId,
                                            @RequestBody TaskCreateRequest request) {
-        try {
-            TaskDto task = taskService.updateTask(userId, taskId, request);
-            return BaseResponse.success("Task updated successfully", task);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        TaskDto task = taskService.updateTask(userId, taskId, request);
+        return BaseResponse.success("Task updated successfully", task);
     }
     
     /**
@@ -225,11 +246,7 @@ public class TaskController {
     @DeleteMapping("/user/{userId}/task/{taskId}")
     public BaseResponse<String> deleteTask(@PathVariable(name = "userId") Long userId,
                                          @PathVariable(name = "taskId") Long taskId) {
-        try {
-            taskService.deleteTask(userId, taskId);
-            return BaseResponse.success("Task deleted successfully", "Task has been deleted");
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        taskService.deleteTask(userId, taskId);
+        return BaseResponse.success("Task deleted successfully", "Task has been deleted");
     }
 }
\ No newline at end of file
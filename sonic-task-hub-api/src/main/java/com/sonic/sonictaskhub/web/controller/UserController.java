@@ -2,8 +2,10 @@ package com.sonic.sonictaskhub.web.controller;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,11 +16,22 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.sonic.sonictaskhub.model.dto.SessionDto;
 import com.sonic.sonictaskhub.model.dto.UserDto;
 import com.sonic.sonictaskhub.model.request.UserLoginRequest;
 import com.sonic.sonictaskhub.model.request.UserRegisterRequest;
 import com.sonic.sonictaskhub.model.response.BaseResponse;
 import com.sonic.sonictaskhub.service.UserService;
+import com.sonic.sonictaskhub.service.cache.RequestCoalescer;
+import com.sonic.sonictaskhub.service.exception.ForbiddenException;
+import com.sonic.sonictaskhub.service.exception.ValidationException;
+import com.sonic.sonictaskhub.service.security.SessionTokenService;
+import com.sonic.sonictaskhub.service.security.SessionTokenService.IssuedToken;
+import com.sonic.sonictaskhub.web.auth.AuthThrottle;
+import com.sonic.sonictaskhub.web.auth.PublicEndpoint;
+import com.sonic.sonictaskhub.web.auth.SessionTokenFilter;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * Controller for user management and authentication operations
@@ -31,36 +44,48 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private SessionTokenService sessionTokenService;
+
+    @Autowired
+    private AuthThrottle authThrottle;
+
+    @Value("${sonic.auth.admin-user-ids:}")
+    private Set<Long> adminUserIds;
+
     /**
      * Register a new user
      * 
      * @param request containing username, password, email, displayName
-     * @return BaseResponse with created user data
+     * @param httpRequest the servlet request, for throttling by client address
+     * @return BaseResponse with created user data and a session token
      */
+    @PublicEndpoint
     @PostMapping("/register")
-    public BaseResponse<UserDto> registerUser(@RequestBody UserRegisterRequest request) {
-        try {
-            UserDto user = userService.registerUser(request);
-            return BaseResponse.success("User registered successfully", user);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+    public BaseResponse<SessionDto> registerUser(@RequestBody UserRegisterRequest request,
+                                                 HttpServletRequest httpRequest) {
+        authThrottle.acquire(httpRequest, request.getUsername());
+        UserDto user = userService.registerUser(request);
+        return BaseResponse.success("User registered successfully", startSession(user));
     }
 
     /**
      * Authenticate user login
      * 
      * @param request containing username and password
-     * @return BaseResponse with user data if authentication succeeds
+     * @param httpRequest the servlet request, for throttling by client address
+     * @return BaseResponse with user data and a session token if authentication succeeds
      */
+    @PublicEndpoint
     @PostMapping("/login")
-    public BaseResponse<UserDto> loginUser(@RequestBody UserLoginRequest request) {
-        try {
-            UserDto user = userService.authenticateUser(request);
-            return BaseResponse.success("Login successful", user);
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+    public BaseResponse<SessionDto> loginUser(@RequestBody UserLoginRequest request,
+                                              HttpServletRequest httpRequest) {
+        authThrottle.acquire(httpRequest, request.getUsername());
+        UserDto user = userService.authenticateUser(request);
+        return BaseResponse.success("Login successful", startSession(user));
     }
 
     /**
@@ -71,13 +96,9 @@ public class UserController {
      */
     @GetMapping("/{userId}")
     public BaseResponse<UserDto> getUserProfile(@PathVariable(name = "userId") Long userId) {
-        try {
-            UserDto user = userService.getUserById(userId);
-            return BaseResponse.success(user);
-            
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        UserDto user = requestCoalescer.execute("users.byId", userId,
+                () -> userService.getUserById(userId));
+        return BaseResponse.success(user);
     }
 
     /**
@@ -90,16 +111,11 @@ public class UserController {
     @PutMapping("/{userId}/profile")
     public BaseResponse<UserDto> updateUserProfile(@PathVariable(name = "userId") Long userId,
                                                    @RequestBody Map<String, String> request) {
-        try {
-            String email = request.get("email");
-            String displayName = request.get("displayName");
-
-            UserDto user = userService.updateUserProfile(userId, email, displayName);
-            return BaseResponse.success("Profile updated successfully", user);
-            
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        String email = request.get("email");
+        String displayName = request.get("displayName");
+
+        UserDto user = userService.updateUserProfile(userId, email, displayName);
+        return BaseResponse.success("Profile updated successfully", user);
     }
 
     /**
@@ -112,42 +128,37 @@ public class UserController {
     @PutMapping("/{userId}/password")
     public BaseResponse<String> changePassword(@PathVariable(name = "userId") Long userId,
                                               @RequestBody Map<String, String> request) {
-        try {
-            String currentPassword = request.get("currentPassword");
-            String newPassword = request.get("newPassword");
-
-            if (currentPassword == null || currentPassword.trim().isEmpty()) {
-                return BaseResponse.error("Current password is required");
-            }
-            if (newPassword == null || newPassword.trim().isEmpty()) {
-                return BaseResponse.error("New password is required");
-            }
-            if (newPassword.length() < 6) {
-                return BaseResponse.error("New password must be at least 6 characters long");
-            }
-
-            userService.changePassword(userId, currentPassword, newPassword);
-            return BaseResponse.success("Password changed successfully", "Password updated");
-            
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
+        String currentPassword = request.get("currentPassword");
+        String newPassword = request.get("newPassword");
+
+        if (currentPassword == null || currentPassword.trim().isEmpty()) {
+            throw ValidationException.CURRENT_PASSWORD_REQUIRED;
         }
+        if (newPassword == null || newPassword.trim().isEmpty()) {
+            throw ValidationException.NEW_PASSWORD_REQUIRED;
+        }
+        if (newPassword.length() < 6) {
+            throw ValidationException.PASSWORD_TOO_SHORT;
+        }
+
+        userService.changePassword(userId, currentPassword, newPassword);
+        return BaseResponse.success("Password changed successfully", "Password updated");
     }
 
     /**
-     * Get all users (admin function)
+     * Get all users (admin function); only the users listed in sonic.auth.admin-user-ids may call it
      * 
+     * @param httpRequest the servlet request, carrying the authenticated user unless authentication is disabled
      * @return BaseResponse with list of all users
      */
     @GetMapping("/all")
-    public BaseResponse<List<UserDto>> getAllUsers() {
-        try {
-            List<UserDto> users = userService.getAllUsers();
-            return BaseResponse.success(users);
-            
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
+    public BaseResponse<List<UserDto>> getAllUsers(HttpServletRequest httpRequest) {
+        Object callerId = httpRequest.getAttribute(SessionTokenFilter.USER_ID_ATTRIBUTE);
+        if (callerId != null && !adminUserIds.contains(callerId)) {
+            throw ForbiddenException.ADMIN_REQUIRED;
         }
+        List<UserDto> users = userService.getAllUsers();
+        return BaseResponse.success(users);
     }
 
     /**
@@ -158,13 +169,8 @@ public class UserController {
      */
     @PutMapping("/{userId}/deactivate")
     public BaseResponse<String> deactivateUser(@PathVariable(name = "userId") Long userId) {
-        try {
-            userService.deactivateUser(userId);
-            return BaseResponse.success("User deactivated successfully", "User account deactivated");
-            
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        userService.deactivateUser(userId);
+        return BaseResponse.success("User deactivated successfully", "User account deactivated");
     }
 
     /**
@@ -175,13 +181,8 @@ public class UserController {
      */
     @PutMapping("/{userId}/activate")
     public BaseResponse<String> activateUser(@PathVariable(name = "userId") Long userId) {
-        try {
-            userService.activateUser(userId);
-            return BaseResponse.success("User activated successfully", "User account activated");
-            
-        } catch (Exception e) {
-            return BaseResponse.error(e.getMessage());
-        }
+        userService.activateUser(userId);
+        return BaseResponse.success("User activated successfully", "User account activated");
     }
 
     /**
@@ -190,16 +191,28 @@ public class UserController {
      * @param username the username to check
      * @return BaseResponse with availability status
      */
+    @PublicEndpoint
     @GetMapping("/check-username")
     public BaseResponse<Boolean> checkUsernameAvailability(@RequestParam(name = "username", required = true) String username) {
-        try {
-            UserDto user = userService.getUserByUsername(username);
-            // If user exists, username is not available
-            return BaseResponse.success("Username check completed", false);
-            
-        } catch (Exception e) {
-            // If user not found, username is available
-            return BaseResponse.success("Username check completed", true);
-        }
+        boolean available = userService.isUsernameAvailable(username);
+        return BaseResponse.success("Username check completed", available);
+    }
+
+    /**
+     * Check if email is available
+     * 
+     * @param email the email to check
+     * @return BaseResponse with availability status
+     */
+    @PublicEndpoint
+    @GetMapping("/check-email")
+    public BaseResponse<Boolean> checkEmailAvailability(@RequestParam(name = "email", required = true) String email) {
+        boolean available = userService.isEmailAvailable(email);
+        return BaseResponse.success("Email check completed", available);
+    }
+
+    private SessionDto startSession(UserDto user) {
+        IssuedToken issued = sessionTokenService.issue(user.getId());
+        return new SessionDto(user, issued.token(), issued.expiresAt());
     }
-}
\ No newline at end of file
+}
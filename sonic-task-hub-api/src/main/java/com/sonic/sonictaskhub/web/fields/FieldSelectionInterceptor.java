@@ -0,0 +1,165 @@
+package com.sonic.sonictaskhub.web.fields;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.sonic.sonictaskhub.service.support.FieldSelection;
+import com.sonic.sonictaskhub.web.handler.GlobalExceptionHandler.BusinessException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Parses and validates the {@code fields} query parameter before the handler runs.
+ *
+ * The DTO type is taken from the handler's declared return type (for example
+ * {@code BaseResponse<Page<TaskDto>>}); requested names are checked against
+ * that DTO's JSON properties and the resulting {@link FieldSelection} is bound
+ * to the request thread for the duration of the call.
+ */
+@Component
+public class FieldSelectionInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String FIELDS_PARAM = "fields";
+    public static final String FILTER_ID = "fieldSelection";
+    static final String SELECTION_ATTRIBUTE = FieldSelectionInterceptor.class.getName() + ".selection";
+    private static final String PREVIOUS_ATTRIBUTE = FieldSelectionInterceptor.class.getName() + ".previous";
+
+    /**
+     * Always written so that partial list rows can still be addressed
+     */
+    private static final String ID_FIELD = "id";
+
+    private final Map<HandlerMethod, Optional<Class<?>>> dtoTypes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Set<String>> dtoProperties = new ConcurrentHashMap<>();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String[] values = request.getParameterValues(FIELDS_PARAM);
+        if (values == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        Optional<Class<?>> dtoType = dtoTypes.computeIfAbsent(handlerMethod, this::findFilterableType);
+        if (dtoType.isEmpty()) {
+            return true;
+        }
+
+        Set<String> requested = parse(values);
+        if (requested.isEmpty()) {
+            return true;
+        }
+
+        Set<String> known = dtoProperties.computeIfAbsent(dtoType.get(), this::jsonProperties);
+        List<String> unknown = new ArrayList<>();
+        for (String field : requested) {
+            if (!known.contains(field)) {
+                unknown.add(field);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new BusinessException("Unknown field(s) for " + dtoType.get().getSimpleName() + ": "
+                    + String.join(", ", unknown), "INVALID_FIELDS", HttpStatus.BAD_REQUEST);
+        }
+
+        requested.add(ID_FIELD);
+        FieldSelection selection = FieldSelection.of(requested);
+        request.setAttribute(PREVIOUS_ATTRIBUTE, FieldSelection.current());
+        request.setAttribute(SELECTION_ATTRIBUTE, selection);
+        FieldSelection.bind(selection);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        restorePrevious(request);
+    }
+
+    /**
+     * Asynchronous handlers skip afterCompletion on the initial dispatch; unbind here instead
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        restorePrevious(request);
+    }
+
+    private void restorePrevious(HttpServletRequest request) {
+        Object previous = request.getAttribute(PREVIOUS_ATTRIBUTE);
+        if (previous != null) {
+            FieldSelection.bind((FieldSelection) previous);
+        }
+    }
+
+    private Set<String> parse(String[] values) {
+        Set<String> fields = new LinkedHashSet<>();
+        for (String value : values) {
+            for (String field : value.split(",")) {
+                String trimmed = field.trim();
+                if (!trimmed.isEmpty()) {
+                    fields.add(trimmed);
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Use the type declared by {@link SelectableFields}, otherwise the first type in the
+     * handler's generic return type that carries the selection filter
+     */
+    private Optional<Class<?>> findFilterableType(HandlerMethod handlerMethod) {
+        SelectableFields declared = handlerMethod.getMethodAnnotation(SelectableFields.class);
+        if (declared != null) {
+            return Optional.of(declared.value());
+        }
+        return Optional.ofNullable(findFilterableType(ResolvableType.forMethodReturnType(handlerMethod.getMethod())));
+    }
+
+    private Class<?> findFilterableType(ResolvableType type) {
+        Class<?> resolved = type.resolve();
+        if (resolved != null) {
+            JsonFilter filter = resolved.getAnnotation(JsonFilter.class);
+            if (filter != null && FILTER_ID.equals(filter.value())) {
+                return resolved;
+            }
+        }
+        for (ResolvableType generic : type.getGenerics()) {
+            Class<?> found = findFilterableType(generic);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private Set<String> jsonProperties(Class<?> dtoType) {
+        BeanDescription description = objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(dtoType));
+        Set<String> names = new LinkedHashSet<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (property.couldSerialize()) {
+                names.add(property.getName());
+            }
+        }
+        return names;
+    }
+}
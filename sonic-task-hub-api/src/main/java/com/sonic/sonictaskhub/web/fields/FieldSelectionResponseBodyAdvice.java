@@ -0,0 +1,47 @@
+package com.sonic.sonictaskhub.web.fields;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.sonic.sonictaskhub.service.support.FieldSelection;
+
+/**
+ * Applies the selection validated by {@link FieldSelectionInterceptor} when
+ * the response body is written, so only the requested DTO properties are serialized.
+ */
+@ControllerAdvice
+public class FieldSelectionResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        Object selection = servletRequest.getServletRequest()
+                .getAttribute(FieldSelectionInterceptor.SELECTION_ATTRIBUTE);
+        if (selection instanceof FieldSelection fieldSelection && !fieldSelection.isAll()) {
+            bodyContainer.setFilters(filtersFor(fieldSelection));
+        }
+    }
+
+    /**
+     * Filters that write only the selected properties of filtered DTOs
+     */
+    public static FilterProvider filtersFor(FieldSelection selection) {
+        return new SimpleFilterProvider()
+                .addFilter(FieldSelectionInterceptor.FILTER_ID,
+                        SimpleBeanPropertyFilter.filterOutAllExcept(selection.getFields()))
+                .setFailOnUnknownId(false);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sonic.sonictaskhub.web.fields;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the DTO written by a handler whose return type does not name it,
+ * such as a streaming endpoint, so that {@code ?fields=} can be validated.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SelectableFields {
+
+    /**
+     * DTO type the handler writes
+     */
+    Class<?> value();
+}
@@ -0,0 +1,259 @@
+package com.sonic.sonictaskhub.web.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sonic.sonictaskhub.model.response.BaseResponse;
+import com.sonic.sonictaskhub.service.idempotency.IdempotencyStore;
+import com.sonic.sonictaskhub.service.idempotency.IdempotencyStore.StoredResponse;
+import com.sonic.sonictaskhub.web.auth.SessionTokenFilter;
+import com.sonic.sonictaskhub.web.support.RequestPaths;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Makes POST requests carrying an {@code Idempotency-Key} header safe to retry.
+ *
+ * The first request with a key runs normally and its successful response is
+ * stored; retries with the same key and body get that response replayed
+ * without reaching the controller. A retry that arrives while the first
+ * request is still running waits for its result. Reusing a key with a
+ * different body is rejected with 422. Bodies larger than
+ * {@code max-request-bytes} are rejected with 413 before they are buffered
+ * for hashing. Keys are scoped to the normalized request path, so every
+ * spelling of an endpoint shares them. Failed responses, including
+ * {@code BaseResponse} errors sent with status 200, are not stored, so the
+ * client can retry them.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Duration waitTimeout;
+    private final int maxRequestBytes;
+    private final int maxResponseBytes;
+    private final List<String> excludedPaths;
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter rejected;
+
+    @Autowired
+    public IdempotencyFilter(IdempotencyStore store,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${sonic.idempotency.wait-timeout:10s}") Duration waitTimeout,
+                             @Value("${sonic.idempotency.max-request-bytes:65536}") int maxRequestBytes,
+                             @Value("${sonic.idempotency.max-response-bytes:65536}") int maxResponseBytes,
+                             @Value("${sonic.idempotency.excluded-paths:/api/users/login,/api/users/register}") List<String> excludedPaths) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.waitTimeout = waitTimeout;
+        this.maxRequestBytes = maxRequestBytes;
+        this.maxResponseBytes = maxResponseBytes;
+        this.excludedPaths = excludedPaths;
+        this.executed = outcomeCounter(meterRegistry, "executed");
+        this.replayed = outcomeCounter(meterRegistry, "replayed");
+        this.rejected = outcomeCounter(meterRegistry, "rejected");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = RequestPaths.lookupPath(request);
+        return !path.startsWith("/api/") || excludedPaths.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            rejected.increment();
+            writeError(response, HttpStatus.BAD_REQUEST, "Idempotency-Key must be 1 to "
+                    + MAX_KEY_LENGTH + " characters", "INVALID_IDEMPOTENCY_KEY");
+            return;
+        }
+
+        if (request.getContentLengthLong() > maxRequestBytes) {
+            rejected.increment();
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body is too large", "PAYLOAD_TOO_LARGE");
+            return;
+        }
+        // Chunked bodies have no declared length, so read at most one byte past the limit
+        byte[] body = request.getInputStream().readNBytes(maxRequestBytes + 1);
+        if (body.length > maxRequestBytes) {
+            rejected.increment();
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body is too large", "PAYLOAD_TOO_LARGE");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+        // Keys are scoped to the endpoint and the authenticated user, so a stored response
+        // is never replayed to another user before the ownership check can run
+        Object userId = request.getAttribute(SessionTokenFilter.USER_ID_ATTRIBUTE);
+        String key = RequestPaths.lookupPath(request) + " " + userId + " " + idempotencyKey;
+        String requestHash = hash(request.getQueryString(), cachedRequest.getBody());
+
+        while (true) {
+            Optional<StoredResponse> stored = store.find(key);
+            if (stored.isPresent()) {
+                replay(stored.get(), requestHash, response);
+                return;
+            }
+
+            CompletableFuture<StoredResponse> claim = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, claim);
+            if (running == null) {
+                execute(key, requestHash, cachedRequest, response, chain, claim);
+                return;
+            }
+
+            StoredResponse result;
+            try {
+                result = running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                rejected.increment();
+                writeError(response, HttpStatus.CONFLICT,
+                        "A request with this Idempotency-Key is still being processed", "IDEMPOTENCY_KEY_IN_USE");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            } catch (ExecutionException e) {
+                result = null;
+            }
+            if (result != null) {
+                replay(result, requestHash, response);
+                return;
+            }
+            // The first request was not stored (it failed), so this one may run it again
+        }
+    }
+
+    private void execute(String key, String requestHash, CachedBodyRequest request, HttpServletResponse response,
+                         FilterChain chain, CompletableFuture<StoredResponse> claim)
+            throws ServletException, IOException {
+        StoredResponse result = null;
+        try {
+            // Another request may have finished between the lookup and the claim
+            Optional<StoredResponse> stored = store.find(key);
+            if (stored.isPresent()) {
+                result = stored.get();
+                replay(result, requestHash, response);
+                return;
+            }
+
+            executed.increment();
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            chain.doFilter(request, wrapper);
+
+            byte[] body = wrapper.getContentAsByteArray();
+            int status = wrapper.getStatus();
+            if (status >= 200 && status < 300 && body.length <= maxResponseBytes && !request.isAsyncStarted()
+                    && !isErrorEnvelope(wrapper.getContentType(), body)) {
+                result = store.save(key, requestHash, status, wrapper.getContentType(), body);
+            }
+            wrapper.copyBodyToResponse();
+        } finally {
+            inFlight.remove(key, claim);
+            claim.complete(result);
+        }
+    }
+
+    private void replay(StoredResponse stored, String requestHash, HttpServletResponse response) throws IOException {
+        if (!stored.requestHash().equals(requestHash)) {
+            rejected.increment();
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key was already used for a different request", "IDEMPOTENCY_KEY_MISMATCH");
+            return;
+        }
+        replayed.increment();
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    /**
+     * Controllers report most failures as {@code 200} with {@code "success": false}; those must stay retryable
+     */
+    private boolean isErrorEnvelope(String contentType, byte[] body) {
+        if (contentType == null || !MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            return false;
+        }
+        try {
+            JsonNode success = objectMapper.readTree(body).get("success");
+            return success != null && success.isBoolean() && !success.booleanValue();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message, String errorCode)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), BaseResponse.error(message, errorCode));
+    }
+
+    private static String hash(String queryString, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (queryString != null) {
+                digest.update(queryString.getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 0);
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("sonic.idempotency.requests")
+                .description("Requests carrying an Idempotency-Key, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
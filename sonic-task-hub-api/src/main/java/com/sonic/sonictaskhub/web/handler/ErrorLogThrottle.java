@@ -0,0 +1,57 @@
+package com.sonic.sonictaskhub.web.handler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits how many errors with the same key are logged per time window.
+ *
+ * A client probing random ids can trigger thousands of identical failures a
+ * second; only the first few per window are logged, and the next logged one
+ * reports how many were skipped in between.
+ */
+final class ErrorLogThrottle {
+
+    private static final int MAX_KEYS = 1024;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final int perWindow;
+
+    ErrorLogThrottle(long windowNanos, int perWindow) {
+        this.windowNanos = windowNanos;
+        this.perWindow = perWindow;
+    }
+
+    /**
+     * @return -1 if this error should not be logged, otherwise how many errors with the key were skipped since the last logged one
+     */
+    long acquire(String key) {
+        Window window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= MAX_KEYS) {
+                windows.clear();
+            }
+            window = windows.computeIfAbsent(key, k -> new Window());
+        }
+
+        long now = System.nanoTime();
+        long start = window.start.get();
+        if (now - start >= windowNanos && window.start.compareAndSet(start, now)) {
+            window.logged.set(0);
+        }
+        if (window.logged.incrementAndGet() > perWindow) {
+            window.skipped.incrementAndGet();
+            return -1;
+        }
+        return window.skipped.getAndSet(0);
+    }
+
+    private static final class Window {
+        private final AtomicLong start = new AtomicLong(System.nanoTime());
+        private final AtomicInteger logged = new AtomicInteger();
+        private final AtomicLong skipped = new AtomicLong();
+    }
+}
@@ -1,28 +1,51 @@
 package com.sonic.sonictaskhub.web.handler;
 
+import java.time.Duration;
+
 import com.sonic.sonictaskhub.model.response.BaseResponse;
+import com.sonic.sonictaskhub.service.exception.TooManyRequestsException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Maps exceptions to error responses with a matching HTTP status.
+ *
+ * Logging is rate-limited per error code (or exception type), so a burst of
+ * identical failures produces a few log lines and a count of the rest. Every
+ * error is counted in {@code sonic.errors}.
+ */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final ErrorLogThrottle logThrottle;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(@Value("${sonic.errors.log-window:1m}") Duration logWindow,
+                                  @Value("${sonic.errors.logs-per-window:5}") int logsPerWindow) {
+        this.logThrottle = new ErrorLogThrottle(logWindow.toNanos(), logsPerWindow);
+    }
+
     /**
      * Handle generic runtime exceptions
      */
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<BaseResponse<Object>> handleRuntimeException(RuntimeException ex, WebRequest request) {
-        logger.error("Runtime exception occurred: {}", ex.getMessage(), ex);
-        
-        BaseResponse<Object> response = BaseResponse.error(ex.getMessage(), "RUNTIME_ERROR");
-        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+        return errorResponse(ex, ex.getMessage(), "RUNTIME_ERROR", HttpStatus.BAD_REQUEST, true);
     }
 
     /**
@@ -30,10 +53,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<BaseResponse<Object>> handleIllegalArgumentException(IllegalArgumentException ex, WebRequest request) {
-        logger.error("Illegal argument exception: {}", ex.getMessage(), ex);
-        
-        BaseResponse<Object> response = BaseResponse.error(ex.getMessage(), "INVALID_ARGUMENT");
-        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+        return errorResponse(ex, ex.getMessage(), "INVALID_ARGUMENT", HttpStatus.BAD_REQUEST, false);
     }
 
     /**
@@ -41,10 +61,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(NullPointerException.class)
     public ResponseEntity<BaseResponse<Object>> handleNullPointerException(NullPointerException ex, WebRequest request) {
-        logger.error("Null pointer exception occurred: {}", ex.getMessage(), ex);
-        
-        BaseResponse<Object> response = BaseResponse.error("An unexpected error occurred", "NULL_POINTER_ERROR");
-        return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        return errorResponse(ex, "An unexpected error occurred", "NULL_POINTER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR, true);
     }
 
     /**
@@ -52,10 +69,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(SecurityException.class)
     public ResponseEntity<BaseResponse<Object>> handleSecurityException(SecurityException ex, WebRequest request) {
-        logger.error("Security exception: {}", ex.getMessage(), ex);
-        
-        BaseResponse<Object> response = BaseResponse.error(ex.getMessage(), "SECURITY_ERROR");
-        return new ResponseEntity<>(response, HttpStatus.UNAUTHORIZED);
+        return errorResponse(ex, ex.getMessage(), "SECURITY_ERROR", HttpStatus.UNAUTHORIZED, false);
     }
 
     /**
@@ -63,21 +77,50 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<BaseResponse<Object>> handleGenericException(Exception ex, WebRequest request) {
-        logger.error("Unexpected exception occurred: {}", ex.getMessage(), ex);
-        
-        BaseResponse<Object> response = BaseResponse.error("An unexpected error occurred", "INTERNAL_ERROR");
-        return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        return errorResponse(ex, "An unexpected error occurred", "INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR, true);
     }
 
     /**
-     * Handle custom business logic exceptions
+     * Handle rate-limit rejections, telling the client when to retry
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<BaseResponse<Object>> handleTooManyRequestsException(TooManyRequestsException ex, WebRequest request) {
+        ResponseEntity<BaseResponse<Object>> error = errorResponse(ex, ex.getMessage(), ex.getErrorCode(), ex.getHttpStatus(), false);
+        return ResponseEntity.status(error.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error.getBody());
+    }
+
+    /**
+     * Handle custom business logic exceptions, including the domain exceptions thrown by services
      */
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<BaseResponse<Object>> handleBusinessException(BusinessException ex, WebRequest request) {
-        logger.warn("Business exception: {}", ex.getMessage());
-        
-        BaseResponse<Object> response = BaseResponse.error(ex.getMessage(), ex.getErrorCode());
-        return new ResponseEntity<>(response, ex.getHttpStatus());
+        return errorResponse(ex, ex.getMessage(), ex.getErrorCode(), ex.getHttpStatus(), false);
+    }
+
+    private ResponseEntity<BaseResponse<Object>> errorResponse(Exception ex, String message, String errorCode,
+                                                               HttpStatus status, boolean unexpected) {
+        Counter.builder("sonic.errors")
+                .description("Error responses by error code")
+                .tag("code", errorCode)
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry)
+                .increment();
+
+        // Unexpected failures are throttled per exception type so distinct bugs stay visible
+        String throttleKey = unexpected ? ex.getClass().getName() : errorCode;
+        long skipped = logThrottle.acquire(throttleKey);
+        if (skipped >= 0) {
+            String suffix = skipped > 0 ? " (" + skipped + " similar errors not logged)" : "";
+            if (unexpected) {
+                logger.error("Unexpected {} [{}]: {}{}", ex.getClass().getSimpleName(), errorCode, ex.getMessage(), suffix, ex);
+            } else {
+                logger.warn("Request failed [{}] {}: {}{}", errorCode, status.value(), ex.getMessage(), suffix);
+            }
+        }
+
+        return new ResponseEntity<>(BaseResponse.error(message, errorCode), status);
     }
 
     /**
@@ -96,7 +139,14 @@ public class GlobalExceptionHandler {
         }
 
         public BusinessException(String message, String errorCode, HttpStatus httpStatus) {
-            super(message);
+            this(message, errorCode, httpStatus, true);
+        }
+
+        /**
+         * @param writableStackTrace false for expected failures, which then skip capturing a stack trace
+         */
+        protected BusinessException(String message, String errorCode, HttpStatus httpStatus, boolean writableStackTrace) {
+            super(message, null, writableStackTrace, writableStackTrace);
             this.errorCode = errorCode;
             this.httpStatus = httpStatus;
         }
@@ -109,4 +159,4 @@ public class GlobalExceptionHandler {
             return httpStatus;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package com.sonic.sonictaskhub.web.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.sonic.sonictaskhub.web.metrics.LayerTimings.Layer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Times each controller call by layer and records the split as
+ * {@code sonic.request.layer} timers tagged with the handler and layer.
+ *
+ * Percentiles, histogram buckets and SLO boundaries for these timers are set
+ * through {@code management.metrics.distribution.*}. Handlers that continue
+ * asynchronously (streams) are not broken down, since their work happens on
+ * other threads.
+ */
+@Component
+public class LatencyBreakdownInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String TIMINGS_ATTRIBUTE = LatencyBreakdownInterceptor.class.getName() + ".timings";
+    private static final String PREVIOUS_ATTRIBUTE = LatencyBreakdownInterceptor.class.getName() + ".previous";
+
+    private final Map<HandlerMethod, Timer[]> timers = new ConcurrentHashMap<>();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            LayerTimings timings = new LayerTimings();
+            // Batch sub-requests are dispatched from inside another request on the same thread
+            request.setAttribute(PREVIOUS_ATTRIBUTE, LayerTimings.current());
+            request.setAttribute(TIMINGS_ATTRIBUTE, timings);
+            LayerTimings.bind(timings);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object timings = request.getAttribute(TIMINGS_ATTRIBUTE);
+        if (timings instanceof LayerTimings layerTimings && handler instanceof HandlerMethod handlerMethod) {
+            long[] nanos = layerTimings.finish();
+            Timer[] layerTimers = timers.computeIfAbsent(handlerMethod, this::registerTimers);
+            for (Layer layer : Layer.values()) {
+                layerTimers[layer.ordinal()].record(nanos[layer.ordinal()], TimeUnit.NANOSECONDS);
+            }
+        }
+        restorePrevious(request);
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        restorePrevious(request);
+    }
+
+    private void restorePrevious(HttpServletRequest request) {
+        if (request.getAttribute(TIMINGS_ATTRIBUTE) != null) {
+            LayerTimings.bind((LayerTimings) request.getAttribute(PREVIOUS_ATTRIBUTE));
+            request.removeAttribute(TIMINGS_ATTRIBUTE);
+            request.removeAttribute(PREVIOUS_ATTRIBUTE);
+        }
+    }
+
+    private Timer[] registerTimers(HandlerMethod handlerMethod) {
+        String handler = HandlerObservationConvention.handlerName(handlerMethod);
+        Timer[] layerTimers = new Timer[Layer.values().length];
+        for (Layer layer : Layer.values()) {
+            layerTimers[layer.ordinal()] = Timer.builder("sonic.request.layer")
+                    .description("Time a request spent in each layer")
+                    .tag("handler", handler)
+                    .tag("layer", layer.getDisplayName())
+                    .register(meterRegistry);
+        }
+        return layerTimers;
+    }
+}
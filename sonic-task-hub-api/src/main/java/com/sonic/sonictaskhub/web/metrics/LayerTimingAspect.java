@@ -0,0 +1,41 @@
+package com.sonic.sonictaskhub.web.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import com.sonic.sonictaskhub.web.metrics.LayerTimings.Layer;
+
+/**
+ * Moves the request clock into the service layer for calls on {@code @Service}
+ * beans and into the repository layer for calls on Spring Data repositories.
+ * Calls outside a timed request run unchanged.
+ */
+@Aspect
+@Component
+public class LayerTimingAspect {
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceedIn(Layer.SERVICE, joinPoint);
+    }
+
+    @Around("execution(* com.sonic.sonictaskhub.repository..*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceedIn(Layer.REPOSITORY, joinPoint);
+    }
+
+    private static Object proceedIn(Layer layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        LayerTimings timings = LayerTimings.current();
+        if (timings == null) {
+            return joinPoint.proceed();
+        }
+        Layer previous = timings.switchTo(layer);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timings.switchTo(previous);
+        }
+    }
+}
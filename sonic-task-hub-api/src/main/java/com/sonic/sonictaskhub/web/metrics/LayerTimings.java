@@ -0,0 +1,75 @@
+package com.sonic.sonictaskhub.web.metrics;
+
+/**
+ * Wall-clock time of one request split by the layer that was running.
+ *
+ * Bound to the handling thread by {@link LatencyBreakdownInterceptor}. Time
+ * is charged to exactly one layer at a time: entering a service method moves
+ * the clock from the handler to the service layer, a repository call inside
+ * it moves the clock on to the repository layer, and returning moves it
+ * back. The layers therefore add up to the request's total.
+ */
+public final class LayerTimings {
+
+    public enum Layer {
+        HANDLER("handler"),
+        SERVICE("service"),
+        REPOSITORY("repository"),
+        SERIALIZATION("serialization");
+
+        private final String displayName;
+
+        Layer(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    private static final ThreadLocal<LayerTimings> CURRENT = new ThreadLocal<>();
+
+    private final long[] nanos = new long[Layer.values().length];
+    private Layer layer = Layer.HANDLER;
+    private long mark = System.nanoTime();
+
+    /**
+     * Timings bound to the current thread, or null outside a timed request
+     */
+    public static LayerTimings current() {
+        return CURRENT.get();
+    }
+
+    static void bind(LayerTimings timings) {
+        if (timings == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(timings);
+        }
+    }
+
+    /**
+     * Charge time from now on to the given layer
+     *
+     * @return the layer that was running, to pass back when the call returns
+     */
+    public Layer switchTo(Layer next) {
+        long now = System.nanoTime();
+        nanos[layer.ordinal()] += now - mark;
+        mark = now;
+        Layer previous = layer;
+        layer = next;
+        return previous;
+    }
+
+    /**
+     * Stop the clock
+     *
+     * @return nanoseconds spent in each layer, indexed by ordinal
+     */
+    long[] finish() {
+        switchTo(layer);
+        return nanos;
+    }
+}
@@ -0,0 +1,39 @@
+package com.sonic.sonictaskhub.web.metrics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.sonic.sonictaskhub.web.metrics.LayerTimings.Layer;
+
+/**
+ * Moves the request clock into the serialization layer just before the
+ * message converter writes the body. The layer lasts until the request
+ * completes, which for response bodies is right after the write.
+ */
+@ControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class SerializationTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        LayerTimings timings = LayerTimings.current();
+        if (timings != null) {
+            timings.switchTo(Layer.SERIALIZATION);
+        }
+        return body;
+    }
+}
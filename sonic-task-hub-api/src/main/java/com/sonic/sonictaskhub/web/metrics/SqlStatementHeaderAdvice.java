@@ -0,0 +1,45 @@
+package com.sonic.sonictaskhub.web.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Reports the request's SQL counts in response headers when
+ * {@code sonic.sql-stats.response-header} is on (meant for development), so
+ * a query explosion shows up in the browser's network tab and in integration
+ * tests that assert a maximum statement count per endpoint.
+ */
+@ControllerAdvice
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ENTITIES_HEADER = "X-Sql-Entities";
+    public static final String MAX_REPEATS_HEADER = "X-Sql-Max-Repeats";
+
+    @Value("${sonic.sql-stats.response-header:false}")
+    private boolean enabled;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+            response.getHeaders().set(ENTITIES_HEADER, String.valueOf(stats.getEntitiesLoaded()));
+            response.getHeaders().set(MAX_REPEATS_HEADER, String.valueOf(stats.getMaxRepeats()));
+        }
+        return body;
+    }
+}
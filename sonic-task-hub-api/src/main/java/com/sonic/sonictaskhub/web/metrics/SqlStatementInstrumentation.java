@@ -0,0 +1,30 @@
+package com.sonic.sonictaskhub.web.metrics;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate hooks that feed the current request's {@link SqlStatementStats}:
+ * every SQL statement Hibernate prepares passes the statement inspector, and
+ * every entity it materializes fires the post-load event.
+ */
+public class SqlStatementInstrumentation implements StatementInspector, PostLoadEventListener {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.onStatement(sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.onEntityLoaded();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.sonic.sonictaskhub.web.metrics;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Counts the SQL statements and loaded entities of each controller call.
+ *
+ * Recorded per handler as {@code sonic.sql.statements} and
+ * {@code sonic.sql.entities}. A request in which one statement ran at least
+ * {@code sonic.sql-stats.repeat-threshold} times is counted in
+ * {@code sonic.sql.suspected.n.plus.one} and logged once per handler and
+ * statement.
+ */
+@Component
+public class SqlStatementInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementInterceptor.class);
+
+    private static final String STATS_ATTRIBUTE = SqlStatementInterceptor.class.getName() + ".stats";
+    private static final String PREVIOUS_ATTRIBUTE = SqlStatementInterceptor.class.getName() + ".previous";
+
+    private static final int MAX_REPORTED = 1000;
+
+    private final Map<HandlerMethod, HandlerMeters> meters = new ConcurrentHashMap<>();
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${sonic.sql-stats.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            SqlStatementStats stats = new SqlStatementStats();
+            request.setAttribute(PREVIOUS_ATTRIBUTE, SqlStatementStats.current());
+            request.setAttribute(STATS_ATTRIBUTE, stats);
+            SqlStatementStats.bind(stats);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object stats = request.getAttribute(STATS_ATTRIBUTE);
+        if (stats instanceof SqlStatementStats sqlStats && handler instanceof HandlerMethod handlerMethod) {
+            record(handlerMethod, sqlStats);
+        }
+        restorePrevious(request);
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        restorePrevious(request);
+    }
+
+    private void record(HandlerMethod handlerMethod, SqlStatementStats stats) {
+        HandlerMeters handlerMeters = meters.computeIfAbsent(handlerMethod, this::registerMeters);
+        handlerMeters.statements.record(stats.getStatements());
+        handlerMeters.entities.record(stats.getEntitiesLoaded());
+
+        if (stats.getMaxRepeats() >= repeatThreshold) {
+            handlerMeters.suspectedNPlusOne.increment();
+            String handler = HandlerObservationConvention.handlerName(handlerMethod);
+            if (reported.size() < MAX_REPORTED && reported.add(handler + " " + stats.getMostRepeated())) {
+                logger.warn("Possible N+1 query in {}: statement ran {} times ({} statements in request): {}",
+                        handler, stats.getMaxRepeats(), stats.getStatements(), stats.getMostRepeated());
+            }
+        }
+    }
+
+    private void restorePrevious(HttpServletRequest request) {
+        if (request.getAttribute(STATS_ATTRIBUTE) != null) {
+            SqlStatementStats.bind((SqlStatementStats) request.getAttribute(PREVIOUS_ATTRIBUTE));
+            request.removeAttribute(STATS_ATTRIBUTE);
+            request.removeAttribute(PREVIOUS_ATTRIBUTE);
+        }
+    }
+
+    private HandlerMeters registerMeters(HandlerMethod handlerMethod) {
+        String handler = HandlerObservationConvention.handlerName(handlerMethod);
+        return new HandlerMeters(
+                DistributionSummary.builder("sonic.sql.statements")
+                        .description("SQL statements executed per request")
+                        .tag("handler", handler)
+                        .register(meterRegistry),
+                DistributionSummary.builder("sonic.sql.entities")
+                        .description("Entities loaded per request")
+                        .tag("handler", handler)
+                        .register(meterRegistry),
+                Counter.builder("sonic.sql.suspected.n.plus.one")
+                        .description("Requests in which one statement repeated often enough to suggest an N+1 query")
+                        .tag("handler", handler)
+                        .register(meterRegistry));
+    }
+
+    private record HandlerMeters(DistributionSummary statements, DistributionSummary entities,
+                                 Counter suspectedNPlusOne) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.sonic.sonictaskhub.web.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL work done while handling one request.
+ *
+ * Bound to the handling thread by {@link SqlStatementInterceptor} and fed by
+ * {@link SqlStatementInstrumentation}. Statements are also counted by their
+ * SQL text: the same statement running once per row of an earlier result is
+ * the signature of an N+1 query, so the most repeated statement is tracked.
+ */
+public final class SqlStatementStats {
+
+    /**
+     * Distinct statements tracked per request; further ones are only counted
+     */
+    private static final int MAX_TRACKED_STATEMENTS = 256;
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> executions = new HashMap<>();
+    private int statements;
+    private int entitiesLoaded;
+    private int maxRepeats;
+    private String mostRepeated;
+
+    /**
+     * Stats bound to the current thread, or null outside an instrumented request
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    static void bind(SqlStatementStats stats) {
+        if (stats == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(stats);
+        }
+    }
+
+    void onStatement(String sql) {
+        statements++;
+        Integer count = executions.get(sql);
+        if (count == null && executions.size() >= MAX_TRACKED_STATEMENTS) {
+            return;
+        }
+        int repeats = count == null ? 1 : count + 1;
+        executions.put(sql, repeats);
+        if (repeats > maxRepeats) {
+            maxRepeats = repeats;
+            mostRepeated = sql;
+        }
+    }
+
+    void onEntityLoaded() {
+        entitiesLoaded++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    /**
+     * How often the most repeated statement ran
+     */
+    public int getMaxRepeats() {
+        return maxRepeats;
+    }
+
+    public String getMostRepeated() {
+        return mostRepeated;
+    }
+}
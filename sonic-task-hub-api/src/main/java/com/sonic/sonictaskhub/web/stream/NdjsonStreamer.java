@@ -0,0 +1,85 @@
+package com.sonic.sonictaskhub.web.stream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sonic.sonictaskhub.service.support.FieldSelection;
+import com.sonic.sonictaskhub.web.fields.FieldSelectionResponseBodyAdvice;
+
+/**
+ * Writes rows as newline-delimited JSON ({@code application/x-ndjson}) while
+ * they are produced, so neither the full result nor its serialized form is
+ * held in memory.
+ *
+ * The body is written on the MVC async executor; the request's field
+ * selection is carried over to that thread.
+ */
+@Component
+public class NdjsonStreamer {
+
+    private static final Logger logger = LoggerFactory.getLogger(NdjsonStreamer.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Build a streaming response whose rows are pushed by the producer
+     *
+     * @param producer called on the async thread with a sink that writes one line per row
+     * @return response writing rows as they are produced
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(Consumer<Consumer<T>> producer) {
+        FieldSelection selection = FieldSelection.current();
+        ObjectWriter writer = (selection.isAll()
+                ? objectMapper.writer()
+                : objectMapper.writer(FieldSelectionResponseBodyAdvice.filtersFor(selection)))
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = out -> {
+            FieldSelection previous = FieldSelection.current();
+            FieldSelection.bind(selection);
+            long[] rows = {0};
+            try (JsonGenerator generator = writer.createGenerator(out)) {
+                // Rows are separated by the newline written after each one
+                generator.setRootValueSeparator(null);
+                producer.accept(row -> {
+                    try {
+                        writer.writeValue(generator, row);
+                        generator.writeRaw('\n');
+                        // Push the first row out immediately; later rows flush as buffers fill
+                        if (rows[0]++ == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                logger.debug("NDJSON stream aborted after {} rows: {}", rows[0], e.getMessage());
+                throw e.getCause();
+            } finally {
+                FieldSelection.bind(previous);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+}
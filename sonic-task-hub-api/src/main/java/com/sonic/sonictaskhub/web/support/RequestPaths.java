@@ -0,0 +1,82 @@
+package com.sonic.sonictaskhub.web.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import org.springframework.web.util.UrlPathHelper;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Request paths as the dispatcher routes them.
+ *
+ * The raw request URI can spell one endpoint many ways ({@code /%61pi/...},
+ * {@code //api/...}, {@code /api/stream/../tasks/...}, path parameters), so
+ * filters that decide by path must use {@link #lookupPath} instead: decoded,
+ * without path parameters, empty or dot segments. Prefixes are compared on
+ * whole segments with {@link #isWithin}.
+ */
+public final class RequestPaths {
+
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    static {
+        PATH_HELPER.setAlwaysUseFullPath(true);
+    }
+
+    private RequestPaths() {
+    }
+
+    /**
+     * The normalized path of the request within the application
+     */
+    public static String lookupPath(HttpServletRequest request) {
+        // Decoded and without path parameters; only dot and empty segments are left to resolve
+        return resolveSegments(PATH_HELPER.getLookupPathForRequest(request));
+    }
+
+    /**
+     * Normalize a path given as a string, such as the path of a batch entry; the query is ignored
+     */
+    public static String normalize(String path) {
+        String raw = UriComponentsBuilder.fromUriString(path).build().getPath();
+        if (raw == null) {
+            return null;
+        }
+        StringBuilder withoutParameters = new StringBuilder();
+        for (String segment : raw.split("/", -1)) {
+            int semicolon = segment.indexOf(';');
+            withoutParameters.append(semicolon >= 0 ? segment.substring(0, semicolon) : segment).append('/');
+        }
+        // Decode before splitting so that encoded separators and dots are resolved too
+        return resolveSegments(UriUtils.decode(withoutParameters.toString(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Whether a normalized path is {@code prefix} itself or lies below it; a trailing slash on the prefix is ignored
+     */
+    public static boolean isWithin(String path, String prefix) {
+        String base = prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) : prefix;
+        return path.equals(base) || path.startsWith(base + "/");
+    }
+
+    private static String resolveSegments(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty() || ".".equals(segment)) {
+                continue;
+            }
+            if ("..".equals(segment)) {
+                if (!segments.isEmpty()) {
+                    segments.remove(segments.size() - 1);
+                }
+                continue;
+            }
+            segments.add(segment);
+        }
+        return "/" + String.join("/", segments);
+    }
+}
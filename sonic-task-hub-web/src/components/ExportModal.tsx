@@ -1,15 +1,30 @@
 import React, { useState } from 'react';
 import { X, Download, FileText, Table, Filter, Sparkles } from 'lucide-react';
-import { Item, ItemFilters, ItemType, ItemStatus, Priority } from '../types';
-import { itemApi, apiHelpers } from '../services/api';
+import { TaskFilters, ExportEntityType, ExportParams } from '../types';
+import { exportApi, apiHelpers } from '../services/api';
 import toast from 'react-hot-toast';
 
 interface ExportModalProps {
   userId: number;
-  filters: ItemFilters;
+  filters: TaskFilters;
   onClose: () => void;
 }
 
+const ENTITY_TYPES: { value: ExportEntityType; label: string }[] = [
+  { value: 'task', label: 'Tasks' },
+  { value: 'note', label: 'Notes' },
+  { value: 'habit', label: 'Habits' },
+  { value: 'event', label: 'Events' }
+];
+
+const DAY_MS = 24 * 60 * 60 * 1000;
+
+// Backend expects ISO local date-times without a zone suffix
+const toLocalDateTime = (date: Date): string => {
+  const offset = date.getTimezoneOffset() * 60 * 1000;
+  return new Date(date.getTime() - offset).toISOString().slice(0, 19);
+};
+
 export const ExportModal: React.FC<ExportModalProps> = ({
   userId,
   filters,
@@ -17,6 +32,7 @@ export const ExportModal: React.FC<ExportModalProps> = ({
 }) => {
   const [loading, setLoading] = useState(false);
   const [exportFormat, setExportFormat] = useState<'csv' | 'json'>('csv');
+  const [entityTypes, setEntityTypes] = useState<ExportEntityType[]>(ENTITY_TYPES.map(type => type.value));
   const [includeCompleted, setIncludeCompleted] = useState(true);
   const [includeSnoozed, setIncludeSnoozed] = useState(true);
   const [includeSubtasks, setIncludeSubtasks] = useState(true);
@@ -24,109 +40,74 @@ export const ExportModal: React.FC<ExportModalProps> = ({
   const [customStartDate, setCustomStartDate] = useState('');
   const [customEndDate, setCustomEndDate] = useState('');
 
-  const handleExport = async () => {
-    try {
-      setLoading(true);
+  const toggleEntityType = (type: ExportEntityType, checked: boolean) => {
+    setEntityTypes(prev => checked ? [...prev, type] : prev.filter(t => t !== type));
+  };
 
-      const exportFilters: ItemFilters = {
-        ...filters,
-        page: 0,
-        size: 10000,
+  const resolveDateRange = (): { from?: string; to?: string } => {
+    const now = new Date();
+    if (dateRange === 'week') {
+      return { from: toLocalDateTime(new Date(now.getTime() - 7 * DAY_MS)) };
+    }
+    if (dateRange === 'month') {
+      return { from: toLocalDateTime(new Date(now.getTime() - 30 * DAY_MS)) };
+    }
+    if (dateRange === 'custom' && customStartDate && customEndDate) {
+      // The end date is inclusive, so export up to the start of the following day
+      const end = new Date(`${customEndDate}T00:00:00`);
+      return {
+        from: `${customStartDate}T00:00:00`,
+        to: toLocalDateTime(new Date(end.getTime() + DAY_MS))
       };
+    }
+    return {};
+  };
 
-      const response = await itemApi.getWithFilters(userId, exportFilters);
-      
-      if (!response.data.success || !response.data.data) {
-        throw new Error('Failed to fetch items for export');
-      }
-
-      let items = response.data.data.content;
-
-      // Client-side filtering
-      if (!includeCompleted) {
-        items = items.filter(item => item.status !== ItemStatus.COMPLETED);
-      }
-      
-      if (!includeSnoozed) {
-        items = items.filter(item => item.status !== ItemStatus.SNOOZED);
-      }
+  const handleExport = async () => {
+    if (entityTypes.length === 0) {
+      toast.error('Select at least one type to export');
+      return;
+    }
 
-      if (!includeSubtasks) {
-        items = items.filter(item => !item.parentItemId);
-      }
+    try {
+      setLoading(true);
 
-      // Apply custom date range filter
-      if (dateRange === 'custom' && customStartDate && customEndDate) {
-        const start = new Date(customStartDate);
-        const end = new Date(customEndDate);
-        items = items.filter(item => {
-          const createdAt = new Date(item.createdAt);
-          return createdAt >= start && createdAt <= end;
-        });
-      }
+      // Filtering happens on the server; the response streams straight into a file
+      const params: ExportParams = {
+        format: exportFormat,
+        types: entityTypes,
+        status: filters.status,
+        priority: filters.priority,
+        categoryId: filters.categoryId,
+        search: filters.search,
+        includeCompleted,
+        includeSnoozed,
+        includeSubtasks,
+        ...resolveDateRange()
+      };
 
-      // Generate export data
-      if (exportFormat === 'csv') {
-        exportToCSV(items);
-      } else {
-        exportToJSON(items);
-      }
+      const response = await exportApi.download(userId, params);
+      downloadFile(response.data, `sonic-task-hub-export.${exportFormat}`);
 
-      toast.success(`Exported ${items.length} items successfully!`);
+      toast.success('Export downloaded successfully!');
       onClose();
 
-    } catch (error) {
+    } catch (error: any) {
+      // Error bodies arrive as blobs because the request expects a file
+      if (error.response?.data instanceof Blob) {
+        try {
+          error.response.data = JSON.parse(await error.response.data.text());
+        } catch {
+          // Not JSON; fall back to the generic message
+        }
+      }
       toast.error(apiHelpers.handleApiError(error));
     } finally {
       setLoading(false);
     }
   };
 
-  const exportToCSV = (items: Item[]) => {
-    const headers = [
-      'ID', 'Title', 'Description', 'Type', 'Priority', 'Complexity', 'Status',
-      'Due Date', 'Completed At', 'Category', 'Parent Item', 'Subtask Count',
-      'Estimated Duration', 'Actual Duration', 'Created At', 'Updated At'
-    ];
-
-    const csvContent = [
-      headers.join(','),
-      ...items.map(item => [
-        item.id,
-        `"${(item.title || '').replace(/"/g, '""')}"`,
-        `"${(item.description || '').replace(/"/g, '""')}"`,
-        item.type,
-        item.priority,
-        item.complexity,
-        item.status,
-        item.dueDate ? new Date(item.dueDate).toLocaleDateString() : '',
-        item.completedAt ? new Date(item.completedAt).toLocaleDateString() : '',
-        item.categoryName || '',
-        item.parentItemTitle || '',
-        item.subtaskCount,
-        item.estimatedDuration || '',
-        item.actualDuration || '',
-        new Date(item.createdAt).toLocaleDateString(),
-        new Date(item.updatedAt).toLocaleDateString()
-      ].join(','))
-    ].join('\n');
-
-    downloadFile(csvContent, 'sonic-task-hub-export.csv', 'text/csv');
-  };
-
-  const exportToJSON = (items: Item[]) => {
-    const jsonContent = JSON.stringify({
-      exportDate: new Date().toISOString(),
-      totalItems: items.length,
-      filters: filters,
-      items: items
-    }, null, 2);
-
-    downloadFile(jsonContent, 'sonic-task-hub-export.json', 'application/json');
-  };
-
-  const downloadFile = (content: string, filename: string, contentType: string) => {
-    const blob = new Blob([content], { type: contentType });
+  const downloadFile = (blob: Blob, filename: string) => {
     const url = window.URL.createObjectURL(blob);
     const link = document.createElement('a');
     link.href = url;
@@ -270,6 +251,20 @@ export const ExportModal: React.FC<ExportModalProps> = ({
             <label className="block text-sm font-medium text-gray-700 mb-3">
               Include in Export
             </label>
+            <div className="grid grid-cols-2 gap-3 mb-3">
+              {ENTITY_TYPES.map(type => (
+                <label key={type.value} className="flex items-center gap-3">
+                  <input
+                    type="checkbox"
+                    checked={entityTypes.includes(type.value)}
+                    onChange={(e) => toggleEntityType(type.value, e.target.checked)}
+                    className="rounded border-gray-300"
+                    style={{ color: '#483b85' }}
+                  />
+                  <span className="text-sm text-gray-700">{type.label}</span>
+                </label>
+              ))}
+            </div>
             <div className="space-y-3">
               <label className="flex items-center gap-3">
                 <input
@@ -307,7 +302,7 @@ export const ExportModal: React.FC<ExportModalProps> = ({
           </div>
 
           {/* Current Filters Info */}
-          {(filters.type || filters.status || filters.priority || filters.search) && (
+          {(filters.status || filters.priority || filters.search) && (
             <div className="rounded-xl p-4 border"
                  style={{ backgroundColor: '#f8f6ff', borderColor: '#483b85' }}>
               <div className="flex items-center gap-2 font-medium mb-2"
@@ -317,7 +312,6 @@ export const ExportModal: React.FC<ExportModalProps> = ({
               </div>
               <div className="text-xs space-y-1"
                    style={{ color: '#483b85' }}>
-                {filters.type && <div>Type: {filters.type}</div>}
                 {filters.status && <div>Status: {filters.status}</div>}
                 {filters.priority && <div>Priority: {filters.priority}</div>}
                 {filters.search && <div>Search: "{filters.search}"</div>}
@@ -9,7 +9,7 @@ import {
   EVENT_ICONS,
   RECURRING_PATTERN_LABELS
 } from '../types';
-import { eventApi, categoryApi, apiHelpers } from '../services/api';
+import { eventApi, categoryApi, changeFeedApi, apiHelpers } from '../services/api';
 import { EventFormModal } from '../components/EventFormModal';
 import toast from 'react-hot-toast';
 
@@ -42,6 +42,11 @@ export const EventStudio: React.FC<EventStudioProps> = ({ userId }) => {
     loadCategories();
   }, [userId, filters]);
 
+  // Reload when events change in another tab or on another device
+  useEffect(() => {
+    return changeFeedApi.subscribe(userId, ['EVENT'], () => loadEvents());
+  }, [userId, filters]);
+
   const loadEvents = async () => {
     try {
       setLoading(true);
@@ -10,7 +10,7 @@ import {
   HABIT_STATUS_COLORS,
   HABIT_ICONS
 } from '../types';
-import { habitApi, categoryApi, apiHelpers } from '../services/api';
+import { habitApi, categoryApi, changeFeedApi, apiHelpers } from '../services/api';
 import { HabitFormModal } from '../components/HabitFormModal';
 import { HabitProgressModal } from '../components/HabitProgressModal';
 import toast from 'react-hot-toast';
@@ -46,6 +46,11 @@ export const HabitStudio: React.FC<HabitStudioProps> = ({ userId }) => {
     loadCategories();
   }, [userId, filters]);
 
+  // Reload when habits change in another tab or on another device
+  useEffect(() => {
+    return changeFeedApi.subscribe(userId, ['HABIT', 'HABIT_PROGRESS'], () => loadHabits());
+  }, [userId, filters]);
+
   const loadHabits = async () => {
     try {
       setLoading(true);
@@ -12,7 +12,7 @@ import {
   NOTE_STATUS_COLORS,
   NOTE_ICONS
 } from '../types';
-import { noteApi, categoryApi, apiHelpers } from '../services/api';
+import { noteApi, categoryApi, changeFeedApi, apiHelpers } from '../services/api';
 import { NoteFormModal } from '../components/NoteFormModal';
 import toast from 'react-hot-toast';
 
@@ -45,6 +45,11 @@ export const NoteStudio: React.FC<NoteStudioProps> = ({ userId }) => {
     loadCategories();
   }, [userId, filters]);
 
+  // Reload when notes change in another tab or on another device
+  useEffect(() => {
+    return changeFeedApi.subscribe(userId, ['NOTE'], () => loadNotes());
+  }, [userId, filters]);
+
   const loadNotes = async () => {
     try {
       setLoading(true);
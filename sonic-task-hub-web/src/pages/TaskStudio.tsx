@@ -14,7 +14,7 @@ import {
   TASK_STATUS_COLORS,
   TASK_ICONS
 } from '../types';
-import { taskApi, categoryApi, apiHelpers } from '../services/api';
+import { taskApi, categoryApi, changeFeedApi, apiHelpers } from '../services/api';
 import { TaskFormModal } from '../components/TaskFormModal';
 import { SnoozeModal } from '../components/SnoozeModal';
 import toast from 'react-hot-toast';
@@ -51,6 +51,11 @@ export const TaskStudio: React.FC<TaskStudioProps> = ({ userId }) => {
     loadCategories();
   }, [userId, filters]);
 
+  // Reload when tasks change in another tab or on another device
+  useEffect(() => {
+    return changeFeedApi.subscribe(userId, ['TASK'], () => loadTasks());
+  }, [userId, filters]);
+
   const loadTasks = async () => {
     try {
       setLoading(true);
@@ -20,6 +20,9 @@ import {
   HabitFilters,
   NoteFilters,
   EventFilters,
+  ExportParams,
+  ChangeEntityType,
+  ChangeNotification,
   TaskStatus,
   HabitStatus,
   NoteStatus
@@ -35,11 +38,35 @@ const api = axios.create({
   },
 });
 
+// Session token from the stored login, if any
+const sessionToken = (): string | undefined => {
+  try {
+    const stored = localStorage.getItem('user');
+    return stored ? (JSON.parse(stored) as User).token : undefined;
+  } catch {
+    return undefined;
+  }
+};
+
+// Request interceptor to authenticate every call
+api.interceptors.request.use((config) => {
+  const token = sessionToken();
+  if (token) {
+    config.headers.Authorization = `Bearer ${token}`;
+  }
+  return config;
+});
+
 // Response interceptor for error handling
 api.interceptors.response.use(
   (response) => response,
   (error) => {
     console.error('API Error:', error.response?.data || error.message);
+    // The session expired or was revoked; sign in again
+    if (error.response?.status === 401 && sessionToken()) {
+      localStorage.removeItem('user');
+      window.location.assign('/login');
+    }
     return Promise.reject(error);
   }
 );
@@ -65,7 +92,10 @@ export const userApi = {
     api.get('/users/all'),
 
   checkUsername: (username: string): Promise<AxiosResponse<BaseResponse<boolean>>> =>
-    api.get(`/users/check-username?username=${username}`)
+    api.get(`/users/check-username?username=${username}`),
+
+  checkEmail: (email: string): Promise<AxiosResponse<BaseResponse<boolean>>> =>
+    api.get(`/users/check-email?email=${encodeURIComponent(email)}`)
 };
 
 // Category API
@@ -223,8 +253,17 @@ export const eventApi = {
   getInDateRange: (userId: number, startDate: string, endDate: string): Promise<AxiosResponse<BaseResponse<Event[]>>> =>
     api.get(`/events/user/${userId}/range?startDate=${startDate}&endDate=${endDate}`),
 
+  getUpcoming: (userId: number, limit = 10): Promise<AxiosResponse<BaseResponse<Event[]>>> =>
+    api.get(`/events/user/${userId}/upcoming?limit=${limit}`),
+
   delete: (userId: number, eventId: number): Promise<AxiosResponse<BaseResponse<string>>> =>
-    api.delete(`/events/user/${userId}/event/${eventId}`)
+    api.delete(`/events/user/${userId}/event/${eventId}`),
+
+  updateOccurrence: (userId: number, eventId: number, occurrenceDateTime: string, eventData: EventFormData): Promise<AxiosResponse<BaseResponse<Event>>> =>
+    api.put(`/events/user/${userId}/event/${eventId}/occurrence?at=${encodeURIComponent(occurrenceDateTime)}`, eventData),
+
+  cancelOccurrence: (userId: number, eventId: number, occurrenceDateTime: string): Promise<AxiosResponse<BaseResponse<string>>> =>
+    api.delete(`/events/user/${userId}/event/${eventId}/occurrence?at=${encodeURIComponent(occurrenceDateTime)}`)
 };
 
 // Habit Progress API
@@ -242,6 +281,82 @@ export const habitProgressApi = {
     api.delete(`/habit-progress/user/${userId}/progress/${progressId}`)
 };
 
+// Export API
+export const exportApi = {
+  download: (userId: number, exportParams: ExportParams): Promise<AxiosResponse<Blob>> => {
+    const params = new URLSearchParams();
+
+    Object.entries(exportParams).forEach(([key, value]) => {
+      if (value === undefined || value === null || value === '') {
+        return;
+      }
+      params.append(key, Array.isArray(value) ? value.join(',') : value.toString());
+    });
+
+    return api.get(`/export/user/${userId}?${params.toString()}`, { responseType: 'blob' });
+  }
+};
+
+// Change feed (Server-Sent Events)
+type ChangeListener = {
+  types: ChangeEntityType[];
+  onChange: (change: ChangeNotification | null) => void;
+};
+
+// One EventSource per user is shared by every subscribed component in the tab
+const changeFeeds = new Map<number, { source: EventSource; listeners: Set<ChangeListener> }>();
+
+export const changeFeedApi = {
+  /**
+   * Listen for changes to the given entity types. The callback receives null
+   * when the server asks for a full refresh. Returns an unsubscribe function.
+   */
+  subscribe: (
+    userId: number,
+    types: ChangeEntityType[],
+    onChange: (change: ChangeNotification | null) => void
+  ): (() => void) => {
+    let feed = changeFeeds.get(userId);
+    if (!feed) {
+      const source = new EventSource(
+        `${API_BASE_URL}/stream/user/${userId}?access_token=${encodeURIComponent(sessionToken() ?? '')}`
+      );
+      const listeners = new Set<ChangeListener>();
+
+      source.addEventListener('change', (event) => {
+        const change: ChangeNotification = JSON.parse((event as MessageEvent).data);
+        listeners.forEach(listener => {
+          if (listener.types.includes(change.type)) {
+            listener.onChange(change);
+          }
+        });
+      });
+      source.addEventListener('resync', () => {
+        listeners.forEach(listener => listener.onChange(null));
+      });
+
+      feed = { source, listeners };
+      changeFeeds.set(userId, feed);
+    }
+
+    const listener: ChangeListener = { types, onChange };
+    feed.listeners.add(listener);
+
+    return () => {
+      const current = changeFeeds.get(userId);
+      if (!current) return;
+      current.listeners.delete(listener);
+      // Close on the next tick so a component re-subscribing after a re-render keeps the connection
+      setTimeout(() => {
+        if (current.listeners.size === 0 && changeFeeds.get(userId) === current) {
+          current.source.close();
+          changeFeeds.delete(userId);
+        }
+      }, 0);
+    };
+  }
+};
+
 // API Helpers
 export const apiHelpers = {
   handleApiError: (error: any): string => {
@@ -46,6 +46,9 @@ export interface User {
   isActive: boolean;
   createdAt: string;
   updatedAt: string;
+  // Present on the user returned by login and register
+  token?: string;
+  tokenExpiresAt?: string;
 }
 
 export interface Category {
@@ -137,8 +140,11 @@ export interface Event {
   recurringPattern?: RecurringPattern;
   recurringInterval?: number;
   recurringEndDate?: string;
+  recurrenceRule?: string;
   masterEventId?: number;
   masterEventTitle?: string;
+  // Scheduled time of this occurrence when the event belongs to a recurring series
+  occurrenceDateTime?: string;
   userId: number;
   userDisplayName?: string;
   categoryId?: number;
@@ -236,6 +242,8 @@ export interface EventFormData {
   recurringPattern?: RecurringPattern;
   recurringInterval?: number;
   recurringEndDate?: string;
+  // RFC 5545 RRULE such as FREQ=MONTHLY;BYDAY=-1FR; takes precedence over recurringPattern
+  recurrenceRule?: string;
   categoryId?: number;
 }
 
@@ -289,6 +297,36 @@ export interface EventFilters {
   sortDirection?: 'asc' | 'desc';
 }
 
+export type ExportFormat = 'csv' | 'json';
+
+export type ExportEntityType = 'task' | 'note' | 'habit' | 'event';
+
+export interface ExportParams {
+  format?: ExportFormat;
+  types?: ExportEntityType[];
+  status?: TaskStatus;
+  priority?: Priority;
+  categoryId?: number;
+  search?: string;
+  includeCompleted?: boolean;
+  includeSnoozed?: boolean;
+  includeSubtasks?: boolean;
+  from?: string;
+  to?: string;
+  gzip?: boolean;
+}
+
+export type ChangeEntityType = 'TASK' | 'NOTE' | 'HABIT' | 'HABIT_PROGRESS' | 'EVENT';
+
+export type ChangeOperation = 'CREATED' | 'UPDATED' | 'DELETED';
+
+export interface ChangeNotification {
+  type: ChangeEntityType;
+  id: number;
+  op: ChangeOperation;
+  version: number;
+}
+
 // Constants
 export const PRIORITY_COLORS = {
   [Priority.LOW]: 'text-blue-600 bg-blue-50',